@@ -0,0 +1,72 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per item cost of a burst of score updates applied one by one and as one batch.
+ * A burst updates some matches more than once, like a feed catching up after a delay.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class BatchUpdateBenchmark {
+    private static final int BURST_SIZE = 500;
+
+    @Param({"1000", "100000"})
+    int boardSize;
+
+    private Scoreboard scoreboard;
+    private List<ScoreUpdate> burst;
+
+    @Setup
+    public void setUp() {
+        scoreboard = new Scoreboard();
+        String[] homeTeams = TeamNames.generate("H", boardSize, 16);
+        String[] awayTeams = TeamNames.generate("A", boardSize, 16);
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+        }
+
+        burst = new ArrayList<>(BURST_SIZE);
+        int burstMatches = Math.min(boardSize, BURST_SIZE / 4);
+        for (int i = 0; i < BURST_SIZE; i++) {
+            int match = random.nextInt(burstMatches);
+            burst.add(new ScoreUpdate(homeTeams[match], awayTeams[match], random.nextInt(10), random.nextInt(10)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST_SIZE)
+    public void singleUpdates() {
+        for (ScoreUpdate update : burst) {
+            scoreboard.updateGame(update.getHomeTeam(), update.getAwayTeam(), update.getHomeScore(), update.getAwayScore());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST_SIZE)
+    public BatchResult<ScoreUpdate> batchUpdate() {
+        return scoreboard.updateGames(burst);
+    }
+}
@@ -0,0 +1,68 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of writing and reading a binary snapshot of a scoreboard with boardSize matches, in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class BinarySnapshotBenchmark {
+
+    @Param({"100000", "1000000"})
+    int boardSize;
+
+    private Scoreboard scoreboard;
+    private byte[] snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        scoreboard = new Scoreboard();
+        String[] homeTeams = TeamNames.generate("H", boardSize, 16);
+        String[] awayTeams = TeamNames.generate("A", boardSize, 16);
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+        }
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.updateGame(homeTeams[i], awayTeams[i], random.nextInt(10), random.nextInt(10));
+        }
+
+        snapshot = write();
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(boardSize * 40);
+        BinarySnapshot.write(scoreboard, Channels.newChannel(output));
+
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public Scoreboard read() throws IOException {
+        return BinarySnapshot.read(Channels.newChannel(new ByteArrayInputStream(snapshot)));
+    }
+}
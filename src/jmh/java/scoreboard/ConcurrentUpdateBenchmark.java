@@ -0,0 +1,101 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scaling of thread-safe scoreboards with the number of ingest threads.
+ * Every thread updates its own slice of matches, so ideally throughput grows linearly with threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class ConcurrentUpdateBenchmark {
+    private static final int MATCHES_PER_THREAD = 1024;
+    private static final int MAX_THREADS = 64;
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        @Param({"ConcurrentScoreboard", "SnapshotScoreboard", "ShardedScoreboard"})
+        String implementation;
+
+        LiveScoreboard scoreboard;
+        String[] homeTeams;
+        String[] awayTeams;
+        final AtomicInteger threads = new AtomicInteger();
+
+        @Setup
+        public void setUp() {
+            scoreboard = Scoreboards.create(implementation);
+            homeTeams = TeamNames.generate("H", MATCHES_PER_THREAD * MAX_THREADS, 16);
+            awayTeams = TeamNames.generate("A", MATCHES_PER_THREAD * MAX_THREADS, 16);
+
+            for (int i = 0; i < homeTeams.length; i++) {
+                scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Slice {
+        int first;
+        int cursor;
+        int score;
+
+        @Setup
+        public void setUp(Board board) {
+            first = board.threads.getAndIncrement() % MAX_THREADS * MATCHES_PER_THREAD;
+        }
+
+        int nextMatch() {
+            cursor = cursor + 1 & MATCHES_PER_THREAD - 1;
+            return first + cursor;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void updateGame1Thread(Board board, Slice slice) {
+        update(board, slice);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void updateGame2Threads(Board board, Slice slice) {
+        update(board, slice);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void updateGame4Threads(Board board, Slice slice) {
+        update(board, slice);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void updateGame8Threads(Board board, Slice slice) {
+        update(board, slice);
+    }
+
+    private static void update(Board board, Slice slice) {
+        int i = slice.nextMatch();
+        slice.score = slice.score + 1 & 0xFF;
+
+        board.scoreboard.updateGame(board.homeTeams[i], board.awayTeams[i], slice.score, 0);
+    }
+}
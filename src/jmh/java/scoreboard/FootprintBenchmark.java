@@ -0,0 +1,94 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap footprint and garbage of {@link Scoreboard} compared to {@link CompactScoreboard} on very large boards.
+ * Retained heap of the filled board is printed at the start of every trial,
+ * allocation and collections caused by score updates come from the gc profiler.
+ * Retained heap is the heap used right after a full collection of the serial collector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-XX:+UseSerialGC", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class FootprintBenchmark {
+
+    @Param({"Scoreboard", "CompactScoreboard"})
+    String implementation;
+
+    @Param({"100000", "1000000"})
+    int boardSize;
+
+    @Param({"16"})
+    int teamNameLength;
+
+    private LiveScoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int cursor;
+    private int score;
+
+    @Setup
+    public void setUp() {
+        homeTeams = TeamNames.generate("H", boardSize, teamNameLength);
+        awayTeams = TeamNames.generate("A", boardSize, teamNameLength);
+
+        Scoreboards.create(implementation).startNewGame(homeTeams[0], awayTeams[0]);
+
+        long before = usedHeap();
+        scoreboard = Scoreboards.create(implementation);
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+        }
+        long retained = usedHeap() - before;
+
+        System.out.printf("%n%s retains %d bytes, %d bytes per match%n", implementation, retained, retained / boardSize);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null) {
+                used += pool.getCollectionUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    @Benchmark
+    public void updateGame() {
+        int i = nextMatch();
+        score = score + 1 & 0xFF;
+
+        scoreboard.updateGame(homeTeams[i], awayTeams[i], score, i & 0x0F);
+    }
+
+    private int nextMatch() {
+        if (++cursor == boardSize) {
+            cursor = 0;
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,75 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of recovering a scoreboard from a journal of journalSize records:
+ * starts of liveMatches matches followed by score updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class JournalBenchmark {
+
+    @Param({"1000000", "5000000"})
+    int journalSize;
+
+    @Param({"100000"})
+    int liveMatches;
+
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = Files.createTempFile("scoreboard", ".journal");
+        String[] homeTeams = TeamNames.generate("H", liveMatches, 16);
+        String[] awayTeams = TeamNames.generate("A", liveMatches, 16);
+        SplittableRandom random = new SplittableRandom(42);
+        Scoreboard scoreboard = new Scoreboard();
+
+        try (ScoreboardJournal journal = ScoreboardJournal.open(path, 10_000, false)) {
+            scoreboard.addListener(journal);
+            for (int i = 0; i < liveMatches; i++) {
+                scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+            }
+            for (int i = liveMatches; i < journalSize; i++) {
+                int match = random.nextInt(liveMatches);
+                scoreboard.updateGame(homeTeams[match], awayTeams[match], random.nextInt(10), random.nextInt(10));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public Scoreboard recover() throws IOException {
+        Scoreboard scoreboard = new Scoreboard();
+        ScoreboardJournal.recover(path, scoreboard);
+
+        return scoreboard;
+    }
+}
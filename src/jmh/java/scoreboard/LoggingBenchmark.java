@@ -0,0 +1,93 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scoreboard.exceptions.MatchDoesntExistException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per operation cost of logging under different log4j2 profiles:
+ * verbose (every hot path message written synchronously, as before the messages were demoted to DEBUG/TRACE),
+ * default (log4j2.xml) and production (log4j2-production.xml, asynchronous and garbage-free).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LoggingBenchmark {
+    private static final int BOARD_SIZE = 1000;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int cursor;
+    private int score;
+
+    @Setup
+    public void setUp() {
+        scoreboard = new Scoreboard();
+        homeTeams = TeamNames.generate("H", BOARD_SIZE, 16);
+        awayTeams = TeamNames.generate("A", BOARD_SIZE, 16);
+
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-verbose.xml")
+    public void updateGameVerboseLogging() {
+        updateGame();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2.xml")
+    public void updateGameDefaultLogging() {
+        updateGame();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-production.xml")
+    public void updateGameProductionLogging() {
+        updateGame();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-verbose.xml")
+    public void rejectedUpdateGameVerboseLogging() {
+        rejectedUpdateGame();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-production.xml")
+    public void rejectedUpdateGameProductionLogging() {
+        rejectedUpdateGame();
+    }
+
+    private void updateGame() {
+        cursor = (cursor + 1) % BOARD_SIZE;
+        score = score + 1 & 0xFF;
+
+        scoreboard.updateGame(homeTeams[cursor], awayTeams[cursor], score, 0);
+    }
+
+    private void rejectedUpdateGame() {
+        cursor = (cursor + 1) % BOARD_SIZE;
+
+        try {
+            scoreboard.updateGame(homeTeams[cursor], awayTeams[(cursor + 1) % BOARD_SIZE], 1, 0);
+        } catch (MatchDoesntExistException ignored) {
+            // rejection is the measured path
+        }
+    }
+}
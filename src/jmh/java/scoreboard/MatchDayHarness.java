@@ -0,0 +1,154 @@
+package scoreboard;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replays a simulated match day, see {@link MatchDayWorkload}, against {@link LiveScoreboard} implementations.
+ * Every operation is timed on its own, so it reports latency percentiles of every operation type
+ * next to the throughput, unlike the microbenchmarks repeating a single operation.
+ * The generated workload is recorded with --record, and a recorded one is replayed with --replay instead,
+ * so every implementation and every run gets exactly the same operations.
+ * Operations are replayed by one thread, --readers adds threads polling the summary of the thread-safe
+ * implementations during the replay, other implementations are replayed without them.
+ * <p>
+ * Usage: gradle matchDay -PmatchDay.args="--scoreboards Scoreboard,SnapshotScoreboard --matches 1000 --rounds 5"
+ */
+public final class MatchDayHarness {
+    private static final String DEFAULT_SCOREBOARDS =
+            "Scoreboard,ConcurrentScoreboard,SnapshotScoreboard,CompactScoreboard,ShardedScoreboard";
+
+    private MatchDayHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        String[] scoreboards = options.getOrDefault("scoreboards", DEFAULT_SCOREBOARDS).split(",");
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "5"));
+        int readers = Integer.parseInt(options.getOrDefault("readers", "0"));
+
+        List<WorkloadOperation> operations;
+        if (options.containsKey("replay")) {
+            operations = WorkloadTrace.read(Path.of(options.get("replay")));
+            System.out.printf("replaying %s%n", options.get("replay"));
+        } else {
+            operations = new MatchDayWorkload()
+                    .seed(Long.parseLong(options.getOrDefault("seed", "42")))
+                    .matches(Integer.parseInt(options.getOrDefault("matches", "1000")))
+                    .goalsPerMatch(Double.parseDouble(options.getOrDefault("goals", "2.7")))
+                    .correctionPercent(Integer.parseInt(options.getOrDefault("corrections", "5")))
+                    .invalidPercent(Integer.parseInt(options.getOrDefault("invalid", "1")))
+                    .readsPerChange(Double.parseDouble(options.getOrDefault("reads", "10")))
+                    .generate();
+        }
+        if (options.containsKey("record")) {
+            WorkloadTrace.write(Path.of(options.get("record")), operations);
+            System.out.printf("recorded %s%n", options.get("record"));
+        }
+
+        System.out.printf("operations: %d, %s%n", operations.size(), countByType(operations));
+        for (String implementation : scoreboards) {
+            String name = implementation.trim();
+            int implementationReaders = Scoreboards.isThreadSafe(name) ? readers : 0;
+            for (int round = 1; round <= rounds; round++) {
+                report(name, round, replay(Scoreboards.create(name), operations, implementationReaders));
+            }
+        }
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static Map<WorkloadOperation.Type, Integer> countByType(List<WorkloadOperation> operations) {
+        Map<WorkloadOperation.Type, Integer> counts = new EnumMap<>(WorkloadOperation.Type.class);
+        for (WorkloadOperation operation : operations) {
+            counts.merge(operation.getType(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static Replay replay(LiveScoreboard scoreboard, List<WorkloadOperation> operations, int readers)
+            throws InterruptedException {
+        Replay replay = new Replay();
+        AtomicBoolean replaying = new AtomicBoolean(true);
+        LongAdder reads = new LongAdder();
+        List<Thread> readerThreads = new ArrayList<>(readers);
+        for (int i = 0; i < readers; i++) {
+            Thread reader = new Thread(() -> {
+                while (replaying.get()) {
+                    scoreboard.getSummary();
+                    reads.increment();
+                }
+            }, "match-day-reader-" + i);
+            reader.setDaemon(true);
+            reader.start();
+            readerThreads.add(reader);
+        }
+        long start = System.nanoTime();
+
+        for (WorkloadOperation operation : operations) {
+            long operationStart = System.nanoTime();
+            try {
+                operation.applyTo(scoreboard);
+            } catch (RuntimeException e) {
+                replay.rejections++;
+            }
+            replay.latencies.get(operation.getType()).record(System.nanoTime() - operationStart);
+        }
+
+        replay.nanos = System.nanoTime() - start;
+        replay.operations = operations.size();
+        replaying.set(false);
+        for (Thread reader : readerThreads) {
+            reader.join();
+        }
+        replay.readers = readers;
+        replay.reads = reads.sum();
+        return replay;
+    }
+
+    private static void report(String implementation, int round, Replay replay) {
+        System.out.printf("%s round %d: %.0f operations/s, rejections: %d%n", implementation, round,
+                replay.operations * 1e9 / replay.nanos, replay.rejections);
+        if (replay.readers > 0) {
+            System.out.printf("  %d readers: %.0f summaries/s%n", replay.readers, replay.reads * 1e9 / replay.nanos);
+        }
+        for (Map.Entry<WorkloadOperation.Type, LatencyHistogram> entry : replay.latencies.entrySet()) {
+            LatencySnapshot latency = entry.getValue().snapshot();
+            if (latency.getCount() > 0) {
+                System.out.printf("  %-7s latency us: p50 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n", entry.getKey(),
+                        latency.getP50(), latency.getP99(), latency.getP999(), latency.getMax());
+            }
+        }
+    }
+
+    private static final class Replay {
+        private final Map<WorkloadOperation.Type, LatencyHistogram> latencies =
+                new EnumMap<>(WorkloadOperation.Type.class);
+        private long nanos;
+        private int operations;
+        private long rejections;
+        private int readers;
+        private long reads;
+
+        private Replay() {
+            for (WorkloadOperation.Type type : WorkloadOperation.Type.values()) {
+                latencies.put(type, new LatencyHistogram());
+            }
+        }
+    }
+}
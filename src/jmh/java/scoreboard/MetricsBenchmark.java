@@ -0,0 +1,71 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of {@link MeteredScoreboard} over the plain {@link Scoreboard} it wraps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class MetricsBenchmark {
+
+    @Param({"false", "true"})
+    boolean metered;
+
+    @Param({"1000", "100000"})
+    int boardSize;
+
+    private LiveScoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int cursor;
+    private int score;
+
+    @Setup
+    public void setUp() {
+        scoreboard = metered ? new MeteredScoreboard(new Scoreboard(), new ScoreboardMetrics()) : new Scoreboard();
+        homeTeams = TeamNames.generate("H", boardSize, 16);
+        awayTeams = TeamNames.generate("A", boardSize, 16);
+
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+        }
+    }
+
+    @Benchmark
+    public void updateGame() {
+        int i = nextMatch();
+        score = score + 1 & 0xFF;
+
+        scoreboard.updateGame(homeTeams[i], awayTeams[i], score, i & 0x0F);
+    }
+
+    @Benchmark
+    public List<Match> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    private int nextMatch() {
+        if (++cursor == boardSize) {
+            cursor = 0;
+        }
+        return cursor;
+    }
+}
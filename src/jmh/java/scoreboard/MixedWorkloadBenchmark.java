@@ -0,0 +1,71 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mix of score updates and summary reads, readPercent of operations read the summary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class MixedWorkloadBenchmark {
+
+    @Param({"Scoreboard", "ConcurrentScoreboard", "SnapshotScoreboard", "CompactScoreboard",
+            "ShardedScoreboard"})
+    String implementation;
+
+    @Param({"1000", "100000"})
+    int boardSize;
+
+    @Param({"0", "1", "10", "50"})
+    int readPercent;
+
+    @Param({"16"})
+    int teamNameLength;
+
+    private LiveScoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        scoreboard = Scoreboards.create(implementation);
+        homeTeams = TeamNames.generate("H", boardSize, teamNameLength);
+        awayTeams = TeamNames.generate("A", boardSize, teamNameLength);
+        random = new SplittableRandom(42);
+
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+        }
+    }
+
+    @Benchmark
+    public List<Match> updateOrRead() {
+        if (random.nextInt(100) < readPercent) {
+            return scoreboard.getSummary();
+        }
+
+        int i = random.nextInt(boardSize);
+        scoreboard.updateGame(homeTeams[i], awayTeams[i], random.nextInt(10), random.nextInt(10));
+
+        return null;
+    }
+}
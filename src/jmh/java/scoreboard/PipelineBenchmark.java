@@ -0,0 +1,111 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Updates of many ingest threads applied by a {@link ScoreboardPipeline} compared with lock striped
+ * {@link ConcurrentScoreboard}. Pipeline producers don't wait for the futures, so the throughput is
+ * the rate the writer applies updates at, once the ring is full producers wait for it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class PipelineBenchmark {
+    private static final int MATCHES_PER_THREAD = 1024;
+    private static final int MAX_THREADS = 8;
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        @Param({"YIELD", "PARK"})
+        WaitStrategy waitStrategy;
+
+        ConcurrentScoreboard concurrent;
+        ScoreboardPipeline pipeline;
+        String[] homeTeams;
+        String[] awayTeams;
+        final AtomicInteger threads = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            homeTeams = TeamNames.generate("H", MATCHES_PER_THREAD * MAX_THREADS, 16);
+            awayTeams = TeamNames.generate("A", MATCHES_PER_THREAD * MAX_THREADS, 16);
+            concurrent = new ConcurrentScoreboard();
+            pipeline = ScoreboardPipeline.start(new Scoreboard(), 4096, waitStrategy);
+
+            for (int i = 0; i < homeTeams.length; i++) {
+                concurrent.startNewGame(homeTeams[i], awayTeams[i]);
+                pipeline.startNewGame(homeTeams[i], awayTeams[i]);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pipeline.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Slice {
+        int first;
+        int cursor;
+        int score;
+
+        @Setup
+        public void setUp(Board board) {
+            first = board.threads.getAndIncrement() % MAX_THREADS * MATCHES_PER_THREAD;
+        }
+
+        int nextMatch() {
+            cursor = cursor + 1 & MATCHES_PER_THREAD - 1;
+            score = score + 1 & 0xFF;
+            return first + cursor;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void concurrentScoreboard1Thread(Board board, Slice slice) {
+        int i = slice.nextMatch();
+        board.concurrent.updateGame(board.homeTeams[i], board.awayTeams[i], slice.score, 0);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void concurrentScoreboard4Threads(Board board, Slice slice) {
+        int i = slice.nextMatch();
+        board.concurrent.updateGame(board.homeTeams[i], board.awayTeams[i], slice.score, 0);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public CompletableFuture<OperationStatus> pipeline1Thread(Board board, Slice slice) {
+        int i = slice.nextMatch();
+        return board.pipeline.updateGame(board.homeTeams[i], board.awayTeams[i], slice.score, 0);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CompletableFuture<OperationStatus> pipeline4Threads(Board board, Slice slice) {
+        int i = slice.nextMatch();
+        return board.pipeline.updateGame(board.homeTeams[i], board.awayTeams[i], slice.score, 0);
+    }
+}
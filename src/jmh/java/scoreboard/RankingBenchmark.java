@@ -0,0 +1,140 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordering matches by the field by field {@link MatchComparator} compared with their packed sort keys,
+ * for sorting a whole summary and for moving an updated match in the ranking of a {@link Scoreboard},
+ * plus the update cost of every {@link RankingPolicy}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class RankingBenchmark {
+    private static final int MATCHES = 100_000;
+    private static final Comparator<Match> MATCH_COMPARATOR = new MatchComparator();
+
+    @State(Scope.Benchmark)
+    public static class Matches {
+        Match[] matches;
+        Match[] sortKeyMatches;
+        RankedMatchIndex comparatorIndex;
+        RankedMatchIndex sortKeyIndex;
+        int cursor;
+        int score;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            matches = new Match[MATCHES];
+            sortKeyMatches = new Match[MATCHES];
+            comparatorIndex = new RankedMatchIndex(MATCH_COMPARATOR);
+            sortKeyIndex = new RankedMatchIndex();
+
+            for (int i = 0; i < MATCHES; i++) {
+                matches[i] = new Match("HOME" + i, "AWAY" + i, random.nextInt(6), random.nextInt(6));
+                sortKeyMatches[i] = matches[i].withScore(matches[i].getHomeTeamScore(), matches[i].getAwayTeamScore());
+                comparatorIndex.add(matches[i]);
+                sortKeyIndex.add(sortKeyMatches[i]);
+            }
+        }
+
+        int nextMatch() {
+            cursor = cursor + 1 == MATCHES ? 0 : cursor + 1;
+            score = score + 1 & 0x0F;
+            return cursor;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        @Param({"TOTAL_SCORE", "GOAL_DIFFERENCE", "MOST_RECENT_GOAL"})
+        RankingPolicy policy;
+
+        Scoreboard scoreboard;
+        int[] homeTeamIds;
+        int[] awayTeamIds;
+        int cursor;
+        int score;
+
+        @Setup
+        public void setUp() {
+            scoreboard = new Scoreboard(policy);
+            String[] homeTeams = TeamNames.generate("H", MATCHES, 16);
+            String[] awayTeams = TeamNames.generate("A", MATCHES, 16);
+            homeTeamIds = new int[MATCHES];
+            awayTeamIds = new int[MATCHES];
+
+            for (int i = 0; i < MATCHES; i++) {
+                scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+                homeTeamIds[i] = scoreboard.getTeamRegistry().findId(homeTeams[i]);
+                awayTeamIds[i] = scoreboard.getTeamRegistry().findId(awayTeams[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 20)
+    @Warmup(iterations = 10)
+    public Match[] sortByMatchComparator(Matches state) {
+        Match[] copy = state.matches.clone();
+        Arrays.sort(copy, MATCH_COMPARATOR);
+        return copy;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 20)
+    @Warmup(iterations = 10)
+    public Match[] sortBySortKey(Matches state) {
+        Match[] copy = state.matches.clone();
+        Arrays.sort(copy, RankingPolicy.BY_SORT_KEY);
+        return copy;
+    }
+
+    @Benchmark
+    public void rerankByMatchComparator(Matches state) {
+        Match match = state.matches[state.nextMatch()];
+
+        state.comparatorIndex.remove(match);
+        match.updateScore(state.score, 1);
+        state.comparatorIndex.add(match);
+    }
+
+    @Benchmark
+    public void rerankBySortKey(Matches state) {
+        Match match = state.sortKeyMatches[state.nextMatch()];
+
+        state.sortKeyIndex.remove(match);
+        match.updateScore(state.score, 1);
+        state.sortKeyIndex.add(match);
+    }
+
+    @Benchmark
+    public void updateGameById(Board board) {
+        int i = board.cursor = board.cursor + 1 == MATCHES ? 0 : board.cursor + 1;
+        board.score = board.score + 1 & 0xFF;
+
+        board.scoreboard.updateGame(board.homeTeamIds[i], board.awayTeamIds[i], board.score, i & 0x0F);
+    }
+}
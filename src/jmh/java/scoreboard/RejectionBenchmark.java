@@ -0,0 +1,70 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a rejected update of a missing match, thrown as an exception and returned as a status.
+ * Rejections are logged as in production, asynchronously at ERROR by the throwing API only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dlog4j2.configurationFile=log4j2-production.xml"})
+public class RejectionBenchmark {
+    private static final int BOARD_SIZE = 1000;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        scoreboard = new Scoreboard();
+        homeTeams = TeamNames.generate("H", BOARD_SIZE, 16);
+        awayTeams = TeamNames.generate("A", BOARD_SIZE, 16);
+
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+        }
+    }
+
+    @Benchmark
+    public Object updateGame() {
+        int i = nextMatch();
+
+        try {
+            scoreboard.updateGame(awayTeams[i], homeTeams[i], 1, 0);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public OperationStatus tryUpdateGame() {
+        int i = nextMatch();
+
+        return scoreboard.tryUpdateGame(awayTeams[i], homeTeams[i], 1, 0);
+    }
+
+    private int nextMatch() {
+        if (++cursor == BOARD_SIZE) {
+            cursor = 0;
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,55 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read of the JSON summary between changes: rendered on every read and taken from the rendered cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class RenderBenchmark {
+
+    @Param({"1000"})
+    int boardSize;
+
+    private Scoreboard scoreboard;
+
+    @Setup
+    public void setUp() {
+        scoreboard = new Scoreboard(boardSize);
+        String[] homeTeams = TeamNames.generate("H", boardSize, 16);
+        String[] awayTeams = TeamNames.generate("A", boardSize, 16);
+
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+            scoreboard.updateGame(homeTeams[i], awayTeams[i], i % 7, i % 5);
+        }
+    }
+
+    @Benchmark
+    public byte[] renderSummary() {
+        return SummaryFormat.JSON.render(scoreboard.getVersion(), scoreboard.getSummary());
+    }
+
+    @Benchmark
+    public ByteBuffer getRenderedSummary() {
+        return scoreboard.getRenderedSummary(SummaryFormat.JSON);
+    }
+}
@@ -0,0 +1,103 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single threaded cost of every {@link Scoreboard} operation on boards of different sizes.
+ * Throughput and sampled latency percentiles are reported, allocation rate comes from the gc profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class ScoreboardBenchmark {
+    private static final int TOP_MATCHES = 10;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int boardSize;
+
+    @Param({"8", "32"})
+    int teamNameLength;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int[] homeTeamIds;
+    private int[] awayTeamIds;
+    private String spareHomeTeam;
+    private String spareAwayTeam;
+    private int cursor;
+    private int score;
+
+    @Setup
+    public void setUp() {
+        scoreboard = new Scoreboard();
+        homeTeams = TeamNames.generate("H", boardSize, teamNameLength);
+        awayTeams = TeamNames.generate("A", boardSize, teamNameLength);
+        spareHomeTeam = TeamNames.generate("SH", 1, teamNameLength)[0];
+        spareAwayTeam = TeamNames.generate("SA", 1, teamNameLength)[0];
+
+        homeTeamIds = new int[boardSize];
+        awayTeamIds = new int[boardSize];
+
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+            homeTeamIds[i] = scoreboard.getTeamRegistry().findId(homeTeams[i]);
+            awayTeamIds[i] = scoreboard.getTeamRegistry().findId(awayTeams[i]);
+        }
+    }
+
+    @Benchmark
+    public void updateGame() {
+        int i = nextMatch();
+        score = score + 1 & 0xFF;
+
+        scoreboard.updateGame(homeTeams[i], awayTeams[i], score, i & 0x0F);
+    }
+
+    @Benchmark
+    public void updateGameById() {
+        int i = nextMatch();
+        score = score + 1 & 0xFF;
+
+        scoreboard.updateGame(homeTeamIds[i], awayTeamIds[i], score, i & 0x0F);
+    }
+
+    @Benchmark
+    public void startAndFinishGame() {
+        scoreboard.startNewGame(spareHomeTeam, spareAwayTeam);
+        scoreboard.finishGame(spareHomeTeam, spareAwayTeam);
+    }
+
+    @Benchmark
+    public List<Match> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    @Benchmark
+    public List<Match> getTopMatches() {
+        return scoreboard.getTopMatches(TOP_MATCHES);
+    }
+
+    private int nextMatch() {
+        if (++cursor == boardSize) {
+            cursor = 0;
+        }
+        return cursor;
+    }
+}
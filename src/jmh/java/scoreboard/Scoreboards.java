@@ -0,0 +1,43 @@
+package scoreboard;
+
+final class Scoreboards {
+
+    private Scoreboards() {
+    }
+
+    /**
+     * @param implementation simple class name of a {@link LiveScoreboard} implementation
+     * @return new empty scoreboard
+     */
+    static LiveScoreboard create(String implementation) {
+        switch (implementation) {
+            case "Scoreboard":
+                return new Scoreboard();
+            case "ConcurrentScoreboard":
+                return new ConcurrentScoreboard();
+            case "SnapshotScoreboard":
+                return new SnapshotScoreboard();
+            case "CompactScoreboard":
+                return new CompactScoreboard();
+            case "ShardedScoreboard":
+                return new ShardedScoreboard();
+            default:
+                throw new IllegalArgumentException("Unknown scoreboard implementation: " + implementation);
+        }
+    }
+
+    /**
+     * @param implementation simple class name of a {@link LiveScoreboard} implementation
+     * @return true if the implementation may be read by other threads while it changes
+     */
+    static boolean isThreadSafe(String implementation) {
+        switch (implementation) {
+            case "ConcurrentScoreboard":
+            case "SnapshotScoreboard":
+            case "ShardedScoreboard":
+                return true;
+            default:
+                return false;
+        }
+    }
+}
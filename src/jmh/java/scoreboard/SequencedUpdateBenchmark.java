@@ -0,0 +1,100 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequenced updates of {@link ConcurrentScoreboard} fed by redundant feeds: every feed thread sends the same
+ * updates of the same matches, so about half of them are dropped as duplicates or stale.
+ * Compared with plain updates of a single feed and with the cost of dropping an update alone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class SequencedUpdateBenchmark {
+    private static final int MATCHES = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        ConcurrentScoreboard scoreboard;
+        String[] homeTeams;
+        String[] awayTeams;
+
+        @Setup
+        public void setUp() {
+            scoreboard = new ConcurrentScoreboard();
+            homeTeams = TeamNames.generate("H", MATCHES, 16);
+            awayTeams = TeamNames.generate("A", MATCHES, 16);
+
+            for (int i = 0; i < MATCHES; i++) {
+                scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+            }
+        }
+    }
+
+    /**
+     * Feed sending every match its updates in order, every feed thread has its own copy of the sequences
+     */
+    @State(Scope.Thread)
+    public static class Feed {
+        final long[] sequences = new long[MATCHES];
+        int cursor;
+
+        int nextMatch() {
+            cursor = cursor + 1 & MATCHES - 1;
+            sequences[cursor]++;
+            return cursor;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public OperationStatus plainUpdateSingleFeed(Board board, Feed feed) {
+        int i = feed.nextMatch();
+        int score = (int) feed.sequences[i] & 0xFF;
+
+        return board.scoreboard.tryUpdateGame(board.homeTeams[i], board.awayTeams[i], score, 0);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public OperationStatus sequencedUpdateSingleFeed(Board board, Feed feed) {
+        int i = feed.nextMatch();
+        long sequence = feed.sequences[i];
+
+        return board.scoreboard.tryUpdateGame(board.homeTeams[i], board.awayTeams[i], (int) sequence & 0xFF, 0, sequence);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public OperationStatus sequencedUpdateTwoFeeds(Board board, Feed feed) {
+        int i = feed.nextMatch();
+        long sequence = feed.sequences[i];
+
+        return board.scoreboard.tryUpdateGame(board.homeTeams[i], board.awayTeams[i], (int) sequence & 0xFF, 0, sequence);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public OperationStatus staleUpdate(Board board, Feed feed) {
+        int i = feed.nextMatch();
+        if (feed.sequences[i] == 1) {
+            board.scoreboard.tryUpdateGame(board.homeTeams[i], board.awayTeams[i], 1, 0, Long.MAX_VALUE);
+        }
+
+        return board.scoreboard.tryUpdateGame(board.homeTeams[i], board.awayTeams[i], 0, 0, feed.sequences[i]);
+    }
+}
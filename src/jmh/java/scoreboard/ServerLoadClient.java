@@ -0,0 +1,240 @@
+package scoreboard;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Load test of {@link ScoreboardServer}. It keeps concurrency requests in flight for the duration,
+ * readPercent of them read the summary and the rest update scores, while pollers long-polling clients
+ * wait for changes at the same time. It reports sustained requests per second and latency percentiles.
+ * Without --url it starts its own server of a {@link SnapshotScoreboard}.
+ * <p>
+ * Usage: gradle loadTest -PloadTest.args="--concurrency 256 --duration 10 --pollers 1000"
+ */
+public final class ServerLoadClient {
+    private static final long POLL_TIMEOUT_MILLIS = 30_000;
+
+    private final HttpClient client;
+    private final HttpClient pollClient;
+    private final String url;
+    private final int matches;
+    private final int readPercent;
+    private final Latencies latencies = new Latencies();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicReference<String> firstError = new AtomicReference<>();
+    private final AtomicLong pollResponses = new AtomicLong();
+    private volatile boolean recording;
+
+    private ServerLoadClient(HttpClient client, HttpClient pollClient, String url, int matches, int readPercent) {
+        this.client = client;
+        this.pollClient = pollClient;
+        this.url = url;
+        this.matches = matches;
+        this.readPercent = readPercent;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "256"));
+        int pollers = Integer.parseInt(options.getOrDefault("pollers", "1000"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "3"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "10"));
+        int matches = Integer.parseInt(options.getOrDefault("matches", "1000"));
+        int readPercent = Integer.parseInt(options.getOrDefault("readPercent", "10"));
+
+        ScoreboardServer server = null;
+        String url = options.get("url");
+        if (url == null) {
+            server = ScoreboardServer.start(new SnapshotScoreboard(), new InetSocketAddress("localhost", 0));
+            url = "http://localhost:" + server.getPort();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        ExecutorService pollExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            ServerLoadClient load = new ServerLoadClient(client(executor), client(pollExecutor), url, matches, readPercent);
+            load.startGames();
+            load.run(concurrency, pollers, warmupSeconds, durationSeconds);
+        } finally {
+            executor.shutdownNow();
+            pollExecutor.shutdownNow();
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    /**
+     * Requests and polls have separate clients, so responses to polls don't queue in front of responses to requests
+     */
+    private static HttpClient client(ExecutorService executor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private void startGames() throws IOException, InterruptedException {
+        for (int i = 0; i < matches; i++) {
+            HttpResponse<Void> response = client.send(request("POST", gamePath(i)), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 201 && response.statusCode() != 409) {
+                throw new IllegalStateException("Game could not be started, status: " + response.statusCode());
+            }
+        }
+    }
+
+    private void run(int concurrency, int pollers, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        CountDownLatch finished = new CountDownLatch(concurrency + pollers);
+
+        for (int i = 0; i < pollers; i++) {
+            poll(0, deadline, finished);
+        }
+        for (int i = 0; i < concurrency; i++) {
+            next(new SplittableRandom(i), deadline, finished);
+        }
+
+        TimeUnit.NANOSECONDS.sleep(measureFrom - System.nanoTime());
+        recording = true;
+        TimeUnit.NANOSECONDS.sleep(deadline - System.nanoTime());
+        recording = false;
+        long measured = latencies.count();
+        long polled = pollResponses.get();
+
+        finished.await(POLL_TIMEOUT_MILLIS * 2, TimeUnit.MILLISECONDS);
+        report(concurrency, pollers, durationSeconds, measured, polled);
+    }
+
+    private void next(SplittableRandom random, long deadline, CountDownLatch finished) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+
+        HttpRequest request;
+        if (random.nextInt(100) < readPercent) {
+            request = request("GET", "/summary");
+        } else {
+            int match = random.nextInt(matches);
+            request = request("PUT", gamePath(match) + "&homeScore=" + random.nextInt(10) + "&awayScore=" + random.nextInt(10));
+        }
+
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            if (recording) {
+                latencies.record(System.nanoTime() - sent);
+            }
+            if (failure != null || response.statusCode() >= 400) {
+                error(failure, response);
+            }
+            next(random, deadline, finished);
+        });
+    }
+
+    private void poll(long since, long deadline, CountDownLatch finished) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+
+        HttpRequest request = request("GET", "/summary?since=" + since + "&timeoutMillis=" + POLL_TIMEOUT_MILLIS);
+        pollClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            long version = since;
+            if (failure != null || response.statusCode() != 200) {
+                error(failure, response);
+            } else {
+                if (recording) {
+                    pollResponses.incrementAndGet();
+                }
+                version = response.headers().firstValueAsLong(ScoreboardServer.VERSION_HEADER).orElse(since);
+            }
+            poll(version, deadline, finished);
+        });
+    }
+
+    private void error(Throwable failure, HttpResponse<?> response) {
+        errors.incrementAndGet();
+        firstError.compareAndSet(null, failure != null ? failure.toString() : "status " + response.statusCode());
+    }
+
+    private void report(int concurrency, int pollers, int durationSeconds, long requests, long polled) {
+        long[] sorted = latencies.sorted();
+
+        System.out.printf("concurrency: %d, pollers: %d, readPercent: %d, matches: %d%n", concurrency, pollers, readPercent, matches);
+        System.out.printf("requests: %d, %.0f requests/s, errors: %d, poll responses: %.0f/s%n",
+                requests, (double) requests / durationSeconds, errors.get(), (double) polled / durationSeconds);
+        System.out.printf("latency us: p50 %d, p90 %d, p99 %d, p99.9 %d, p99.99 %d, max %d%n",
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                percentile(sorted, 99.9), percentile(sorted, 99.99), percentile(sorted, 100));
+        if (firstError.get() != null) {
+            System.out.printf("first error: %s%n", firstError.get());
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(0, index)]);
+    }
+
+    private HttpRequest request(String method, String path) {
+        return HttpRequest.newBuilder(URI.create(url + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private static String gamePath(int match) {
+        return "/games?homeTeam=HOME" + match + "&awayTeam=AWAY" + match;
+    }
+
+    private static final class Latencies {
+        private long[] values = new long[1 << 16];
+        private int count;
+
+        private synchronized void record(long nanos) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = nanos;
+        }
+
+        private synchronized long count() {
+            return count;
+        }
+
+        private synchronized long[] sorted() {
+            long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * First page of the summary of a large {@link Scoreboard}: whole summary, paginated summary and lazy stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class SummaryPageBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"500000"})
+    int boardSize;
+
+    private Scoreboard scoreboard;
+
+    @Setup
+    public void setUp() {
+        scoreboard = new Scoreboard(boardSize);
+        String[] homeTeams = TeamNames.generate("H", boardSize, 16);
+        String[] awayTeams = TeamNames.generate("A", boardSize, 16);
+
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.startNewGame(homeTeams[i], awayTeams[i]);
+            scoreboard.updateGame(homeTeams[i], awayTeams[i], i % 7, i % 5);
+        }
+    }
+
+    @Benchmark
+    public List<Match> firstPageOfSummary() {
+        return scoreboard.getSummary().subList(0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Match> getSummaryPage() {
+        return scoreboard.getSummary(0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Match> getSummaryPageInTheMiddle() {
+        return scoreboard.getSummary(boardSize / 2, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Match> streamSummary() {
+        return scoreboard.streamSummary().limit(PAGE_SIZE).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,79 @@
+package scoreboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a batch operation: number of applied items and failures of rejected ones
+ *
+ * @param <T> type of batch items
+ */
+public final class BatchResult<T> {
+    private final List<Failure<T>> failures = new ArrayList<>();
+    private int appliedCount;
+
+    BatchResult() {
+    }
+
+    void applied() {
+        appliedCount++;
+    }
+
+    void failed(int index, T item, RuntimeException cause) {
+        failures.add(new Failure<>(index, item, cause));
+    }
+
+    public int getAppliedCount() {
+        return appliedCount;
+    }
+
+    /**
+     * @return failures in order of the batch items
+     */
+    public List<Failure<T>> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return true if every item of the batch was applied
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Rejected item of a batch
+     *
+     * @param <T> type of batch items
+     */
+    public static final class Failure<T> {
+        private final int index;
+        private final T item;
+        private final RuntimeException cause;
+
+        private Failure(int index, T item, RuntimeException cause) {
+            this.index = index;
+            this.item = item;
+            this.cause = cause;
+        }
+
+        /**
+         * @return position of the item in the batch, starting from 0
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * @return exception the single item operation would throw
+         */
+        public RuntimeException getCause() {
+            return cause;
+        }
+    }
+}
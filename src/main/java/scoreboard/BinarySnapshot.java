@@ -0,0 +1,310 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static scoreboard.TeamValidator.validateTeamName;
+
+/**
+ * Versioned binary dump of {@link Scoreboard} state.
+ * <p>
+ * Layout: magic (int), format version (byte), team count (varint),
+ * team names (varint length + UTF-8) forming a dictionary, match count (varint),
+ * then matches in start order: home team id, away team id, home score, away score (varints),
+ * last applied update sequence (varlong, 0 if the match had no sequenced update).
+ * Team ids are positions in the dictionary.
+ * Snapshots of version 1, without update sequences, are still read.
+ */
+public final class BinarySnapshot {
+    private static final Logger log = LogManager.getLogger("BinarySnapshot");
+    private static final int MAGIC = 0x53434244;
+    private static final byte VERSION = 2;
+    private static final byte VERSION_WITHOUT_SEQUENCES = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VARINT_SIZE = 5;
+    private static final int MAX_VARLONG_SIZE = 10;
+
+    private BinarySnapshot() {
+    }
+
+    /**
+     * Writes all matches of the scoreboard to the channel
+     *
+     * @param scoreboard
+     * @param channel
+     * @throws IOException
+     */
+    public static void write(Scoreboard scoreboard, WritableByteChannel channel) throws IOException {
+        List<Match> startOrder = scoreboard.getMatchesInStartOrder();
+        log.info("Write snapshot of {} matches", startOrder.size());
+
+        Writer writer = new Writer(channel);
+        writer.ensure(Integer.BYTES + 1);
+        writer.buffer.putInt(MAGIC).put(VERSION);
+
+        // every team plays in exactly one live match, so the dictionary is simply home and away team of each match
+        writer.putVarint(2 * startOrder.size());
+        for (Match match : startOrder) {
+            writer.putName(match.getHomeTeam());
+            writer.putName(match.getAwayTeam());
+        }
+
+        writer.putVarint(startOrder.size());
+        for (int i = 0; i < startOrder.size(); i++) {
+            Match match = startOrder.get(i);
+            writer.putVarint(2 * i);
+            writer.putVarint(2 * i + 1);
+            writer.putVarint(match.getHomeTeamScore());
+            writer.putVarint(match.getAwayTeamScore());
+            writer.putVarlong(match.getUpdateSequence());
+        }
+        writer.flush();
+    }
+
+    /**
+     * Reads matches from the channel into a new scoreboard, keeping their start order
+     * It throws an IOException if the data is not a snapshot, has unsupported version or is corrupted
+     *
+     * @param channel
+     * @return scoreboard with the loaded matches
+     * @throws IOException
+     */
+    public static Scoreboard read(ReadableByteChannel channel) throws IOException {
+        Reader reader = new Reader(channel);
+
+        reader.need(Integer.BYTES + 1);
+        if (reader.buffer.getInt() != MAGIC) {
+            throw new IOException("Not a scoreboard snapshot");
+        }
+        byte version = reader.buffer.get();
+        if (version != VERSION && version != VERSION_WITHOUT_SEQUENCES) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+
+        int teamCount = reader.getVarint();
+        String[] teams = new String[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            teams[i] = reader.getName();
+        }
+
+        int matchCount = reader.getVarint();
+        Scoreboard scoreboard = new Scoreboard(matchCount);
+        TeamRegistry registry = scoreboard.getTeamRegistry();
+        int[] ids = new int[teamCount];
+        try {
+            for (int i = 0; i < teamCount; i++) {
+                ids[i] = registry.register(teams[i]);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupted snapshot", e);
+        }
+
+        List<Match> startOrder = new ArrayList<>(matchCount);
+        long startTime = System.nanoTime();
+        long startSequence = Match.reserveStartSequences(matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            int homeTeamId = teamId(ids, reader.getVarint());
+            int awayTeamId = teamId(ids, reader.getVarint());
+            Match match = new Match(registry.getName(homeTeamId), registry.getName(awayTeamId),
+                    homeTeamId, awayTeamId, reader.getVarint(), reader.getVarint(), startTime, startSequence + i);
+            if (version == VERSION) {
+                match.setUpdateSequence(reader.getVarlong());
+            }
+            startOrder.add(match);
+        }
+
+        try {
+            scoreboard.load(startOrder);
+        } catch (IllegalStateException e) {
+            throw new IOException("Corrupted snapshot", e);
+        }
+
+        log.info("Read snapshot of {} matches", matchCount);
+        return scoreboard;
+    }
+
+    private static int teamId(int[] ids, int id) throws IOException {
+        if (id >= ids.length) {
+            throw new IOException("Corrupted snapshot, unknown team id: " + id);
+        }
+        return ids[id];
+    }
+
+    private static final class Writer {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        private Writer(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void putVarint(int value) throws IOException {
+            ensure(MAX_VARINT_SIZE);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) (value & 0x7F | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        private void putVarlong(long value) throws IOException {
+            ensure(MAX_VARLONG_SIZE);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) (value & 0x7F | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        private void putName(String name) throws IOException {
+            if (isAscii(name)) {
+                putVarint(name.length());
+                if (name.length() > BUFFER_SIZE) {
+                    putLarge(name.getBytes(StandardCharsets.US_ASCII));
+                    return;
+                }
+                ensure(name.length());
+                for (int i = 0; i < name.length(); i++) {
+                    buffer.put((byte) name.charAt(i));
+                }
+                return;
+            }
+
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            putVarint(bytes.length);
+            putLarge(bytes);
+        }
+
+        private void putLarge(byte[] bytes) throws IOException {
+            if (bytes.length > BUFFER_SIZE) {
+                flush();
+                ByteBuffer large = ByteBuffer.wrap(bytes);
+                while (large.hasRemaining()) {
+                    channel.write(large);
+                }
+                return;
+            }
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        private static boolean isAscii(String name) {
+            for (int i = 0; i < name.length(); i++) {
+                if (name.charAt(i) >= 0x80) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Reader {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        private Reader(ReadableByteChannel channel) {
+            this.channel = channel;
+            buffer.flip();
+        }
+
+        private void need(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Snapshot is truncated");
+                }
+            }
+            buffer.flip();
+        }
+
+        private int getVarint() throws IOException {
+            int value = 0;
+
+            for (int shift = 0; shift < 7 * MAX_VARINT_SIZE; shift += 7) {
+                need(1);
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    if (value < 0) {
+                        throw new IOException("Corrupted snapshot, negative value");
+                    }
+                    return value;
+                }
+            }
+
+            throw new IOException("Corrupted snapshot, varint is too long");
+        }
+
+        private long getVarlong() throws IOException {
+            long value = 0;
+
+            for (int shift = 0; shift < 7 * MAX_VARLONG_SIZE; shift += 7) {
+                need(1);
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    if (value < 0) {
+                        throw new IOException("Corrupted snapshot, negative value");
+                    }
+                    return value;
+                }
+            }
+
+            throw new IOException("Corrupted snapshot, varlong is too long");
+        }
+
+        private String getName() throws IOException {
+            int length = getVarint();
+            String name;
+
+            if (length > BUFFER_SIZE) {
+                ByteBuffer large = ByteBuffer.allocate(length);
+                large.put(buffer);
+                while (large.hasRemaining()) {
+                    if (channel.read(large) < 0) {
+                        throw new EOFException("Snapshot is truncated");
+                    }
+                }
+                name = new String(large.array(), StandardCharsets.UTF_8);
+            } else {
+                need(length);
+                name = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            }
+
+            try {
+                validateTeamName(name);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupted snapshot, empty team name", e);
+            }
+            return name;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.NotUniquePairException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static scoreboard.TeamValidator.checkTeamsNames;
+import static scoreboard.TeamValidator.validateTeamName;
+import static scoreboard.TeamValidator.validateTeamsNames;
+
+/**
+ * Scoreboard of matches in progress for very large boards.
+ * Matches are kept in primitive arrays of a {@link MatchStore} instead of one object per match,
+ * teams are referenced by their ids in the {@link TeamRegistry}.
+ * {@link Match} objects are created only when asked for, they are detached copies of the stored matches.
+ * Summary is sorted when asked for, so it suits boards which change much more often than they are read.
+ * Note: It is not thread-safe.
+ */
+public class CompactScoreboard implements LiveScoreboard {
+    private static final Logger log = LogManager.getLogger("CompactScoreboard");
+
+    private final TeamRegistry registry;
+    private final MatchStore store;
+    private int[] teamSlots;
+
+    public CompactScoreboard() {
+        this(0);
+    }
+
+    /**
+     * @param expectedMatches number of matches the Scoreboard is sized for up front
+     */
+    public CompactScoreboard(int expectedMatches) {
+        if (expectedMatches < 0) {
+            log.error("Expected number of matches cannot be a negative number! Current value: {}", expectedMatches);
+            throw new IllegalArgumentException();
+        }
+
+        registry = new TeamRegistry();
+        store = new MatchStore(expectedMatches);
+        teamSlots = new int[Math.max(16, 2 * expectedMatches)];
+        Arrays.fill(teamSlots, MatchStore.NO_SLOT);
+    }
+
+    /**
+     * Teams of the Scoreboard, their ids can be used with the id based overloads of the API
+     *
+     * @return registry of teams which have ever started a game on the Scoreboard
+     */
+    public TeamRegistry getTeamRegistry() {
+        return registry;
+    }
+
+    @Override
+    public void startNewGame(String homeTeam, String awayTeam) {
+        log.debug("Starting new game for homeTeam: {} and awayTeam: {}", homeTeam, awayTeam);
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        validateExistingGames(registry.findId(homeTeam), registry.findId(awayTeam));
+
+        addGame(registry.register(homeTeam), registry.register(awayTeam));
+    }
+
+    /**
+     * Adds new game with score 0-0, teams are given by their ids in the {@link TeamRegistry} of the Scoreboard
+     * It throws an IllegalArgumentExceptions if either homeTeamId or awayTeamId is not registered
+     * It throws a NotUniquePairException if teams ids are the same
+     * It throws a MatchAlreadyStartedException if match for homeTeam and AwayTeam already exists
+     * It throws a TeamAlreadyInMatchException if homeTeam or awayTeam has already different match in progress
+     *
+     * @param homeTeamId
+     * @param awayTeamId
+     */
+    public void startNewGame(int homeTeamId, int awayTeamId) {
+        if (log.isDebugEnabled()) {
+            log.debug("Starting new game for homeTeam id: {} and awayTeam id: {}", homeTeamId, awayTeamId);
+        }
+
+        validateTeamsIds(homeTeamId, awayTeamId);
+
+        addGame(homeTeamId, awayTeamId);
+    }
+
+    private void addGame(int homeTeamId, int awayTeamId) {
+        validateExistingGames(homeTeamId, awayTeamId);
+        insertGame(homeTeamId, awayTeamId);
+    }
+
+    /**
+     * Adds new game like {@link #startNewGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryStartNewGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            status = checkExistingGames(registry.findId(homeTeam), registry.findId(awayTeam));
+        }
+        if (status.isApplied()) {
+            insertGame(registry.register(homeTeam), registry.register(awayTeam));
+        } else {
+            log.debug("Game for {} and {} rejected: {}", homeTeam, awayTeam, status);
+        }
+
+        return status;
+    }
+
+    private OperationStatus checkExistingGames(int homeTeamId, int awayTeamId) {
+        if (findSlot(homeTeamId, awayTeamId) != MatchStore.NO_SLOT) {
+            return OperationStatus.MATCH_ALREADY_STARTED;
+        }
+        if (getTeamSlot(homeTeamId) != MatchStore.NO_SLOT || getTeamSlot(awayTeamId) != MatchStore.NO_SLOT) {
+            return OperationStatus.TEAM_ALREADY_IN_MATCH;
+        }
+        return OperationStatus.APPLIED;
+    }
+
+    private void insertGame(int homeTeamId, int awayTeamId) {
+        if (teamSlots.length < registry.size()) {
+            int length = teamSlots.length;
+            teamSlots = Arrays.copyOf(teamSlots, Math.max(registry.size(), 2 * length));
+            Arrays.fill(teamSlots, length, teamSlots.length, MatchStore.NO_SLOT);
+        }
+
+        int slot = store.add(homeTeamId, awayTeamId);
+        teamSlots[homeTeamId] = slot;
+        teamSlots[awayTeamId] = slot;
+
+        log.trace("Game added successfully into slot {}", slot);
+    }
+
+    private void validateTeamsIds(int homeTeamId, int awayTeamId) {
+        registry.validateId(homeTeamId);
+        registry.validateId(awayTeamId);
+
+        if (homeTeamId == awayTeamId) {
+            log.error("HomeTeam cannot be the same as awayTeam!");
+            throw new NotUniquePairException();
+        }
+    }
+
+    private void validateExistingGames(int homeTeamId, int awayTeamId) {
+        if (findSlot(homeTeamId, awayTeamId) != MatchStore.NO_SLOT) {
+            log.error("Teams {} and {} have already started a match!", registry.getName(homeTeamId), registry.getName(awayTeamId));
+            throw new MatchAlreadyStartedException();
+        }
+        checkIfTeamHasAlreadyStartedDifferentGame(homeTeamId);
+        checkIfTeamHasAlreadyStartedDifferentGame(awayTeamId);
+    }
+
+    private void checkIfTeamHasAlreadyStartedDifferentGame(int teamId) {
+        if (getTeamSlot(teamId) != MatchStore.NO_SLOT) {
+            log.error("Team {} has already started a match!", registry.getName(teamId));
+            throw new TeamAlreadyInMatchException();
+        }
+    }
+
+    /**
+     * @param teamId id of the team or -1 if the team is not registered
+     * @return slot of the match of the team or -1 if the team doesn't play at the moment
+     */
+    private int getTeamSlot(int teamId) {
+        return teamId >= 0 && teamId < teamSlots.length ? teamSlots[teamId] : MatchStore.NO_SLOT;
+    }
+
+    @Override
+    public void updateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (log.isDebugEnabled()) {
+            log.debug("Update score of a match {} {} - {} {}", homeTeam, homeScore, awayTeam, awayScore);
+        }
+
+        validateTeamsNames(homeTeam, awayTeam);
+        Match.validateScores(homeScore, awayScore);
+
+        store.setScore(getExistingSlot(registry.findId(homeTeam), registry.findId(awayTeam)), homeScore, awayScore);
+    }
+
+    /**
+     * Updates existing game score, teams are given by their ids in the {@link TeamRegistry} of the Scoreboard
+     * It throws an IllegalArgumentExceptions if either homeTeamId or awayTeamId is not registered
+     * It throws a NotUniquePairException if teams ids are the same
+     * It throws a MatchDoesntExistException if match between homeTeam and awayTeam doesn't exist
+     * It throws an IllegalArgumentException if either homeScore or awayScore is lower than 0
+     *
+     * @param homeTeamId
+     * @param awayTeamId
+     * @param homeScore
+     * @param awayScore
+     */
+    public void updateGame(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        if (log.isDebugEnabled()) {
+            log.debug("Update score of a match with ids {} {} - {} {}", homeTeamId, homeScore, awayTeamId, awayScore);
+        }
+
+        validateTeamsIds(homeTeamId, awayTeamId);
+        Match.validateScores(homeScore, awayScore);
+
+        store.setScore(getExistingSlot(homeTeamId, awayTeamId), homeScore, awayScore);
+    }
+
+    /**
+     * Updates existing game score like {@link #updateGame(String, String, int, int)},
+     * without exceptions and error logs for rejected updates
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+        int slot = MatchStore.NO_SLOT;
+
+        if (status.isApplied()) {
+            slot = findSlot(registry.findId(homeTeam), registry.findId(awayTeam));
+            if (slot == MatchStore.NO_SLOT) {
+                status = OperationStatus.MATCH_DOESNT_EXIST;
+            } else if (homeScore < 0 || awayScore < 0) {
+                status = OperationStatus.INVALID_ARGUMENT;
+            }
+        }
+        if (status.isApplied()) {
+            store.setScore(slot, homeScore, awayScore);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Update of a match {} {} - {} {} rejected: {}", homeTeam, homeScore, awayTeam, awayScore, status);
+        }
+
+        return status;
+    }
+
+    /**
+     * Updates existing game score unless an update of the match with the same or a later sequence was applied,
+     * see {@link LiveScoreboard#tryUpdateGame(String, String, int, int, long)}
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @param sequence  sequence of the update, greater than 0
+     * @return APPLIED, DUPLICATE_UPDATE or STALE_UPDATE for dropped updates, or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+        int slot = MatchStore.NO_SLOT;
+
+        if (status.isApplied()) {
+            slot = findSlot(registry.findId(homeTeam), registry.findId(awayTeam));
+            if (slot == MatchStore.NO_SLOT) {
+                status = OperationStatus.MATCH_DOESNT_EXIST;
+            } else if (homeScore < 0 || awayScore < 0 || sequence < 1) {
+                status = OperationStatus.INVALID_ARGUMENT;
+            } else {
+                status = Match.checkUpdateSequence(store.getUpdateSequence(slot), sequence);
+            }
+        }
+        if (status.isApplied()) {
+            store.setUpdateSequence(slot, sequence);
+            store.setScore(slot, homeScore, awayScore);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Update {} of a match {} {} - {} {} dropped: {}", sequence, homeTeam, homeScore, awayTeam,
+                    awayScore, status);
+        }
+
+        return status;
+    }
+
+    /**
+     * @param homeTeamId id of the team or -1 if the team is not registered
+     * @param awayTeamId id of the team or -1 if the team is not registered
+     * @return slot of the match between the teams or -1 if there is no such match
+     */
+    private int findSlot(int homeTeamId, int awayTeamId) {
+        int slot = getTeamSlot(homeTeamId);
+
+        return slot != MatchStore.NO_SLOT && store.getHomeTeamId(slot) == homeTeamId
+                && store.getAwayTeamId(slot) == awayTeamId ? slot : MatchStore.NO_SLOT;
+    }
+
+    private int getExistingSlot(int homeTeamId, int awayTeamId) {
+        int slot = findSlot(homeTeamId, awayTeamId);
+
+        if (slot == MatchStore.NO_SLOT) {
+            log.error("Match between HomeTeam id {} and AwayTeam id {} doesn't exist", homeTeamId, awayTeamId);
+            throw new MatchDoesntExistException();
+        }
+
+        return slot;
+    }
+
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        log.debug("Finish game between {} and {}", homeTeam, awayTeam);
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        removeGame(getExistingSlot(registry.findId(homeTeam), registry.findId(awayTeam)));
+    }
+
+    /**
+     * Removes existing game, teams are given by their ids in the {@link TeamRegistry} of the Scoreboard
+     * It throws an IllegalArgumentExceptions if either homeTeamId or awayTeamId is not registered
+     * It throws a NotUniquePairException if teams ids are the same
+     * It throws a MatchDoesntExistException if match between homeTeam and awayTeam doesn't exist
+     *
+     * @param homeTeamId
+     * @param awayTeamId
+     */
+    public void finishGame(int homeTeamId, int awayTeamId) {
+        if (log.isDebugEnabled()) {
+            log.debug("Finish game between ids {} and {}", homeTeamId, awayTeamId);
+        }
+
+        validateTeamsIds(homeTeamId, awayTeamId);
+
+        removeGame(getExistingSlot(homeTeamId, awayTeamId));
+    }
+
+    /**
+     * Removes existing game like {@link #finishGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryFinishGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            int slot = findSlot(registry.findId(homeTeam), registry.findId(awayTeam));
+
+            if (slot != MatchStore.NO_SLOT) {
+                removeGame(slot);
+            } else {
+                status = OperationStatus.MATCH_DOESNT_EXIST;
+            }
+        }
+        if (!status.isApplied()) {
+            log.debug("Finish of a game between {} and {} rejected: {}", homeTeam, awayTeam, status);
+        }
+
+        return status;
+    }
+
+    private void removeGame(int slot) {
+        teamSlots[store.getHomeTeamId(slot)] = MatchStore.NO_SLOT;
+        teamSlots[store.getAwayTeamId(slot)] = MatchStore.NO_SLOT;
+        store.remove(slot);
+    }
+
+    /**
+     * Note: matches are sorted on every call.
+     *
+     * @return detached copies of existing matches sorted by total score in descending order,
+     * then by start in ascending order
+     */
+    @Override
+    public List<Match> getSummary() {
+        log.debug("Get scoreboard summary");
+
+        int[] slots = store.summaryOrder();
+        List<Match> summary = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            summary.add(store.view(slot, registry));
+        }
+
+        return summary;
+    }
+
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        log.debug("Find match of team {}", team);
+
+        validateTeamName(team);
+
+        int slot = getTeamSlot(registry.findId(team));
+
+        return slot == MatchStore.NO_SLOT ? Optional.empty() : Optional.of(store.view(slot, registry));
+    }
+
+    /**
+     * @return number of matches in progress
+     */
+    public int size() {
+        return store.size();
+    }
+}
@@ -0,0 +1,411 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static scoreboard.TeamValidator.checkTeamsNames;
+import static scoreboard.TeamValidator.validateTeamName;
+import static scoreboard.TeamValidator.validateTeamsNames;
+
+/**
+ * Thread-safe scoreboard of matches in progress.
+ * Starts and finishes lock the stripes of both their teams, so operations on different teams run in parallel,
+ * while the checks of {@link #startNewGame(String, String)} stay atomic.
+ * Stored matches are never mutated, an update replaces the match with its changed copy atomically
+ * in the map of matches without taking the stripe locks, so readers always see a consistent score
+ * and sequenced updates of redundant feeds are checked and applied in one step.
+ */
+public class ConcurrentScoreboard implements LiveScoreboard {
+    private static final Logger log = LogManager.getLogger("ConcurrentScoreboard");
+    private static final int STRIPES_PER_CORE = 16;
+
+    private final Map<String, Match> matches;
+    /**
+     * Home team of the match of every playing team
+     */
+    private final Map<String, String> teams;
+    private final ReentrantLock[] stripes;
+
+    public ConcurrentScoreboard() {
+        this(Runtime.getRuntime().availableProcessors() * STRIPES_PER_CORE);
+    }
+
+    /**
+     * @param concurrencyLevel expected number of threads changing the scoreboard at the same time,
+     *                         rounded up to the power of two
+     */
+    public ConcurrentScoreboard(int concurrencyLevel) {
+        if (concurrencyLevel < 1) {
+            log.error("Concurrency level has to be a positive number! Current value: {}", concurrencyLevel);
+            throw new IllegalArgumentException();
+        }
+
+        matches = new ConcurrentHashMap<>();
+        teams = new ConcurrentHashMap<>();
+        stripes = new ReentrantLock[Integer.highestOneBit(concurrencyLevel - 1 | 1) << 1];
+
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public void startNewGame(String homeTeam, String awayTeam) {
+        log.debug("Starting new game for homeTeam: {} and awayTeam: {}", homeTeam, awayTeam);
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        String home = homeTeam.toUpperCase();
+        String away = awayTeam.toUpperCase();
+
+        withLocks(home, away, () -> {
+            validateExistingGames(home, away);
+            insertGame(home, away);
+        });
+
+        log.trace("Game for {} and {} added successfully", home, away);
+    }
+
+    private void insertGame(String homeTeam, String awayTeam) {
+        Match match = Match.newTeam(homeTeam, awayTeam);
+        teams.put(homeTeam, homeTeam);
+        teams.put(awayTeam, homeTeam);
+        matches.put(homeTeam, match);
+    }
+
+    /**
+     * Adds new game like {@link #startNewGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryStartNewGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            String home = homeTeam.toUpperCase();
+            String away = awayTeam.toUpperCase();
+
+            status = withLocks(home, away, () -> {
+                OperationStatus existing = checkExistingGames(home, away);
+                if (existing.isApplied()) {
+                    insertGame(home, away);
+                }
+                return existing;
+            });
+        }
+        if (!status.isApplied()) {
+            log.debug("Game for {} and {} rejected: {}", homeTeam, awayTeam, status);
+        }
+
+        return status;
+    }
+
+    private OperationStatus checkExistingGames(String homeTeam, String awayTeam) {
+        Match match = matches.get(homeTeam);
+
+        if (match != null && match.getAwayTeam().equals(awayTeam)) {
+            return OperationStatus.MATCH_ALREADY_STARTED;
+        }
+        if (teams.containsKey(homeTeam) || teams.containsKey(awayTeam)) {
+            return OperationStatus.TEAM_ALREADY_IN_MATCH;
+        }
+        return OperationStatus.APPLIED;
+    }
+
+    private void validateExistingGames(String homeTeam, String awayTeam) {
+        Match match = matches.get(homeTeam);
+
+        if (match != null && match.getAwayTeam().equals(awayTeam)) {
+            log.error("Teams {} and {} have already started a match!", homeTeam, awayTeam);
+            throw new MatchAlreadyStartedException();
+        }
+
+        checkIfTeamHasAlreadyStartedDifferentGame(homeTeam);
+        checkIfTeamHasAlreadyStartedDifferentGame(awayTeam);
+    }
+
+    private void checkIfTeamHasAlreadyStartedDifferentGame(String team) {
+        if (teams.containsKey(team)) {
+            log.error("Team {} has already started a match!", team);
+            throw new TeamAlreadyInMatchException();
+        }
+    }
+
+    @Override
+    public void updateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (log.isDebugEnabled()) {
+            log.debug("Update score of a match {} {} - {} {}", homeTeam, homeScore, awayTeam, awayScore);
+        }
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        String home = homeTeam.toUpperCase();
+        String away = awayTeam.toUpperCase();
+
+        checkExistingMatch(replaceScore(home, away, homeScore, awayScore), home, away);
+
+        log.trace("Match score updated!");
+    }
+
+    /**
+     * Replaces the match between the teams with its copy with changed score, atomically in the map of matches
+     *
+     * @return replacement of the match, or a different match of homeTeam or null if there is no such match
+     */
+    private Match replaceScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return matches.computeIfPresent(homeTeam, (team, current) -> current.getAwayTeam().equals(awayTeam)
+                ? current.withScore(homeScore, awayScore) : current);
+    }
+
+    /**
+     * Updates existing game score like {@link #updateGame(String, String, int, int)},
+     * without exceptions and error logs for rejected updates
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            String home = homeTeam.toUpperCase();
+            String away = awayTeam.toUpperCase();
+
+            status = isExistingMatch(matches.get(home), away) ? status : OperationStatus.MATCH_DOESNT_EXIST;
+            if (status.isApplied() && (homeScore < 0 || awayScore < 0)) {
+                status = OperationStatus.INVALID_ARGUMENT;
+            }
+            if (status.isApplied() && !isExistingMatch(replaceScore(home, away, homeScore, awayScore), away)) {
+                status = OperationStatus.MATCH_DOESNT_EXIST;
+            }
+        }
+        if (!status.isApplied() && log.isDebugEnabled()) {
+            log.debug("Update of a match {} {} - {} {} rejected: {}", homeTeam, homeScore, awayTeam, awayScore, status);
+        }
+
+        return status;
+    }
+
+    private static boolean isExistingMatch(Match match, String awayTeam) {
+        return match != null && match.getAwayTeam().equals(awayTeam);
+    }
+
+    /**
+     * Updates existing game score unless an update of the match with the same or a later sequence was applied,
+     * see {@link LiveScoreboard#tryUpdateGame(String, String, int, int, long)}.
+     * Dropped updates are found by a plain read, an update is checked again and applied atomically
+     * with the replacement of the match.
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @param sequence  sequence of the update, greater than 0
+     * @return APPLIED, DUPLICATE_UPDATE or STALE_UPDATE for dropped updates, or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            String home = homeTeam.toUpperCase();
+            String away = awayTeam.toUpperCase();
+            Match match = matches.get(home);
+
+            if (!isExistingMatch(match, away)) {
+                status = OperationStatus.MATCH_DOESNT_EXIST;
+            } else if (homeScore < 0 || awayScore < 0 || sequence < 1) {
+                status = OperationStatus.INVALID_ARGUMENT;
+            } else {
+                status = match.checkUpdateSequence(sequence);
+            }
+            if (status.isApplied()) {
+                SequencedUpdate update = new SequencedUpdate(away, homeScore, awayScore, sequence);
+                matches.computeIfPresent(home, update);
+                status = update.status;
+            }
+        }
+        if (!status.isApplied() && log.isDebugEnabled()) {
+            log.debug("Update {} of a match {} {} - {} {} dropped: {}", sequence, homeTeam, homeScore, awayTeam,
+                    awayScore, status);
+        }
+
+        return status;
+    }
+
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        log.debug("Finish game between {} and {}", homeTeam, awayTeam);
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        String home = homeTeam.toUpperCase();
+        String away = awayTeam.toUpperCase();
+
+        withLocks(home, away, () -> {
+            getExistingMatch(home, away);
+            removeGame(home, away);
+        });
+    }
+
+    private void removeGame(String homeTeam, String awayTeam) {
+        matches.remove(homeTeam);
+        teams.remove(homeTeam);
+        teams.remove(awayTeam);
+    }
+
+    /**
+     * Removes existing game like {@link #finishGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryFinishGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            String home = homeTeam.toUpperCase();
+            String away = awayTeam.toUpperCase();
+
+            status = withLocks(home, away, () -> {
+                if (!isExistingMatch(matches.get(home), away)) {
+                    return OperationStatus.MATCH_DOESNT_EXIST;
+                }
+                removeGame(home, away);
+                return OperationStatus.APPLIED;
+            });
+        }
+        if (!status.isApplied()) {
+            log.debug("Finish of a game between {} and {} rejected: {}", homeTeam, awayTeam, status);
+        }
+
+        return status;
+    }
+
+    private Match getExistingMatch(String homeTeam, String awayTeam) {
+        Match match = matches.get(homeTeam);
+
+        checkExistingMatch(match, homeTeam, awayTeam);
+
+        return match;
+    }
+
+    private static void checkExistingMatch(Match match, String homeTeam, String awayTeam) {
+        if (!isExistingMatch(match, awayTeam)) {
+            log.error("Match between HomeTeam {} and AwayTeam {} doesn't exist", homeTeam, awayTeam);
+            throw new MatchDoesntExistException();
+        }
+    }
+
+    /**
+     * Sorts existing matches by total score in descending order, then sorts by start time in ascending order
+     * Note: It is a weakly consistent view, matches changed during the call may or may not be reflected.
+     *
+     * @return sorted list of existing matches
+     */
+    @Override
+    public List<Match> getSummary() {
+        log.debug("Get scoreboard summary");
+
+        List<Match> list = new ArrayList<>(matches.values());
+        list.sort(RankingPolicy.BY_SORT_KEY);
+
+        return list;
+    }
+
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        log.debug("Find match of team {}", team);
+
+        validateTeamName(team);
+
+        String name = team.toUpperCase();
+        String homeTeam = teams.get(name);
+        Match match = homeTeam != null ? matches.get(homeTeam) : null;
+
+        if (match == null || !match.getHomeTeam().equals(name) && !match.getAwayTeam().equals(name)) {
+            return Optional.empty();
+        }
+        return Optional.of(match);
+    }
+
+    private void withLocks(String homeTeam, String awayTeam, Runnable operation) {
+        withLocks(homeTeam, awayTeam, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private <T> T withLocks(String homeTeam, String awayTeam, Supplier<T> operation) {
+        int homeStripe = stripeOf(homeTeam);
+        int awayStripe = stripeOf(awayTeam);
+        ReentrantLock first = stripes[Math.min(homeStripe, awayStripe)];
+        ReentrantLock second = stripes[Math.max(homeStripe, awayStripe)];
+
+        first.lock();
+        second.lock();
+        try {
+            return operation.get();
+        } finally {
+            second.unlock();
+            first.unlock();
+        }
+    }
+
+    private int stripeOf(String team) {
+        int hash = team.hashCode();
+        return (hash ^ hash >>> 16) & (stripes.length - 1);
+    }
+
+    Map<String, Match> getScores() {
+        return matches;
+    }
+
+    /**
+     * Replaces the match with its updated copy if the update is still the latest one when the match is locked
+     * in the map, the outcome is left in status
+     */
+    private static final class SequencedUpdate implements BiFunction<String, Match, Match> {
+        private final String awayTeam;
+        private final int homeScore;
+        private final int awayScore;
+        private final long sequence;
+        private OperationStatus status = OperationStatus.MATCH_DOESNT_EXIST;
+
+        private SequencedUpdate(String awayTeam, int homeScore, int awayScore, long sequence) {
+            this.awayTeam = awayTeam;
+            this.homeScore = homeScore;
+            this.awayScore = awayScore;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Match apply(String homeTeam, Match match) {
+            status = isExistingMatch(match, awayTeam)
+                    ? match.checkUpdateSequence(sequence) : OperationStatus.MATCH_DOESNT_EXIST;
+
+            return status.isApplied() ? match.withScore(homeScore, awayScore, sequence) : match;
+        }
+    }
+}
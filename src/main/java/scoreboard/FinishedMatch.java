@@ -0,0 +1,69 @@
+package scoreboard;
+
+import java.util.Objects;
+
+/**
+ * Final result of a finished match, see {@link MatchArchive}
+ */
+public final class FinishedMatch {
+    private final String homeTeam;
+    private final String awayTeam;
+    private final int homeTeamScore;
+    private final int awayTeamScore;
+    private final long finishedAt;
+
+    FinishedMatch(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long finishedAt) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeTeamScore = homeTeamScore;
+        this.awayTeamScore = awayTeamScore;
+        this.finishedAt = finishedAt;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public int getHomeTeamScore() {
+        return homeTeamScore;
+    }
+
+    public int getAwayTeamScore() {
+        return awayTeamScore;
+    }
+
+    /**
+     * @return time the match was finished at, in milliseconds since the epoch
+     */
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FinishedMatch that = (FinishedMatch) o;
+        return homeTeamScore == that.homeTeamScore && awayTeamScore == that.awayTeamScore
+                && finishedAt == that.finishedAt
+                && homeTeam.equals(that.homeTeam) && awayTeam.equals(that.awayTeam);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(homeTeam, awayTeam, homeTeamScore, awayTeamScore, finishedAt);
+    }
+
+    @Override
+    public String toString() {
+        return homeTeam + " " + homeTeamScore + " - " + awayTeam + " " + awayTeamScore + " finished at " + finishedAt;
+    }
+}
@@ -0,0 +1,169 @@
+package scoreboard;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Common operations of scoreboards of matches in progress.
+ * See {@link Scoreboard} for single threaded use and {@link ConcurrentScoreboard} for many ingest threads.
+ */
+public interface LiveScoreboard {
+
+    /**
+     * Adds new game with score 0-0.
+     * Note: It converts given team names to upper case.
+     * It throws an IllegalArgumentExceptions if either homeTeam or awayTeam name are null or empty
+     * It throws a NotUniquePairException if teams names are the same
+     * It throws a MatchAlreadyStartedException if match for homeTeam and AwayTeam already exists
+     * It throws a TeamAlreadyInMatchException if homeTeam or awayTeam has already different match in progress
+     *
+     * @param homeTeam
+     * @param awayTeam
+     */
+    void startNewGame(String homeTeam, String awayTeam);
+
+    /**
+     * Updates existing game score.
+     * Note: It converts given team names to upper case.
+     * It validates teams names
+     * It throws a MatchDoesntExistException if match between homeTeam and awayTeam doesn't exist
+     * It throws an IllegalArgumentException if either homeScore or awayScore is lower than 0
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     */
+    void updateGame(String homeTeam, String awayTeam, int homeScore, int awayScore);
+
+    /**
+     * Removes existing game.
+     * Note: It converts given team names to upper case.
+     * It validates teams names
+     * It throws a MatchDoesntExistException if match between homeTeam and awayTeam doesn't exist
+     *
+     * @param homeTeam
+     * @param awayTeam
+     */
+    void finishGame(String homeTeam, String awayTeam);
+
+    /**
+     * Adds new game with score 0-0 like {@link #startNewGame(String, String)}, without throwing for rejected games
+     * Note: The default implementation calls the throwing operation, so a rejection still costs an exception
+     * and an error log, scoreboards of this package override it with checks which do neither.
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    default OperationStatus tryStartNewGame(String homeTeam, String awayTeam) {
+        try {
+            startNewGame(homeTeam, awayTeam);
+            return OperationStatus.APPLIED;
+        } catch (RuntimeException e) {
+            return statusOf(e);
+        }
+    }
+
+    /**
+     * Updates existing game score like {@link #updateGame(String, String, int, int)}, without throwing for rejected updates
+     * Note: The default implementation calls the throwing operation, so a rejection still costs an exception
+     * and an error log, scoreboards of this package override it with checks which do neither.
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @return APPLIED or the reason of the rejection
+     */
+    default OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        try {
+            updateGame(homeTeam, awayTeam, homeScore, awayScore);
+            return OperationStatus.APPLIED;
+        } catch (RuntimeException e) {
+            return statusOf(e);
+        }
+    }
+
+    /**
+     * Updates existing game score like {@link #tryUpdateGame(String, String, int, int)}, unless an update of the match
+     * with the same or a later sequence was applied already, so duplicated or reordered updates of redundant feeds
+     * never roll the score back. Sequences are chosen by the feed per match, starting from 1,
+     * updates without a sequence don't change the last applied sequence.
+     * Rejections are checked in order of the other operations: team names, the match, then scores and sequence.
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @param sequence  sequence of the update, greater than 0
+     * @return APPLIED, DUPLICATE_UPDATE or STALE_UPDATE for dropped updates, or the reason of the rejection
+     */
+    OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence);
+
+    /**
+     * Removes existing game like {@link #finishGame(String, String)}, without throwing for rejected games
+     * Note: The default implementation calls the throwing operation, so a rejection still costs an exception
+     * and an error log, scoreboards of this package override it with checks which do neither.
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    default OperationStatus tryFinishGame(String homeTeam, String awayTeam) {
+        try {
+            finishGame(homeTeam, awayTeam);
+            return OperationStatus.APPLIED;
+        } catch (RuntimeException e) {
+            return statusOf(e);
+        }
+    }
+
+    /**
+     * @return existing matches sorted by total score in descending order, then by start time in ascending order
+     */
+    List<Match> getSummary();
+
+    /**
+     * Lists one page of the summary
+     * It throws an IllegalArgumentException if either offset or limit is lower than 0
+     *
+     * @param offset position of the first match of the page in the summary, starting from 0
+     * @param limit  maximal number of matches of the page
+     * @return at most limit matches in summary order, empty if offset is past the end of the summary
+     */
+    default List<Match> getSummary(int offset, int limit) {
+        SummaryPage.validate(offset, limit);
+
+        return SummaryPage.of(getSummary(), offset, limit);
+    }
+
+    /**
+     * Streams matches in summary order, scoreboards keeping matches sorted produce them lazily
+     * Note: The scoreboard must not change while a lazy stream is consumed, unless it is thread-safe.
+     *
+     * @return sequential stream of existing matches sorted like {@link #getSummary()}
+     */
+    default Stream<Match> streamSummary() {
+        return getSummary().stream();
+    }
+
+    /**
+     * Note: It converts given team name to upper case.
+     * It throws an IllegalArgumentExceptions if team name is null or empty
+     *
+     * @param team
+     * @return match in progress in which given team plays, either as homeTeam or awayTeam
+     */
+    Optional<Match> findMatchByTeam(String team);
+
+    private static OperationStatus statusOf(RuntimeException e) {
+        OperationStatus status = OperationStatus.of(e);
+
+        if (status == null) {
+            throw e;
+        }
+        return status;
+    }
+}
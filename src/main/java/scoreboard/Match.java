@@ -4,33 +4,76 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Match {
     private static final Logger log = LogManager.getLogger("Match");
+    private static final AtomicLong START_SEQUENCE = new AtomicLong();
+    static final int NO_ID = -1;
     private final String homeTeam;
     private final String awayTeam;
+    private final int homeTeamId;
+    private final int awayTeamId;
     private final long startTime;
+    private final long startSequence;
     private int homeTeamScore;
     private int awayTeamScore;
+    private ScoreTimeline timeline;
+    private RankingPolicy ranking;
+    private long sortKey;
+    private long updateSequence;
 
     public static Match newTeam(String homeTeam, String awayTeam) {
         return new Match(homeTeam, awayTeam);
     }
 
     public Match(String homeTeam, String awayTeam) {
+        this(homeTeam, awayTeam, NO_ID, NO_ID, 0, 0);
+    }
+
+    Match(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        this(homeTeam, awayTeam, NO_ID, NO_ID, homeTeamScore, awayTeamScore);
+    }
+
+    Match(String homeTeam, String awayTeam, int homeTeamId, int awayTeamId, int homeTeamScore, int awayTeamScore) {
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
+        this.homeTeamId = homeTeamId;
+        this.awayTeamId = awayTeamId;
+        this.homeTeamScore = homeTeamScore;
+        this.awayTeamScore = awayTeamScore;
         this.startTime = System.nanoTime();
-        homeTeamScore = 0;
-        awayTeamScore = 0;
+        this.startSequence = START_SEQUENCE.incrementAndGet();
+        rankBy(RankingPolicy.TOTAL_SCORE);
     }
 
-    Match(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+    Match(String homeTeam, String awayTeam, int homeTeamId, int awayTeamId, int homeTeamScore, int awayTeamScore,
+          long startTime, long startSequence) {
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
+        this.homeTeamId = homeTeamId;
+        this.awayTeamId = awayTeamId;
         this.homeTeamScore = homeTeamScore;
         this.awayTeamScore = awayTeamScore;
-        this.startTime = System.nanoTime();
+        this.startTime = startTime;
+        this.startSequence = startSequence;
+        rankBy(RankingPolicy.TOTAL_SCORE);
+    }
+
+    private Match(Match match, int homeTeamScore, int awayTeamScore) {
+        this.homeTeam = match.homeTeam;
+        this.awayTeam = match.awayTeam;
+        this.homeTeamId = match.homeTeamId;
+        this.awayTeamId = match.awayTeamId;
+        this.startTime = match.startTime;
+        this.startSequence = match.startSequence;
+        this.homeTeamScore = match.homeTeamScore;
+        this.awayTeamScore = match.awayTeamScore;
+        this.timeline = match.timeline != null ? match.timeline.copy() : null;
+        this.ranking = match.ranking;
+        this.sortKey = match.sortKey;
+        this.updateSequence = match.updateSequence;
+        recordScore(homeTeamScore, awayTeamScore);
     }
 
     public int getHomeTeamScore() {
@@ -49,34 +92,172 @@ public class Match {
         return awayTeam;
     }
 
+    /**
+     * @return id of homeTeam in the {@link TeamRegistry} of the Scoreboard or -1 if the match has no ids
+     */
+    public int getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    /**
+     * @return id of awayTeam in the {@link TeamRegistry} of the Scoreboard or -1 if the match has no ids
+     */
+    public int getAwayTeamId() {
+        return awayTeamId;
+    }
+
     public long getStartTime() {
         return startTime;
     }
 
+    /**
+     * @return process wide unique number, increasing in order in which matches were started
+     */
+    long getStartSequence() {
+        return startSequence;
+    }
+
+    /**
+     * Reserves start sequences for matches created at once with their start sequence given
+     *
+     * @param count number of matches
+     * @return first of count consecutive start sequences
+     */
+    static long reserveStartSequences(int count) {
+        return START_SEQUENCE.getAndAdd(count) + 1;
+    }
+
+    RankingPolicy getRankingPolicy() {
+        return ranking;
+    }
+
+    /**
+     * Ranks the match by given policy from now on
+     * Note: A match kept in an ordered index has to be removed before and added back afterwards.
+     *
+     * @param policy
+     */
+    void rankBy(RankingPolicy policy) {
+        this.ranking = policy;
+        this.sortKey = policy.keyOf(this);
+    }
+
+    /**
+     * @return key of the match in the summary order of its {@link RankingPolicy}, the lower key first
+     */
+    long getSortKey() {
+        return sortKey;
+    }
+
     /**
      * Updates score
      * It throws a IllegalArgumentException if either homeScore or awayScore is lower than 0
+     * Note: Only the Scoreboard of the match changes its score, as it keeps the match in the summary order.
      *
      * @param homeScore
      * @param awayScore
      */
-    public void updateScore(int homeScore, int awayScore) {
-        log.info("Update score of a match");
+    void updateScore(int homeScore, int awayScore) {
+        log.trace("Update score of a match");
 
         validateScores(homeScore, awayScore);
 
-        this.homeTeamScore = homeScore;
-        this.awayTeamScore = awayScore;
+        recordScore(homeScore, awayScore);
     }
 
-    private static void validateScores(int... scores) {
-        log.info("Validate scores");
+    private void recordScore(int homeScore, int awayScore) {
+        if (homeScore != homeTeamScore || awayScore != awayTeamScore) {
+            if (timeline == null) {
+                timeline = new ScoreTimeline(homeTeamScore, awayTeamScore);
+            }
+            timeline.add((System.nanoTime() - startTime) / 1_000_000, homeScore, awayScore);
 
-        for (int score : scores) {
-            validateScore(score);
+            this.homeTeamScore = homeScore;
+            this.awayTeamScore = awayScore;
+            sortKey = ranking.keyAfterChange(this, sortKey);
         }
     }
 
+    /**
+     * Changes of the score since the match started, or since it was created with a score
+     * Note: It is the live timeline of the match, it changes with the score.
+     *
+     * @return timeline of the score changes
+     */
+    public ScoreTimeline getTimeline() {
+        return timeline != null ? timeline : new ScoreTimeline(homeTeamScore, awayTeamScore);
+    }
+
+    /**
+     * Creates copy of the match with changed score, the match itself stays untouched
+     * It throws a IllegalArgumentException if either homeScore or awayScore is lower than 0
+     *
+     * @param homeScore
+     * @param awayScore
+     * @return match with the same teams and start time and the new score
+     */
+    Match withScore(int homeScore, int awayScore) {
+        validateScores(homeScore, awayScore);
+
+        return new Match(this, homeScore, awayScore);
+    }
+
+    /**
+     * Creates copy of the match with changed score of the update with given sequence
+     * It throws a IllegalArgumentException if either homeScore or awayScore is lower than 0
+     *
+     * @param homeScore
+     * @param awayScore
+     * @param sequence  sequence of the update
+     * @return match with the same teams and start time and the new score
+     */
+    Match withScore(int homeScore, int awayScore, long sequence) {
+        Match match = withScore(homeScore, awayScore);
+        match.updateSequence = sequence;
+
+        return match;
+    }
+
+    /**
+     * @return sequence of the last applied sequenced update, 0 if there was none
+     */
+    long getUpdateSequence() {
+        return updateSequence;
+    }
+
+    void setUpdateSequence(long updateSequence) {
+        this.updateSequence = updateSequence;
+    }
+
+    /**
+     * @param sequence sequence of an update of the match
+     * @return APPLIED if the update is later than the last applied one, otherwise the reason it is dropped
+     */
+    OperationStatus checkUpdateSequence(long sequence) {
+        return checkUpdateSequence(updateSequence, sequence);
+    }
+
+    /**
+     * @param appliedSequence sequence of the last applied update of a match, 0 if there was none
+     * @param sequence        sequence of an update of the match
+     * @return APPLIED if the update is later than the last applied one, otherwise the reason it is dropped
+     */
+    static OperationStatus checkUpdateSequence(long appliedSequence, long sequence) {
+        if (sequence == appliedSequence) {
+            return OperationStatus.DUPLICATE_UPDATE;
+        } else if (sequence < appliedSequence) {
+            return OperationStatus.STALE_UPDATE;
+        }
+        return OperationStatus.APPLIED;
+    }
+
+    static void validateScores(int homeScore, int awayScore) {
+        log.trace("Validate scores");
+
+        validateScore(homeScore);
+        validateScore(awayScore);
+    }
+
     private static void validateScore(int score) {
         if (score < 0) {
             log.error("Score for team cannot be a negative number! Current value: {}", score);
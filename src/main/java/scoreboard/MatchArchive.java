@@ -0,0 +1,275 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bounded archive of finished matches, register it with {@link Scoreboard#addListener(ScoreboardListener)}.
+ * Results are kept in ring arrays in order in which matches finished, the oldest result is evicted once
+ * capacity results are archived. Teams which are in no archived result are evicted from the dictionary
+ * of team names, so the archive keeps at most TEAMS_PER_MATCH teams per result and never takes much more
+ * than capacity * BYTES_PER_ARCHIVED_MATCH bytes.
+ * Every result links to the previous result of both its teams, so results of a team are found without a scan,
+ * and results of a time range are found by binary search of the finish times.
+ * Note: It is not thread-safe, it has to be used by the thread which changes the Scoreboard.
+ */
+public class MatchArchive implements ScoreboardListener {
+    private static final Logger log = LogManager.getLogger("MatchArchive");
+    static final int BYTES_PER_MATCH = 4 * Integer.BYTES + 3 * Long.BYTES;
+    /**
+     * Two teams of every result, and as many again registered before unreferenced teams are evicted
+     */
+    static final int TEAMS_PER_MATCH = 4;
+    /**
+     * Estimate for a name of up to 24 Latin-1 characters, its slots in the dictionary and its last result,
+     * arrays grow by doubling, so a team takes up to two slots of each of them and four cells of the hash table
+     */
+    static final int BYTES_PER_TEAM = 64 + 8 * Long.BYTES;
+    static final int BYTES_PER_ARCHIVED_MATCH = BYTES_PER_MATCH + TEAMS_PER_MATCH * BYTES_PER_TEAM;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final long NONE = -1;
+
+    private final Clock clock;
+    private final long maxTeams;
+    private TeamRegistry teams;
+    private final int[] homeTeams;
+    private final int[] awayTeams;
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private final long[] finishTimes;
+    private final long[] previousOfHomeTeam;
+    private final long[] previousOfAwayTeam;
+    private long[] lastOfTeam;
+    private long next;
+
+    /**
+     * It throws an IllegalArgumentException if capacity is lower than 1
+     *
+     * @param capacity number of the last finished matches kept in the archive
+     */
+    public MatchArchive(int capacity) {
+        this(capacity, Clock.systemUTC());
+    }
+
+    MatchArchive(int capacity, Clock clock) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            log.error("Archive capacity has to be a positive number! Current value: {}", capacity);
+            throw new IllegalArgumentException();
+        }
+
+        this.clock = clock;
+        this.maxTeams = (long) TEAMS_PER_MATCH * capacity;
+        this.teams = new TeamRegistry();
+        this.homeTeams = new int[capacity];
+        this.awayTeams = new int[capacity];
+        this.homeScores = new int[capacity];
+        this.awayScores = new int[capacity];
+        this.finishTimes = new long[capacity];
+        this.previousOfHomeTeam = new long[capacity];
+        this.previousOfAwayTeam = new long[capacity];
+        this.lastOfTeam = new long[16];
+        Arrays.fill(lastOfTeam, NONE);
+    }
+
+    /**
+     * Creates archive as large as fits into given memory
+     * It throws an IllegalArgumentException if memoryCap is lower than BYTES_PER_ARCHIVED_MATCH
+     *
+     * @param memoryCap bytes the archive may take, its results and the dictionary of their teams
+     * @return archive of memoryCap / BYTES_PER_ARCHIVED_MATCH matches
+     */
+    public static MatchArchive withMemoryCap(long memoryCap) {
+        if (memoryCap < BYTES_PER_ARCHIVED_MATCH) {
+            log.error("Archive memory cap has to fit at least one match of {} bytes! Current value: {}",
+                    BYTES_PER_ARCHIVED_MATCH, memoryCap);
+            throw new IllegalArgumentException();
+        }
+
+        return new MatchArchive((int) Math.min(MAX_CAPACITY, memoryCap / BYTES_PER_ARCHIVED_MATCH));
+    }
+
+    @Override
+    public void gameFinished(Match match) {
+        archive(match.getHomeTeam(), match.getAwayTeam(), match.getHomeTeamScore(), match.getAwayTeamScore());
+    }
+
+    /**
+     * Archives final result of a match finished now, evicting the oldest result if the archive is full.
+     * Finish times never decrease, so a clock moved back archives at the last finish time.
+     */
+    private void archive(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (teams.size() + 2 > maxTeams) {
+            evictUnreferencedTeams();
+        }
+
+        int home = teams.register(homeTeam);
+        int away = teams.register(awayTeam);
+        if (lastOfTeam.length < teams.size()) {
+            int length = lastOfTeam.length;
+            lastOfTeam = Arrays.copyOf(lastOfTeam, Math.max(teams.size(), 2 * length));
+            Arrays.fill(lastOfTeam, length, lastOfTeam.length, NONE);
+        }
+
+        long sequence = next++;
+        int index = indexOf(sequence);
+        long finishTime = clock.millis();
+        if (sequence > 0) {
+            finishTime = Math.max(finishTime, finishTimes[indexOf(sequence - 1)]);
+        }
+
+        homeTeams[index] = home;
+        awayTeams[index] = away;
+        homeScores[index] = homeScore;
+        awayScores[index] = awayScore;
+        finishTimes[index] = finishTime;
+        previousOfHomeTeam[index] = lastOfTeam[home];
+        previousOfAwayTeam[index] = lastOfTeam[away];
+        lastOfTeam[home] = sequence;
+        lastOfTeam[away] = sequence;
+
+        log.trace("Match {} - {} archived", homeTeam, awayTeam);
+    }
+
+    /**
+     * Rebuilds the dictionary of team names from the teams of archived results and renumbers them,
+     * there are at most 2 * capacity of them, so rebuilds of a full dictionary are at least capacity / 2
+     * results apart and cost O(1) per result on average
+     */
+    private void evictUnreferencedTeams() {
+        int evicted = teams.size();
+        TeamRegistry live = new TeamRegistry(2 * size());
+        long[] lastOfLiveTeam = new long[Math.max(16, 2 * size())];
+        int[] liveIds = new int[teams.size()];
+        Arrays.fill(liveIds, -1);
+
+        for (long sequence = oldestSequence(); sequence < next; sequence++) {
+            int index = indexOf(sequence);
+            homeTeams[index] = liveId(homeTeams[index], live, liveIds, lastOfLiveTeam);
+            awayTeams[index] = liveId(awayTeams[index], live, liveIds, lastOfLiveTeam);
+        }
+
+        teams = live;
+        lastOfTeam = lastOfLiveTeam;
+        Arrays.fill(lastOfTeam, teams.size(), lastOfTeam.length, NONE);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Evicted {} teams without archived results", evicted - teams.size());
+        }
+    }
+
+    private int liveId(int id, TeamRegistry live, int[] liveIds, long[] lastOfLiveTeam) {
+        if (liveIds[id] < 0) {
+            liveIds[id] = live.register(teams.getName(id));
+            lastOfLiveTeam[liveIds[id]] = lastOfTeam[id];
+        }
+        return liveIds[id];
+    }
+
+    /**
+     * Finds archived results of the team, either as homeTeam or awayTeam, it takes O(number of results)
+     * Note: It converts given team name to upper case.
+     * It throws an IllegalArgumentExceptions if team name is null or empty
+     *
+     * @param team
+     * @return results of the team, the latest first
+     */
+    public List<FinishedMatch> findByTeam(String team) {
+        log.debug("Find archived matches of team {}", team);
+
+        // other spellings are not remembered, they would grow the dictionary beyond BYTES_PER_TEAM
+        int id = teams.findIdWithoutSpellings(team);
+        if (id < 0) {
+            return Collections.emptyList();
+        }
+
+        List<FinishedMatch> results = new ArrayList<>();
+        long oldest = oldestSequence();
+        for (long sequence = lastOfTeam[id]; sequence >= oldest; ) {
+            int index = indexOf(sequence);
+            results.add(resultAt(index));
+            sequence = homeTeams[index] == id ? previousOfHomeTeam[index] : previousOfAwayTeam[index];
+        }
+
+        return results;
+    }
+
+    /**
+     * Finds archived results of matches finished in the time range, it takes O(log n + number of results)
+     *
+     * @param from start of the range in milliseconds since the epoch, inclusive
+     * @param to   end of the range in milliseconds since the epoch, exclusive
+     * @return results in order in which matches finished
+     */
+    public List<FinishedMatch> findFinishedBetween(long from, long to) {
+        if (log.isDebugEnabled()) {
+            log.debug("Find matches finished between {} and {}", from, to);
+        }
+
+        List<FinishedMatch> results = new ArrayList<>();
+        for (long sequence = firstFinishedAtOrAfter(from); sequence < next; sequence++) {
+            int index = indexOf(sequence);
+            if (finishTimes[index] >= to) {
+                break;
+            }
+            results.add(resultAt(index));
+        }
+
+        return results;
+    }
+
+    private long firstFinishedAtOrAfter(long time) {
+        long low = oldestSequence();
+        long high = next;
+
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (finishTimes[indexOf(middle)] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @return number of archived results
+     */
+    public int size() {
+        return (int) (next - oldestSequence());
+    }
+
+    /**
+     * @return number of teams in the dictionary of team names
+     */
+    int getTeamCount() {
+        return teams.size();
+    }
+
+    /**
+     * @return maximal number of archived results
+     */
+    public int getCapacity() {
+        return homeTeams.length;
+    }
+
+    private FinishedMatch resultAt(int index) {
+        return new FinishedMatch(teams.getName(homeTeams[index]), teams.getName(awayTeams[index]),
+                homeScores[index], awayScores[index], finishTimes[index]);
+    }
+
+    private long oldestSequence() {
+        return Math.max(0, next - homeTeams.length);
+    }
+
+    private int indexOf(long sequence) {
+        return (int) (sequence % homeTeams.length);
+    }
+}
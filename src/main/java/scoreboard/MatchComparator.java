@@ -2,6 +2,11 @@ package scoreboard;
 
 import java.util.Comparator;
 
+/**
+ * Default summary order compared field by field: total score in descending order, then start time
+ * in ascending order. Scoreboards compare sort keys of {@link RankingPolicy#TOTAL_SCORE} instead,
+ * which order matches the same way with a single long comparison.
+ */
 public class MatchComparator implements Comparator<Match> {
 
     private static final int TOTAL_SCORES_ARE_EQUALS = 0;
@@ -11,7 +16,9 @@ public class MatchComparator implements Comparator<Match> {
         int compareTotalScores = compareByTotalScoreDesc(match1, match2);
 
         if (compareTotalScores == TOTAL_SCORES_ARE_EQUALS) {
-            return compareByStartTimeAsc(match1, match2);
+            int compareStartTimes = compareByStartTimeAsc(match1, match2);
+
+            return compareStartTimes == 0 ? compareByStartSequenceAsc(match1, match2) : compareStartTimes;
         }
 
         return compareTotalScores;
@@ -24,4 +31,8 @@ public class MatchComparator implements Comparator<Match> {
     private static int compareByStartTimeAsc(Match match1, Match match2) {
         return Long.compare(match1.getStartTime(), match2.getStartTime());
     }
+
+    private static int compareByStartSequenceAsc(Match match1, Match match2) {
+        return Long.compare(match1.getStartSequence(), match2.getStartSequence());
+    }
 }
@@ -0,0 +1,176 @@
+package scoreboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator of a simulated match day, the same settings always generate the same operations.
+ * <ul>
+ * <li>Kick-offs are staggered in 15 minute slots over kickOffSpreadMinutes, a match lasts 90 minutes plus
+ * up to 5 minutes of stoppage time</li>
+ * <li>Goals are a Poisson process of goalsPerMatch per 90 minutes, either team scores with the same chance</li>
+ * <li>correctionPercent of goals are taken back 30 to 180 seconds later, updating to a lower score</li>
+ * <li>After every change readsPerChange summary reads follow on average, like polling screens</li>
+ * <li>invalidPercent of the changes are followed by a rejected call: a start of a team already playing,
+ * a start of a team with itself, an update of a match which doesn't exist or a negative score</li>
+ * </ul>
+ */
+final class MatchDayWorkload {
+    private static final long MATCH_SECONDS = 90 * 60;
+    private static final long KICK_OFF_SLOT_SECONDS = 15 * 60;
+
+    private long seed = 42;
+    private int matches = 1000;
+    private int kickOffSpreadMinutes = 8 * 60;
+    private double goalsPerMatch = 2.7;
+    private int correctionPercent = 5;
+    private int invalidPercent = 1;
+    private double readsPerChange = 10;
+
+    MatchDayWorkload seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    MatchDayWorkload matches(int matches) {
+        this.matches = matches;
+        return this;
+    }
+
+    MatchDayWorkload kickOffSpreadMinutes(int kickOffSpreadMinutes) {
+        this.kickOffSpreadMinutes = kickOffSpreadMinutes;
+        return this;
+    }
+
+    MatchDayWorkload goalsPerMatch(double goalsPerMatch) {
+        this.goalsPerMatch = goalsPerMatch;
+        return this;
+    }
+
+    MatchDayWorkload correctionPercent(int correctionPercent) {
+        this.correctionPercent = correctionPercent;
+        return this;
+    }
+
+    MatchDayWorkload invalidPercent(int invalidPercent) {
+        this.invalidPercent = invalidPercent;
+        return this;
+    }
+
+    MatchDayWorkload readsPerChange(double readsPerChange) {
+        this.readsPerChange = readsPerChange;
+        return this;
+    }
+
+    /**
+     * @return operations of the match day in order of their simulated time
+     */
+    List<WorkloadOperation> generate() {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] homeTeams = TeamNames.generate("HOME", matches, 16);
+        String[] awayTeams = TeamNames.generate("AWAY", matches, 16);
+
+        List<WorkloadOperation> changes = new ArrayList<>();
+        for (int match = 0; match < matches; match++) {
+            addMatch(changes, random, homeTeams[match], awayTeams[match]);
+        }
+        changes.sort(Comparator.comparingLong(WorkloadOperation::getTime));
+
+        return addReadsAndInvalidCalls(changes, random);
+    }
+
+    private void addMatch(List<WorkloadOperation> changes, SplittableRandom random, String homeTeam, String awayTeam) {
+        long slots = Math.max(1, kickOffSpreadMinutes * 60L / KICK_OFF_SLOT_SECONDS);
+        long kickOff = random.nextLong(slots) * KICK_OFF_SLOT_SECONDS;
+        long end = kickOff + MATCH_SECONDS + random.nextInt(5 * 60 + 1);
+        double meanSecondsBetweenGoals = MATCH_SECONDS / Math.max(goalsPerMatch, 1e-9);
+
+        List<long[]> goals = new ArrayList<>();
+        for (long time = kickOff + exponential(random, meanSecondsBetweenGoals); time < end;
+             time += exponential(random, meanSecondsBetweenGoals)) {
+            long team = random.nextBoolean() ? 0 : 1;
+            goals.add(new long[]{time, team, 1});
+
+            if (random.nextInt(100) < correctionPercent) {
+                long correction = time + 30 + random.nextInt(151);
+                if (correction < end) {
+                    goals.add(new long[]{correction, team, -1});
+                }
+            }
+        }
+        goals.sort(Comparator.comparingLong(goal -> goal[0]));
+
+        changes.add(WorkloadOperation.start(kickOff, homeTeam, awayTeam));
+        int homeScore = 0;
+        int awayScore = 0;
+        for (long[] goal : goals) {
+            if (goal[1] == 0) {
+                homeScore += (int) goal[2];
+            } else {
+                awayScore += (int) goal[2];
+            }
+            changes.add(WorkloadOperation.update(goal[0], homeTeam, awayTeam, homeScore, awayScore));
+        }
+        changes.add(WorkloadOperation.finish(end, homeTeam, awayTeam));
+    }
+
+    private List<WorkloadOperation> addReadsAndInvalidCalls(List<WorkloadOperation> changes, SplittableRandom random) {
+        List<WorkloadOperation> operations = new ArrayList<>((int) (changes.size() * (readsPerChange + 1.1)));
+        List<String[]> liveTeams = new ArrayList<>();
+        double reads = 0;
+
+        for (WorkloadOperation change : changes) {
+            operations.add(change);
+            trackLiveMatches(change, liveTeams);
+
+            if (random.nextInt(100) < invalidPercent) {
+                operations.add(invalidCall(change.getTime(), random, liveTeams));
+            }
+
+            reads += readsPerChange;
+            for (; reads >= 1; reads--) {
+                operations.add(WorkloadOperation.summary(change.getTime()));
+            }
+        }
+
+        return operations;
+    }
+
+    private static void trackLiveMatches(WorkloadOperation change, List<String[]> liveTeams) {
+        if (change.getType() == WorkloadOperation.Type.START) {
+            liveTeams.add(new String[]{change.getHomeTeam(), change.getAwayTeam()});
+        } else if (change.getType() == WorkloadOperation.Type.FINISH) {
+            for (int i = 0; i < liveTeams.size(); i++) {
+                if (liveTeams.get(i)[0].equals(change.getHomeTeam())) {
+                    liveTeams.set(i, liveTeams.get(liveTeams.size() - 1));
+                    liveTeams.remove(liveTeams.size() - 1);
+                    break;
+                }
+            }
+        }
+    }
+
+    private static WorkloadOperation invalidCall(long time, SplittableRandom random, List<String[]> liveTeams) {
+        if (liveTeams.isEmpty()) {
+            return WorkloadOperation.update(time, "GHOSTHOME", "GHOSTAWAY", 1, 0);
+        }
+
+        String[] teams = liveTeams.get(random.nextInt(liveTeams.size()));
+        switch (random.nextInt(4)) {
+            case 0:
+                return WorkloadOperation.start(time, teams[0], "GHOST");
+            case 1:
+                return WorkloadOperation.start(time, teams[1], teams[1]);
+            case 2:
+                return WorkloadOperation.update(time, teams[1], teams[0], 1, 0);
+            default:
+                return WorkloadOperation.update(time, teams[0], teams[1], -1, 0);
+        }
+    }
+
+    private static long exponential(SplittableRandom random, double mean) {
+        return Math.max(1, Math.round(-mean * Math.log(1 - random.nextDouble())));
+    }
+}
@@ -0,0 +1,193 @@
+package scoreboard;
+
+import java.util.Arrays;
+
+/**
+ * Matches kept in primitive arrays, one slot per match, instead of one object per match.
+ * Slots of finished matches are reused by the next started ones.
+ * Start order is a separate list of slots, finished matches leave holes in it until it is compacted.
+ * Note: It is not thread-safe.
+ */
+final class MatchStore {
+    static final int NO_SLOT = -1;
+    private static final int POSITION_BITS = 31;
+    private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+
+    private int[] homeTeamIds;
+    private int[] awayTeamIds;
+    private int[] homeScores;
+    private int[] awayScores;
+    private long[] startTimes;
+    private long[] startSequences;
+    private long[] updateSequences;
+    private int[] startPositions;
+    private int[] freeSlots;
+    private int freeCount;
+    private int usedSlots;
+    private int[] startOrder;
+    private int startOrderSize;
+    private int size;
+
+    MatchStore(int expectedMatches) {
+        int capacity = Math.max(16, expectedMatches);
+        homeTeamIds = new int[capacity];
+        awayTeamIds = new int[capacity];
+        homeScores = new int[capacity];
+        awayScores = new int[capacity];
+        startTimes = new long[capacity];
+        startSequences = new long[capacity];
+        updateSequences = new long[capacity];
+        startPositions = new int[capacity];
+        startOrder = new int[capacity];
+        freeSlots = new int[16];
+    }
+
+    /**
+     * Stores new match with score 0-0
+     *
+     * @param homeTeamId
+     * @param awayTeamId
+     * @return slot of the match
+     */
+    int add(int homeTeamId, int awayTeamId) {
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+
+        homeTeamIds[slot] = homeTeamId;
+        awayTeamIds[slot] = awayTeamId;
+        homeScores[slot] = 0;
+        awayScores[slot] = 0;
+        startTimes[slot] = System.nanoTime();
+        startSequences[slot] = Match.reserveStartSequences(1);
+        updateSequences[slot] = 0;
+        appendToStartOrder(slot);
+        size++;
+
+        return slot;
+    }
+
+    private int nextSlot() {
+        if (usedSlots == homeTeamIds.length) {
+            int capacity = usedSlots * 2;
+            homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+            startTimes = Arrays.copyOf(startTimes, capacity);
+            startSequences = Arrays.copyOf(startSequences, capacity);
+            updateSequences = Arrays.copyOf(updateSequences, capacity);
+            startPositions = Arrays.copyOf(startPositions, capacity);
+        }
+        return usedSlots++;
+    }
+
+    private void appendToStartOrder(int slot) {
+        if (startOrderSize == startOrder.length) {
+            if (size <= startOrderSize / 2) {
+                compactStartOrder();
+            } else {
+                startOrder = Arrays.copyOf(startOrder, startOrderSize * 2);
+            }
+        }
+        startPositions[slot] = startOrderSize;
+        startOrder[startOrderSize++] = slot;
+    }
+
+    private void compactStartOrder() {
+        int count = 0;
+        for (int i = 0; i < startOrderSize; i++) {
+            int slot = startOrder[i];
+            if (slot != NO_SLOT) {
+                startPositions[slot] = count;
+                startOrder[count++] = slot;
+            }
+        }
+        Arrays.fill(startOrder, count, startOrderSize, NO_SLOT);
+        startOrderSize = count;
+    }
+
+    /**
+     * Frees the slot for the next started match
+     *
+     * @param slot
+     */
+    void remove(int slot) {
+        homeTeamIds[slot] = Match.NO_ID;
+        awayTeamIds[slot] = Match.NO_ID;
+        startOrder[startPositions[slot]] = NO_SLOT;
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    void setScore(int slot, int homeScore, int awayScore) {
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+    }
+
+    /**
+     * @param slot
+     * @return sequence of the last applied sequenced update of the match, 0 if there was none
+     */
+    long getUpdateSequence(int slot) {
+        return updateSequences[slot];
+    }
+
+    void setUpdateSequence(int slot, long sequence) {
+        updateSequences[slot] = sequence;
+    }
+
+    int getHomeTeamId(int slot) {
+        return homeTeamIds[slot];
+    }
+
+    int getAwayTeamId(int slot) {
+        return awayTeamIds[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Slots sorted by total score in descending order, then by start in ascending order.
+     * Total score and position in start order of every match are packed into a single long key,
+     * so sorting compares primitives only.
+     *
+     * @return slots of all matches in summary order
+     */
+    int[] summaryOrder() {
+        long[] keys = new long[size];
+        int count = 0;
+        for (int position = 0; position < startOrderSize; position++) {
+            int slot = startOrder[position];
+            if (slot != NO_SLOT) {
+                long total = (long) homeScores[slot] + awayScores[slot];
+                keys[count++] = (Integer.MAX_VALUE * 2L - total) << POSITION_BITS | position;
+            }
+        }
+        Arrays.sort(keys);
+
+        int[] slots = new int[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = startOrder[(int) (keys[i] & POSITION_MASK)];
+        }
+        return slots;
+    }
+
+    /**
+     * @param slot
+     * @param registry registry with names of the teams
+     * @return detached copy of the match, changing it doesn't change the store
+     */
+    Match view(int slot, TeamRegistry registry) {
+        Match match = new Match(registry.getName(homeTeamIds[slot]), registry.getName(awayTeamIds[slot]),
+                homeTeamIds[slot], awayTeamIds[slot], homeScores[slot], awayScores[slot],
+                startTimes[slot], startSequences[slot]);
+        match.setUpdateSequence(updateSequences[slot]);
+
+        return match;
+    }
+}
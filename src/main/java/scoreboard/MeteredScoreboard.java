@@ -0,0 +1,188 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Scoreboard recording operations of the wrapped scoreboard into {@link ScoreboardMetrics}.
+ * Every operation and rejection is counted, but only one in sampleInterval starts, updates and finishes is timed,
+ * as reading the clock costs more than the rest of the bookkeeping. Summaries are always timed.
+ * Operations to time are picked by the thread-local random generator of the calling thread,
+ * so sampling shares no state between threads.
+ * It is as thread-safe as the wrapped scoreboard.
+ */
+public class MeteredScoreboard implements LiveScoreboard {
+    private static final Logger log = LogManager.getLogger("MeteredScoreboard");
+    private static final int DEFAULT_SAMPLE_INTERVAL = 16;
+    private static final long NOT_TIMED = -1;
+
+    private final LiveScoreboard scoreboard;
+    private final ScoreboardMetrics metrics;
+    private final int sampleMask;
+
+    public MeteredScoreboard(LiveScoreboard scoreboard, ScoreboardMetrics metrics) {
+        this(scoreboard, metrics, DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * It throws an IllegalArgumentException if sampleInterval is not a positive power of two
+     *
+     * @param scoreboard     scoreboard to measure
+     * @param metrics        metrics to record into
+     * @param sampleInterval one in sampleInterval starts, updates and finishes is timed on average, 1 times all of them
+     */
+    public MeteredScoreboard(LiveScoreboard scoreboard, ScoreboardMetrics metrics, int sampleInterval) {
+        if (sampleInterval < 1 || Integer.bitCount(sampleInterval) != 1) {
+            log.error("Sample interval has to be a positive power of two! Current value: {}", sampleInterval);
+            throw new IllegalArgumentException();
+        }
+
+        this.scoreboard = Objects.requireNonNull(scoreboard);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.sampleMask = sampleInterval - 1;
+
+        metrics.liveMatches(scoreboard.getSummary().size());
+    }
+
+    public ScoreboardMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void startNewGame(String homeTeam, String awayTeam) {
+        long start = sampleStart();
+        try {
+            scoreboard.startNewGame(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            metrics.rejected(e);
+            throw e;
+        }
+        metrics.started(elapsedSince(start));
+    }
+
+    @Override
+    public void updateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long start = sampleStart();
+        try {
+            scoreboard.updateGame(homeTeam, awayTeam, homeScore, awayScore);
+        } catch (RuntimeException e) {
+            metrics.rejected(e);
+            throw e;
+        }
+        metrics.updated(elapsedSince(start));
+    }
+
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        long start = sampleStart();
+        try {
+            scoreboard.finishGame(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            metrics.rejected(e);
+            throw e;
+        }
+        metrics.finished(elapsedSince(start));
+    }
+
+    @Override
+    public OperationStatus tryStartNewGame(String homeTeam, String awayTeam) {
+        long start = sampleStart();
+
+        OperationStatus status = scoreboard.tryStartNewGame(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            metrics.started(elapsedSince(start));
+        } else {
+            metrics.rejected(status);
+        }
+        return status;
+    }
+
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long start = sampleStart();
+
+        OperationStatus status = scoreboard.tryUpdateGame(homeTeam, awayTeam, homeScore, awayScore);
+
+        if (status.isApplied()) {
+            metrics.updated(elapsedSince(start));
+        } else {
+            metrics.rejected(status);
+        }
+        return status;
+    }
+
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        long start = sampleStart();
+
+        OperationStatus status = scoreboard.tryUpdateGame(homeTeam, awayTeam, homeScore, awayScore, sequence);
+
+        if (status.isApplied()) {
+            metrics.updated(elapsedSince(start));
+        } else {
+            metrics.rejected(status);
+        }
+        return status;
+    }
+
+    @Override
+    public OperationStatus tryFinishGame(String homeTeam, String awayTeam) {
+        long start = sampleStart();
+
+        OperationStatus status = scoreboard.tryFinishGame(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            metrics.finished(elapsedSince(start));
+        } else {
+            metrics.rejected(status);
+        }
+        return status;
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        long start = System.nanoTime();
+
+        List<Match> summary = scoreboard.getSummary();
+
+        metrics.summaryRead(summary.size(), System.nanoTime() - start);
+        return summary;
+    }
+
+    @Override
+    public List<Match> getSummary(int offset, int limit) {
+        return scoreboard.getSummary(offset, limit);
+    }
+
+    @Override
+    public Stream<Match> streamSummary() {
+        return scoreboard.streamSummary();
+    }
+
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        try {
+            return scoreboard.findMatchByTeam(team);
+        } catch (RuntimeException e) {
+            metrics.rejected(e);
+            throw e;
+        } finally {
+            metrics.teamLookedUp();
+        }
+    }
+
+    private long sampleStart() {
+        return (ThreadLocalRandom.current().nextInt() & sampleMask) == 0 ? System.nanoTime() : NOT_TIMED;
+    }
+
+    private static long elapsedSince(long start) {
+        return start == NOT_TIMED ? NOT_TIMED : System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,50 @@
+package scoreboard;
+
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.NotUniquePairException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+/**
+ * Outcome of the try operations of {@link LiveScoreboard}, every rejection matches the exception
+ * the throwing operation would throw instead, except dropped sequenced updates which have no exception
+ */
+public enum OperationStatus {
+    APPLIED,
+    INVALID_ARGUMENT,
+    NOT_UNIQUE_PAIR,
+    MATCH_ALREADY_STARTED,
+    TEAM_ALREADY_IN_MATCH,
+    MATCH_DOESNT_EXIST,
+    /**
+     * Sequenced update dropped, an update with the same sequence was applied already
+     */
+    DUPLICATE_UPDATE,
+    /**
+     * Sequenced update dropped, an update with a later sequence was applied already
+     */
+    STALE_UPDATE;
+
+    public boolean isApplied() {
+        return this == APPLIED;
+    }
+
+    /**
+     * @param e exception thrown by an operation of a scoreboard
+     * @return status matching the exception or null if it is not a rejection of the operation
+     */
+    static OperationStatus of(RuntimeException e) {
+        if (e instanceof MatchAlreadyStartedException) {
+            return MATCH_ALREADY_STARTED;
+        } else if (e instanceof TeamAlreadyInMatchException) {
+            return TEAM_ALREADY_IN_MATCH;
+        } else if (e instanceof MatchDoesntExistException) {
+            return MATCH_DOESNT_EXIST;
+        } else if (e instanceof NotUniquePairException) {
+            return NOT_UNIQUE_PAIR;
+        } else if (e instanceof IllegalArgumentException) {
+            return INVALID_ARGUMENT;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,358 @@
+package scoreboard;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Ordered index of matches kept in summary order.
+ * It is an order-statistic treap: every node knows the size of its subtree,
+ * so insertion, removal, rank and positional lookups are O(log n) and an ordered walk is O(k).
+ * Without a comparator matches are ordered by their sort keys, see {@link RankingPolicy}, cached in the nodes,
+ * so a lookup compares longs along the path without touching the matches.
+ * Note: a match has to be removed before its score changes and added back afterwards, re-adding the node returned
+ * by {@link #remove(Match)} moves the match without allocating.
+ */
+class RankedMatchIndex implements Iterable<Match> {
+    private final Comparator<Match> comparator;
+    private Node root;
+    private int seed = 0x9E3779B9;
+    private int modCount;
+    private Node removed;
+
+    /**
+     * Index ordered by sort keys of the matches
+     */
+    RankedMatchIndex() {
+        this(null);
+    }
+
+    /**
+     * @param comparator order of the index, null orders by sort keys of the matches
+     */
+    RankedMatchIndex(Comparator<Match> comparator) {
+        this.comparator = comparator;
+    }
+
+    void add(Match match) {
+        root = insert(root, new Node(match, nextPriority()));
+        modCount++;
+    }
+
+    /**
+     * Adds back a node removed from the index, keyed by the current sort key of its match
+     *
+     * @param node node returned by {@link #remove(Match)}
+     */
+    void add(Node node) {
+        node.key = node.match.getSortKey();
+        root = insert(root, node);
+        modCount++;
+    }
+
+    /**
+     * @param match
+     * @return detached node of the match or null if the index doesn't contain it
+     */
+    Node remove(Match match) {
+        root = delete(root, match, match.getSortKey());
+        modCount++;
+
+        Node node = removed;
+        removed = null;
+        if (node != null) {
+            node.left = null;
+            node.right = null;
+            node.size = 1;
+        }
+        return node;
+    }
+
+    /**
+     * Builds the index of given matches in O(n)
+     * It throws an IllegalStateException if the index is not empty
+     *
+     * @param sorted matches already sorted by the comparator of the index
+     */
+    void build(Match[] sorted) {
+        if (root != null) {
+            throw new IllegalStateException("Only an empty index can be built");
+        }
+
+        root = build(sorted, 0, sorted.length);
+        assignPriorities(sorted.length);
+        modCount++;
+    }
+
+    private static Node build(Match[] sorted, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+
+        int middle = (from + to) >>> 1;
+        Node node = new Node(sorted[middle], 0);
+        node.left = build(sorted, from, middle);
+        node.right = build(sorted, middle + 1, to);
+        node.update();
+
+        return node;
+    }
+
+    /**
+     * Gives nodes random priorities in heap order: the nodes are walked level by level and every node gets a random
+     * priority from its own slot of the priority range, the slots going down, so no priorities have to be sorted
+     */
+    private void assignPriorities(int size) {
+        long slot = Math.max(1, (1L << Integer.SIZE) / Math.max(1, size));
+        Deque<Node> level = new ArrayDeque<>();
+        if (root != null) {
+            level.add(root);
+        }
+
+        for (long i = 0; !level.isEmpty(); i++) {
+            Node node = level.poll();
+            node.priority = (int) (Integer.MAX_VALUE - i * slot - Integer.toUnsignedLong(nextPriority()) % slot);
+
+            if (node.left != null) {
+                level.add(node.left);
+            }
+            if (node.right != null) {
+                level.add(node.right);
+            }
+        }
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * @param match
+     * @return zero based position of the match or -1 if the index doesn't contain it
+     */
+    int rank(Match match) {
+        int rank = 0;
+        long key = match.getSortKey();
+        Node node = root;
+
+        while (node != null) {
+            int compared = compare(match, key, node);
+
+            if (compared < 0) {
+                node = node.left;
+            } else if (compared > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param limit
+     * @return first limit matches in index order
+     */
+    List<Match> first(int limit) {
+        return range(0, limit);
+    }
+
+    /**
+     * Lists matches at positions from offset, it takes O(log n + limit)
+     *
+     * @param offset
+     * @param limit
+     * @return at most limit matches in index order starting at position offset
+     */
+    List<Match> range(int offset, int limit) {
+        List<Match> list = new ArrayList<>(Math.min(limit, Math.max(0, size() - offset)));
+        Iterator<Match> iterator = iterator(offset);
+
+        while (list.size() < limit && iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+
+        return list;
+    }
+
+    @Override
+    public Iterator<Match> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Note: It throws a ConcurrentModificationException from next() if the index changed after it was created
+     *
+     * @param from
+     * @return iterator over matches in index order starting at position from
+     */
+    Iterator<Match> iterator(int from) {
+        return new InOrderIterator(root, from);
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+
+        if (compare(inserted.match, inserted.key, node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+
+        node.update();
+        return node;
+    }
+
+    private Node delete(Node node, Match match, long key) {
+        if (node == null) {
+            return null;
+        }
+
+        int compared = compare(match, key, node);
+
+        if (compared < 0) {
+            node.left = delete(node.left, match, key);
+        } else if (compared > 0) {
+            node.right = delete(node.right, match, key);
+        } else {
+            removed = node;
+            return merge(node.left, node.right);
+        }
+
+        node.update();
+        return node;
+    }
+
+    private int compare(Match match, long key, Node node) {
+        return comparator == null ? Long.compare(key, node.key) : comparator.compare(match, node.match);
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        return pivot;
+    }
+
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    static final class Node {
+        private final Match match;
+        private long key;
+        private int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(Match match, int priority) {
+            this.match = match;
+            this.key = match.getSortKey();
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+
+    private final class InOrderIterator implements Iterator<Match> {
+        private final Deque<Node> path = new ArrayDeque<>();
+        private final int expectedModCount = modCount;
+
+        private InOrderIterator(Node root, int from) {
+            Node node = root;
+            int index = from;
+
+            while (node != null) {
+                int leftSize = size(node.left);
+
+                if (index < leftSize) {
+                    path.push(node);
+                    node = node.left;
+                } else if (index == leftSize) {
+                    path.push(node);
+                    return;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Match next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            Node node = path.pop();
+
+            for (Node next = node.right; next != null; next = next.left) {
+                path.push(next);
+            }
+
+            return node.match;
+        }
+    }
+}
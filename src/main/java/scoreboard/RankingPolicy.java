@@ -0,0 +1,158 @@
+package scoreboard;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order of the summary of a {@link Scoreboard}. Every policy compiles the ranking of a match into a single
+ * long sort key, kept by the match and refreshed when its score changes, so matches are ordered by one
+ * long comparison, the lower key first, instead of comparing their fields one by one.
+ * Keys end with the start sequence of the match, so matches ranked the same are in order in which they started.
+ * Note: Scores are saturated to the bits of the key: a total score of 8388607 or more ranks the same,
+ * and so does a goal difference of 2047 or more, and a total score of 4095 or more for GOAL_DIFFERENCE.
+ */
+public enum RankingPolicy {
+    /**
+     * Total score in descending order, then start order, like {@link MatchComparator}
+     */
+    TOTAL_SCORE {
+        @Override
+        long keyOf(Match match) {
+            return key(saturate(match.getTotalScore(), RANK_MASK), match.getStartSequence());
+        }
+    },
+    /**
+     * Absolute goal difference in descending order, then total score in descending order, then start order
+     */
+    GOAL_DIFFERENCE {
+        @Override
+        long keyOf(Match match) {
+            int difference = Math.abs(match.getHomeTeamScore() - match.getAwayTeamScore());
+            long rank = saturate(difference, DIFFERENCE_MASK) << TOTAL_BITS | saturate(match.getTotalScore(), TOTAL_MASK);
+
+            return key(rank, match.getStartSequence());
+        }
+    },
+    /**
+     * Match whose score changed most recently first, then matches without a change in start order
+     * Note: Matches loaded with a score, e.g. from a snapshot, rank as if their score never changed.
+     */
+    MOST_RECENT_GOAL {
+        @Override
+        long keyOf(Match match) {
+            return UNCHANGED | match.getStartSequence() & SEQUENCE_MASK;
+        }
+
+        @Override
+        long keyAfterChange(Match match, long previousKey) {
+            return UNCHANGED - 1 - SCORE_CHANGES.incrementAndGet();
+        }
+    };
+
+    private static final int SEQUENCE_BITS = 40;
+    private static final int TOTAL_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long RANK_MASK = (1L << Long.SIZE - 1 - SEQUENCE_BITS) - 1;
+    private static final long TOTAL_MASK = (1L << TOTAL_BITS) - 1;
+    private static final long DIFFERENCE_MASK = RANK_MASK >>> TOTAL_BITS;
+    private static final long UNCHANGED = 1L << Long.SIZE - 2;
+    private static final AtomicLong SCORE_CHANGES = new AtomicLong();
+    private static final int RADIX_BITS = 8;
+    private static final int DIGIT_MASK = (1 << RADIX_BITS) - 1;
+    private static final int MIN_RADIX_SORT_SIZE = 1 << 12;
+
+    /**
+     * Orders matches by their sort keys, matches have to be ranked by the same policy
+     */
+    static final Comparator<Match> BY_SORT_KEY = (match1, match2) -> Long.compare(match1.getSortKey(), match2.getSortKey());
+
+    /**
+     * Sorts matches ranked by the same policy by their sort keys. Large arrays are radix sorted by the bytes
+     * in which the keys differ, those are typically the bytes of the start sequence and one byte of the rank,
+     * so sorting takes a few passes over the keys instead of O(n log n) comparisons of the matches.
+     *
+     * @param matches
+     */
+    static void sortByKey(Match[] matches) {
+        if (matches.length < MIN_RADIX_SORT_SIZE) {
+            Arrays.sort(matches, BY_SORT_KEY);
+            return;
+        }
+
+        long[] keys = new long[matches.length];
+        long differing = 0;
+        boolean sorted = true;
+        for (int i = 0; i < matches.length; i++) {
+            keys[i] = matches[i].getSortKey();
+            differing |= keys[i] ^ keys[0];
+            sorted &= i == 0 || keys[i - 1] <= keys[i];
+        }
+        if (sorted) {
+            return;
+        }
+
+        long[] sortedKeys = new long[keys.length];
+        Match[] sortedMatches = new Match[matches.length];
+        Match[] source = matches;
+        int[] offsets = new int[1 << RADIX_BITS];
+
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            if ((differing >>> shift & DIGIT_MASK) == 0) {
+                continue;
+            }
+
+            Arrays.fill(offsets, 0);
+            for (long key : keys) {
+                offsets[(int) (key >>> shift) & DIGIT_MASK]++;
+            }
+            for (int digit = 0, offset = 0; digit < offsets.length; digit++) {
+                int count = offsets[digit];
+                offsets[digit] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                int position = offsets[(int) (keys[i] >>> shift) & DIGIT_MASK]++;
+                sortedKeys[position] = keys[i];
+                sortedMatches[position] = source[i];
+            }
+
+            long[] nextKeys = keys;
+            keys = sortedKeys;
+            sortedKeys = nextKeys;
+            Match[] nextMatches = source;
+            source = sortedMatches;
+            sortedMatches = nextMatches;
+        }
+
+        if (source != matches) {
+            System.arraycopy(source, 0, matches, 0, matches.length);
+        }
+    }
+
+    /**
+     * @param match
+     * @return sort key of the match with its current score
+     */
+    abstract long keyOf(Match match);
+
+    /**
+     * @param match       match with its changed score
+     * @param previousKey sort key of the match before the change
+     * @return sort key of the match after its score changed
+     */
+    long keyAfterChange(Match match, long previousKey) {
+        return keyOf(match);
+    }
+
+    /**
+     * Higher rank comes first, so it is stored inverted above the start sequence
+     */
+    private static long key(long rank, long startSequence) {
+        return (RANK_MASK - rank) << SEQUENCE_BITS | startSequence & SEQUENCE_MASK;
+    }
+
+    private static long saturate(long value, long mask) {
+        return Math.min(value, mask);
+    }
+}
@@ -0,0 +1,40 @@
+package scoreboard;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the summary of one version of a scoreboard rendered in every {@link SummaryFormat}.
+ * A format is rendered on its first read only, later reads get a duplicate of the same read-only buffer.
+ * Note: Concurrent first reads may render a format more than once, all of them get an equal buffer.
+ */
+final class RenderedSummary {
+    private final long version;
+    private final AtomicReferenceArray<ByteBuffer> buffers = new AtomicReferenceArray<>(SummaryFormat.values().length);
+
+    RenderedSummary(long version) {
+        this.version = version;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param format
+     * @param summary summary of the version, called only if the format is not rendered yet
+     * @return read-only buffer positioned at the start of the rendered summary, owned by the caller
+     */
+    ByteBuffer get(SummaryFormat format, Supplier<List<Match>> summary) {
+        ByteBuffer buffer = buffers.get(format.ordinal());
+
+        if (buffer == null) {
+            buffer = ByteBuffer.wrap(format.render(version, summary.get())).asReadOnlyBuffer();
+            buffers.set(format.ordinal(), buffer);
+        }
+
+        return buffer.duplicate();
+    }
+}
@@ -0,0 +1,55 @@
+package scoreboard;
+
+import java.util.Objects;
+
+/**
+ * Score of a match after a change, see {@link ScoreTimeline}
+ */
+public final class ScoreChange {
+    private final long time;
+    private final int homeTeamScore;
+    private final int awayTeamScore;
+
+    ScoreChange(long time, int homeTeamScore, int awayTeamScore) {
+        this.time = time;
+        this.homeTeamScore = homeTeamScore;
+        this.awayTeamScore = awayTeamScore;
+    }
+
+    /**
+     * @return milliseconds since the start of the match
+     */
+    public long getTime() {
+        return time;
+    }
+
+    public int getHomeTeamScore() {
+        return homeTeamScore;
+    }
+
+    public int getAwayTeamScore() {
+        return awayTeamScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ScoreChange that = (ScoreChange) o;
+        return time == that.time && homeTeamScore == that.homeTeamScore && awayTeamScore == that.awayTeamScore;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, homeTeamScore, awayTeamScore);
+    }
+
+    @Override
+    public String toString() {
+        return homeTeamScore + " - " + awayTeamScore + " at " + time + " ms";
+    }
+}
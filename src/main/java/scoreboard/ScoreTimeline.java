@@ -0,0 +1,269 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Score changes of a match in order in which they happened.
+ * Every change is a varint of milliseconds since the previous change followed by zigzag varints of the home and
+ * away score deltas, so a goal takes 3 to 5 bytes of a single byte array.
+ * Queries decode the changes from the start, it is fine for the tens of changes of a match.
+ * Once the changes take MAX_ENCODED_SIZE bytes, the older half of them is dropped, so a timeline never takes more.
+ * Copies of a timeline share its bytes, each of them reads only the changes it had when it was copied
+ * or appended since, so copying a timeline takes O(1) as every update of a match copies it.
+ * A change is written in place by the timeline whose changes end where the written bytes end,
+ * any other timeline copies its changes to new bytes first.
+ * Note: It is not thread-safe, it is owned and changed by its {@link Match}.
+ */
+public final class ScoreTimeline {
+    private static final Logger log = LogManager.getLogger("ScoreTimeline");
+    private static final Changes NO_CHANGES = new Changes(new byte[0]);
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CHANGE_BYTES = 10 + 5 + 5;
+    static final int MAX_ENCODED_SIZE = 4096;
+
+    private long initialTime;
+    private int initialHomeScore;
+    private int initialAwayScore;
+    private Changes changes;
+    private int length;
+    private int size;
+    private long lastTime;
+    private int lastHomeScore;
+    private int lastAwayScore;
+
+    /**
+     * @param initialHomeScore score the timeline starts with
+     * @param initialAwayScore score the timeline starts with
+     */
+    ScoreTimeline(int initialHomeScore, int initialAwayScore) {
+        this.initialHomeScore = initialHomeScore;
+        this.initialAwayScore = initialAwayScore;
+        this.changes = NO_CHANGES;
+        this.lastHomeScore = initialHomeScore;
+        this.lastAwayScore = initialAwayScore;
+    }
+
+    private ScoreTimeline(ScoreTimeline timeline) {
+        this.initialTime = timeline.initialTime;
+        this.initialHomeScore = timeline.initialHomeScore;
+        this.initialAwayScore = timeline.initialAwayScore;
+        this.changes = timeline.changes;
+        this.length = timeline.length;
+        this.size = timeline.size;
+        this.lastTime = timeline.lastTime;
+        this.lastHomeScore = timeline.lastHomeScore;
+        this.lastAwayScore = timeline.lastAwayScore;
+    }
+
+    /**
+     * Appends change unless the score is the same as after the last change.
+     * Time never goes back, a change older than the last one is recorded at the time of the last one.
+     *
+     * @param time      milliseconds since the start of the match
+     * @param homeScore
+     * @param awayScore
+     */
+    void add(long time, int homeScore, int awayScore) {
+        if (homeScore == lastHomeScore && awayScore == lastAwayScore) {
+            return;
+        }
+
+        long elapsed = Math.max(0, time - lastTime);
+        if (length + MAX_CHANGE_BYTES > MAX_ENCODED_SIZE) {
+            dropOlderHalf();
+        }
+        ensureWritable(MAX_CHANGE_BYTES);
+        writeVarLong(elapsed);
+        writeVarInt(zigzag(homeScore - lastHomeScore));
+        writeVarInt(zigzag(awayScore - lastAwayScore));
+        changes.end = length;
+
+        lastTime += elapsed;
+        lastHomeScore = homeScore;
+        lastAwayScore = awayScore;
+        size++;
+    }
+
+    /**
+     * Drops the older half of the changes, the last dropped change becomes the initial score.
+     * The kept changes are moved to new bytes, as the current ones may be read by copies of the timeline.
+     */
+    private void dropOlderHalf() {
+        Decoder decoder = new Decoder();
+        int dropped = size - size / 2;
+
+        for (int i = 0; i < dropped; i++) {
+            decoder.next();
+        }
+
+        initialTime = decoder.time;
+        initialHomeScore = decoder.homeScore;
+        initialAwayScore = decoder.awayScore;
+        byte[] kept = new byte[MAX_ENCODED_SIZE];
+        System.arraycopy(changes.bytes, decoder.position, kept, 0, length - decoder.position);
+        changes = new Changes(kept);
+        length -= decoder.position;
+        changes.end = length;
+        size -= dropped;
+    }
+
+    /**
+     * @return copy of the timeline sharing its bytes, changes of either of them are not seen by the other one
+     */
+    ScoreTimeline copy() {
+        return new ScoreTimeline(this);
+    }
+
+    /**
+     * @return number of changes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of bytes the changes are encoded in
+     */
+    public int getEncodedSize() {
+        return length;
+    }
+
+    /**
+     * @param time milliseconds since the start of the match
+     * @return last change at or before given time, or the initial score if there is none,
+     * which is the score at the time of the last dropped change, or at time 0 if no change was dropped
+     */
+    public ScoreChange getScoreAt(long time) {
+        Decoder decoder = new Decoder();
+        ScoreChange score = new ScoreChange(initialTime, initialHomeScore, initialAwayScore);
+
+        while (decoder.hasNext() && decoder.peekTime() <= time) {
+            score = decoder.next();
+        }
+
+        return score;
+    }
+
+    /**
+     * It throws an IllegalArgumentException if n is lower than 0
+     *
+     * @param n
+     * @return at most n last changes, the oldest first
+     */
+    public List<ScoreChange> getLastChanges(int n) {
+        if (n < 0) {
+            log.error("Number of changes cannot be a negative number! Current value: {}", n);
+            throw new IllegalArgumentException();
+        }
+
+        int skipped = Math.max(0, size - n);
+        Decoder decoder = new Decoder();
+        List<ScoreChange> changes = new ArrayList<>(size - skipped);
+
+        for (int i = 0; decoder.hasNext(); i++) {
+            ScoreChange change = decoder.next();
+            if (i >= skipped) {
+                changes.add(change);
+            }
+        }
+
+        return changes;
+    }
+
+    /**
+     * @return all changes, the oldest first
+     */
+    public List<ScoreChange> getChanges() {
+        return getLastChanges(size);
+    }
+
+    /**
+     * Makes room for given bytes after the changes, in place if no other timeline wrote after them
+     */
+    private void ensureWritable(int bytes) {
+        if (length != changes.end || length + bytes > changes.bytes.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, Math.max(length + bytes, 2 * length));
+            changes = new Changes(Arrays.copyOf(changes.bytes, Math.min(MAX_ENCODED_SIZE, capacity)));
+            changes.end = length;
+        }
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            changes.bytes[length++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        changes.bytes[length++] = (byte) value;
+    }
+
+    private void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    private static int zigzag(int value) {
+        return value << 1 ^ value >> 31;
+    }
+
+    private static int unzigzag(int value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    /**
+     * Forward decoder of the changes
+     */
+    private final class Decoder {
+        private int position;
+        private long time = initialTime;
+        private int homeScore = initialHomeScore;
+        private int awayScore = initialAwayScore;
+
+        private boolean hasNext() {
+            return position < length;
+        }
+
+        private long peekTime() {
+            int start = position;
+            long next = time + readVarLong();
+            position = start;
+            return next;
+        }
+
+        private ScoreChange next() {
+            time += readVarLong();
+            homeScore += unzigzag((int) readVarLong());
+            awayScore += unzigzag((int) readVarLong());
+            return new ScoreChange(time, homeScore, awayScore);
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = changes.bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Encoded changes shared by a timeline and its copies
+     */
+    private static final class Changes {
+        private final byte[] bytes;
+        /**
+         * End of the bytes written so far by any of the timelines
+         */
+        private int end;
+
+        private Changes(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
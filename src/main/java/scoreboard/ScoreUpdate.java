@@ -0,0 +1,63 @@
+package scoreboard;
+
+import java.util.Objects;
+
+/**
+ * New score of a game, used by batch updates of {@link Scoreboard}
+ */
+public final class ScoreUpdate {
+    private final String homeTeam;
+    private final String awayTeam;
+    private final int homeScore;
+    private final int awayScore;
+
+    public ScoreUpdate(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ScoreUpdate update = (ScoreUpdate) o;
+
+        return homeScore == update.homeScore
+                && awayScore == update.awayScore
+                && Objects.equals(homeTeam, update.homeTeam)
+                && Objects.equals(awayTeam, update.awayTeam);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public String toString() {
+        return homeTeam + " " + homeScore + " - " + awayTeam + " " + awayScore;
+    }
+}
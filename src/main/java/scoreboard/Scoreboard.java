@@ -4,21 +4,100 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import scoreboard.exceptions.MatchAlreadyStartedException;
 import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.NotUniquePairException;
 import scoreboard.exceptions.TeamAlreadyInMatchException;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static scoreboard.TeamValidator.checkTeamsNames;
+import static scoreboard.TeamValidator.validateTeamName;
 import static scoreboard.TeamValidator.validateTeamsNames;
 
-public class Scoreboard {
+/**
+ * Scoreboard of matches in progress.
+ * Note: It is not thread-safe, see {@link ConcurrentScoreboard} for concurrent access.
+ */
+public class Scoreboard implements LiveScoreboard {
     private static final Logger log = LogManager.getLogger("Scoreboard");
-    private final Map<String, Match> matches;
+    private final TeamRegistry registry;
+    private Match[] teamMatches;
+    private final RankingPolicy rankingPolicy;
+    private final RankedMatchIndex ranking;
+    private final List<ScoreboardListener> listeners;
+    private long version;
+    private RenderedSummary rendered;
 
     public Scoreboard() {
-        matches = new HashMap<>();
+        this(RankingPolicy.TOTAL_SCORE);
+    }
+
+    /**
+     * @param rankingPolicy order of the summary
+     */
+    public Scoreboard(RankingPolicy rankingPolicy) {
+        this(0, rankingPolicy);
+    }
+
+    /**
+     * @param expectedMatches number of matches the Scoreboard is sized for up front
+     */
+    Scoreboard(int expectedMatches) {
+        this(expectedMatches, RankingPolicy.TOTAL_SCORE);
+    }
+
+    Scoreboard(int expectedMatches, RankingPolicy rankingPolicy) {
+        this.rankingPolicy = Objects.requireNonNull(rankingPolicy);
+        registry = new TeamRegistry(2 * expectedMatches);
+        teamMatches = new Match[Math.max(16, 2 * expectedMatches)];
+        ranking = new RankedMatchIndex();
+        listeners = new ArrayList<>();
+    }
+
+    /**
+     * Teams of the Scoreboard, their ids can be used with the id based overloads of the API
+     *
+     * @return registry of teams which have ever started a game on the Scoreboard
+     */
+    public TeamRegistry getTeamRegistry() {
+        return registry;
+    }
+
+    /**
+     * Version of the Scoreboard, listeners see the version of the change they are called for
+     *
+     * @return number of changes of the Scoreboard, increasing with every applied start, update and finish
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Registers listener called after every change of the Scoreboard
+     *
+     * @param listener
+     */
+    public void addListener(ScoreboardListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    public void removeListener(ScoreboardListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -32,53 +111,146 @@ public class Scoreboard {
      * @param homeTeam
      * @param awayTeam
      */
+    @Override
     public void startNewGame(String homeTeam, String awayTeam) {
-        log.info("Starting new game for homeTeam: {} and awayTeam: {}", homeTeam, awayTeam);
+        log.debug("Starting new game for homeTeam: {} and awayTeam: {}", homeTeam, awayTeam);
+
+        addGame(homeTeam, awayTeam);
+    }
+
+    /**
+     * Adds new game to Scoreboard, teams are given by their ids in the {@link TeamRegistry} of the Scoreboard
+     * It throws an IllegalArgumentExceptions if either homeTeamId or awayTeamId is not registered
+     * It throws a NotUniquePairException if teams ids are the same
+     * It throws a MatchAlreadyStartedException if match for homeTeam and AwayTeam already exists
+     * It throws a TeamAlreadyInMatchException if homeTeam or awayTeam has already different match in progress
+     *
+     * @param homeTeamId
+     * @param awayTeamId
+     */
+    public void startNewGame(int homeTeamId, int awayTeamId) {
+        if (log.isDebugEnabled()) {
+            log.debug("Starting new game for homeTeam id: {} and awayTeam id: {}", homeTeamId, awayTeamId);
+        }
+
+        validateTeamsIds(homeTeamId, awayTeamId);
+
+        addGame(homeTeamId, awayTeamId);
+    }
 
+    private void addGame(String homeTeam, String awayTeam) {
         validateTeamsNames(homeTeam, awayTeam);
 
-        homeTeam = homeTeam.toUpperCase();
-        awayTeam = awayTeam.toUpperCase();
+        validateExistingGames(registry.findId(homeTeam), registry.findId(awayTeam));
 
-        validateExistingGames(homeTeam, awayTeam);
+        addGame(registry.register(homeTeam), registry.register(awayTeam));
+    }
 
-        matches.put(homeTeam, Match.newTeam(homeTeam, awayTeam));
+    private void addGame(int homeTeamId, int awayTeamId) {
+        validateExistingGames(homeTeamId, awayTeamId);
 
-        log.info("Game for {} and {} added successfully", homeTeam, awayTeam);
+        insertGame(homeTeamId, awayTeamId);
     }
 
-    private void validateExistingGames(String homeTeam, String awayTeam) {
-        log.info("Validate existing games");
+    private void insertGame(int homeTeamId, int awayTeamId) {
+        String homeTeam = registry.getName(homeTeamId);
+        String awayTeam = registry.getName(awayTeamId);
+        Match match = new Match(homeTeam, awayTeam, homeTeamId, awayTeamId, 0, 0);
+        match.rankBy(rankingPolicy);
+        ensureTeamMatchesCapacity();
+        teamMatches[homeTeamId] = match;
+        teamMatches[awayTeamId] = match;
+        ranking.add(match);
+        version++;
+
+        for (ScoreboardListener listener : listeners) {
+            listener.gameStarted(match);
+        }
 
-        checkIfTeamsHaveAlreadyStartedGame(homeTeam, awayTeam);
-        checkIfTeamHasAlreadyStartedDifferentGame(homeTeam);
-        checkIfTeamHasAlreadyStartedDifferentGame(awayTeam);
+        log.trace("Game for {} and {} added successfully", homeTeam, awayTeam);
     }
 
-    private void checkIfTeamsHaveAlreadyStartedGame(String homeTeam, String awayTeam) {
-        if (matches.containsKey(homeTeam) && checkIfHomeTeamIsPlayingWithAwayTeam(homeTeam, awayTeam)) {
-            log.error("Teams {} and {} have already started a match!", homeTeam, awayTeam);
-            throw new MatchAlreadyStartedException();
+    /**
+     * Adds new game like {@link #startNewGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryStartNewGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            status = checkExistingGames(registry.findId(homeTeam), registry.findId(awayTeam));
+        }
+        if (status.isApplied()) {
+            insertGame(registry.register(homeTeam), registry.register(awayTeam));
+        } else {
+            log.debug("Game for {} and {} rejected: {}", homeTeam, awayTeam, status);
         }
+
+        return status;
     }
 
-    private boolean checkIfHomeTeamIsPlayingWithAwayTeam(String homeTeam, String awayTeam) {
-        return matches.get(homeTeam).getAwayTeam().equals(awayTeam);
+    private OperationStatus checkExistingGames(int homeTeamId, int awayTeamId) {
+        if (checkIfHomeTeamIsPlayingWithAwayTeam(homeTeamId, awayTeamId)) {
+            return OperationStatus.MATCH_ALREADY_STARTED;
+        }
+        if (getTeamMatch(homeTeamId) != null || getTeamMatch(awayTeamId) != null) {
+            return OperationStatus.TEAM_ALREADY_IN_MATCH;
+        }
+        return OperationStatus.APPLIED;
     }
 
-    private void checkIfTeamHasAlreadyStartedDifferentGame(String team) {
-        if (checkIfTeamHasStartedGame(team)) {
-            log.error("Team {} has already started a match!", team);
-            throw new TeamAlreadyInMatchException();
+    private void ensureTeamMatchesCapacity() {
+        if (teamMatches.length < registry.size()) {
+            teamMatches = Arrays.copyOf(teamMatches, Math.max(registry.size(), 2 * teamMatches.length));
+        }
+    }
+
+    private void validateTeamsIds(int homeTeamId, int awayTeamId) {
+        registry.validateId(homeTeamId);
+        registry.validateId(awayTeamId);
+
+        if (homeTeamId == awayTeamId) {
+            log.error("HomeTeam cannot be the same as awayTeam!");
+            throw new NotUniquePairException();
         }
     }
 
-    private boolean checkIfTeamHasStartedGame(String team) {
-        return matches.containsKey(team) || checkIfTeamPlaysAsAwayTeam(team);
+    private void validateExistingGames(int homeTeamId, int awayTeamId) {
+        log.trace("Validate existing games");
+
+        checkIfTeamsHaveAlreadyStartedGame(homeTeamId, awayTeamId);
+        checkIfTeamHasAlreadyStartedDifferentGame(homeTeamId);
+        checkIfTeamHasAlreadyStartedDifferentGame(awayTeamId);
+    }
+
+    private void checkIfTeamsHaveAlreadyStartedGame(int homeTeamId, int awayTeamId) {
+        if (checkIfHomeTeamIsPlayingWithAwayTeam(homeTeamId, awayTeamId)) {
+            log.error("Teams {} and {} have already started a match!", registry.getName(homeTeamId), registry.getName(awayTeamId));
+            throw new MatchAlreadyStartedException();
+        }
     }
 
-    private boolean checkIfTeamPlaysAsAwayTeam(String team) {
-        return matches.values().stream().anyMatch(t -> t.getAwayTeam().equals(team));
+    private boolean checkIfHomeTeamIsPlayingWithAwayTeam(int homeTeamId, int awayTeamId) {
+        return findMatch(homeTeamId, awayTeamId) != null;
+    }
+
+    private void checkIfTeamHasAlreadyStartedDifferentGame(int teamId) {
+        if (getTeamMatch(teamId) != null) {
+            log.error("Team {} has already started a match!", registry.getName(teamId));
+            throw new TeamAlreadyInMatchException();
+        }
+    }
+
+    /**
+     * @param teamId id of the team or -1 if the team is not registered
+     * @return match of the team or null if the team doesn't play at the moment
+     */
+    private Match getTeamMatch(int teamId) {
+        return teamId >= 0 && teamId < teamMatches.length ? teamMatches[teamId] : null;
     }
 
     /**
@@ -93,34 +265,155 @@ public class Scoreboard {
      * @param homeScore
      * @param awayScore
      */
+    @Override
     public void updateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
-        log.info("Update score of a match {} {} - {} {}", homeTeam, homeScore, awayTeam, awayScore);
+        if (log.isDebugEnabled()) {
+            log.debug("Update score of a match {} {} - {} {}", homeTeam, homeScore, awayTeam, awayScore);
+        }
 
-        validateTeamsNames(homeTeam, awayTeam);
+        updateScore(getExistingMatch(homeTeam, awayTeam), homeScore, awayScore);
+    }
 
-        homeTeam = homeTeam.toUpperCase();
-        awayTeam = awayTeam.toUpperCase();
+    /**
+     * Updates existing game score, teams are given by their ids in the {@link TeamRegistry} of the Scoreboard
+     * It throws an IllegalArgumentExceptions if either homeTeamId or awayTeamId is not registered
+     * It throws a NotUniquePairException if teams ids are the same
+     * It throws a MatchDoesntExistException if homeTeam doesn't have any match
+     * It throws a MatchDoesntExistException if match between homeTeam and awayTeam doesn't exist
+     *
+     * @param homeTeamId
+     * @param awayTeamId
+     * @param homeScore
+     * @param awayScore
+     */
+    public void updateGame(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        if (log.isDebugEnabled()) {
+            log.debug("Update score of a match with ids {} {} - {} {}", homeTeamId, homeScore, awayTeamId, awayScore);
+        }
 
-        validateIfHomeTeamExists(homeTeam);
-        validateIfMatchExists(homeTeam, awayTeam);
+        updateScore(getExistingMatch(homeTeamId, awayTeamId), homeScore, awayScore);
+    }
 
-        matches.get(homeTeam).updateScore(homeScore, awayScore);
+    /**
+     * Updates existing game score like {@link #updateGame(String, String, int, int)},
+     * without exceptions and error logs for rejected updates
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+        Match match = null;
+
+        if (status.isApplied()) {
+            match = findMatch(registry.findId(homeTeam), registry.findId(awayTeam));
+            status = match == null ? OperationStatus.MATCH_DOESNT_EXIST : status;
+        }
+        if (status.isApplied() && (homeScore < 0 || awayScore < 0)) {
+            status = OperationStatus.INVALID_ARGUMENT;
+        }
+        if (status.isApplied()) {
+            updateScore(match, homeScore, awayScore);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Update of a match {} {} - {} {} rejected: {}", homeTeam, homeScore, awayTeam, awayScore, status);
+        }
 
-        log.info("Match score updated!");
+        return status;
     }
 
-    private void validateIfHomeTeamExists(String homeTeam) {
-        if (!matches.containsKey(homeTeam)) {
-            log.error("HomeTeam {} doesn't exist!", homeTeam);
-            throw new MatchDoesntExistException();
+    /**
+     * Updates existing game score unless an update of the match with the same or a later sequence was applied,
+     * see {@link LiveScoreboard#tryUpdateGame(String, String, int, int, long)}
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @param sequence  sequence of the update, greater than 0
+     * @return APPLIED, DUPLICATE_UPDATE or STALE_UPDATE for dropped updates, or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+        Match match = null;
+
+        if (status.isApplied()) {
+            match = findMatch(registry.findId(homeTeam), registry.findId(awayTeam));
+            status = match == null ? OperationStatus.MATCH_DOESNT_EXIST : status;
+        }
+        if (status.isApplied() && (homeScore < 0 || awayScore < 0 || sequence < 1)) {
+            status = OperationStatus.INVALID_ARGUMENT;
+        }
+        if (status.isApplied()) {
+            status = match.checkUpdateSequence(sequence);
+        }
+        if (status.isApplied()) {
+            match.setUpdateSequence(sequence);
+            updateScore(match, homeScore, awayScore);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Update {} of a match {} {} - {} {} dropped: {}", sequence, homeTeam, homeScore, awayTeam,
+                    awayScore, status);
         }
+
+        return status;
+    }
+
+    private void updateScore(Match match, int homeScore, int awayScore) {
+        RankedMatchIndex.Node node = ranking.remove(match);
+        try {
+            match.updateScore(homeScore, awayScore);
+        } finally {
+            ranking.add(node);
+        }
+
+        notifyScoreUpdated(match);
+
+        log.trace("Match score updated!");
     }
 
-    private void validateIfMatchExists(String homeTeam, String awayTeam) {
-        if (!checkIfHomeTeamIsPlayingWithAwayTeam(homeTeam, awayTeam)) {
-            log.error("Match between HomeTeam {} and AwayTeam {} doesn't exist", homeTeam, awayTeam);
+    private Match getExistingMatch(String homeTeam, String awayTeam) {
+        validateTeamsNames(homeTeam, awayTeam);
+
+        return getMatch(registry.findId(homeTeam), registry.findId(awayTeam), homeTeam, awayTeam);
+    }
+
+    private Match getExistingMatch(int homeTeamId, int awayTeamId) {
+        validateTeamsIds(homeTeamId, awayTeamId);
+
+        return getMatch(homeTeamId, awayTeamId, null, null);
+    }
+
+    /**
+     * @return match between the teams or null if there is no such match
+     */
+    private Match findMatch(int homeTeamId, int awayTeamId) {
+        Match match = getTeamMatch(homeTeamId);
+
+        return match != null && match.getHomeTeamId() == homeTeamId && match.getAwayTeamId() == awayTeamId ? match : null;
+    }
+
+    /**
+     * @param homeTeam name used in the error log if given, otherwise it comes from the registry
+     * @param awayTeam name used in the error log if given, otherwise it comes from the registry
+     */
+    private Match getMatch(int homeTeamId, int awayTeamId, String homeTeam, String awayTeam) {
+        Match match = getTeamMatch(homeTeamId);
+
+        if (match == null || match.getHomeTeamId() != homeTeamId) {
+            log.error("HomeTeam {} doesn't exist!", homeTeam != null ? homeTeam.toUpperCase() : registry.getName(homeTeamId));
+            throw new MatchDoesntExistException();
+        }
+        if (match.getAwayTeamId() != awayTeamId) {
+            log.error("Match between HomeTeam {} and AwayTeam {} doesn't exist", match.getHomeTeam(),
+                    awayTeam != null ? awayTeam.toUpperCase() : registry.getName(awayTeamId));
             throw new MatchDoesntExistException();
         }
+
+        return match;
     }
 
     /**
@@ -134,35 +427,371 @@ public class Scoreboard {
      * @param homeTeam
      * @param awayTeam
      */
+    @Override
     public void finishGame(String homeTeam, String awayTeam) {
-        log.info("Finish game between {} and {}", homeTeam, awayTeam);
+        log.debug("Finish game between {} and {}", homeTeam, awayTeam);
 
-        validateTeamsNames(homeTeam, awayTeam);
+        removeGame(getExistingMatch(homeTeam, awayTeam));
+    }
+
+    /**
+     * Removes existing game from Scoreboard, teams are given by their ids in the {@link TeamRegistry} of the Scoreboard
+     * It throws an IllegalArgumentExceptions if either homeTeamId or awayTeamId is not registered
+     * It throws a NotUniquePairException if teams ids are the same
+     * It throws a MatchDoesntExistException if homeTeam doesn't have any match
+     * It throws a MatchDoesntExistException if match between homeTeam and awayTeam doesn't exist
+     *
+     * @param homeTeamId
+     * @param awayTeamId
+     */
+    public void finishGame(int homeTeamId, int awayTeamId) {
+        if (log.isDebugEnabled()) {
+            log.debug("Finish game between ids {} and {}", homeTeamId, awayTeamId);
+        }
+
+        removeGame(getExistingMatch(homeTeamId, awayTeamId));
+    }
+
+    /**
+     * Removes existing game like {@link #finishGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryFinishGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+        Match match = null;
+
+        if (status.isApplied()) {
+            match = findMatch(registry.findId(homeTeam), registry.findId(awayTeam));
+            status = match == null ? OperationStatus.MATCH_DOESNT_EXIST : status;
+        }
+        if (status.isApplied()) {
+            removeGame(match);
+        } else {
+            log.debug("Finish of a game between {} and {} rejected: {}", homeTeam, awayTeam, status);
+        }
+
+        return status;
+    }
+
+    private void removeGame(Match match) {
+        teamMatches[match.getHomeTeamId()] = null;
+        teamMatches[match.getAwayTeamId()] = null;
+        ranking.remove(match);
+        version++;
+
+        for (ScoreboardListener listener : listeners) {
+            listener.gameFinished(match);
+        }
+    }
+
+    private void notifyScoreUpdated(Match match) {
+        version++;
+
+        for (ScoreboardListener listener : listeners) {
+            listener.scoreUpdated(match);
+        }
+    }
+
+    /**
+     * Adds many new games to Scoreboard
+     * Every game is validated like in startNewGame, a rejected game doesn't stop the rest of the batch
+     *
+     * @param games
+     * @return number of started games and failures of rejected ones
+     */
+    public BatchResult<TeamPair> startNewGames(Collection<TeamPair> games) {
+        if (log.isDebugEnabled()) {
+            log.debug("Starting {} new games", games.size());
+        }
+
+        BatchResult<TeamPair> result = new BatchResult<>();
+        int index = 0;
+
+        for (TeamPair game : games) {
+            try {
+                addGame(game.getHomeTeam(), game.getAwayTeam());
+                result.applied();
+            } catch (RuntimeException e) {
+                result.failed(index, game, e);
+            }
+            index++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Updates scores of many existing games
+     * Every update is validated like in updateGame, a rejected update doesn't stop the rest of the batch.
+     * Updates are applied in order, so the last update of a match wins.
+     * Note: order of the summary is fixed once per updated match, at the end of the batch.
+     * Listeners are called once per changed match, with its last score, after the whole batch was applied.
+     *
+     * @param updates
+     * @return number of applied updates and failures of rejected ones
+     */
+    public BatchResult<ScoreUpdate> updateGames(Collection<ScoreUpdate> updates) {
+        if (log.isDebugEnabled()) {
+            log.debug("Update scores of {} matches", updates.size());
+        }
+
+        BatchResult<ScoreUpdate> result = new BatchResult<>();
+        Map<Match, RankedMatchIndex.Node> updated = new IdentityHashMap<>();
+        Set<Match> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Match> changedInOrder = new ArrayList<>();
+        int index = 0;
+
+        try {
+            for (ScoreUpdate update : updates) {
+                try {
+                    Match match = getExistingMatch(update.getHomeTeam(), update.getAwayTeam());
+
+                    if (!updated.containsKey(match)) {
+                        updated.put(match, ranking.remove(match));
+                    }
+                    match.updateScore(update.getHomeScore(), update.getAwayScore());
+                    if (changed.add(match)) {
+                        changedInOrder.add(match);
+                    }
+                    result.applied();
+                } catch (RuntimeException e) {
+                    result.failed(index, update, e);
+                }
+                index++;
+            }
+        } finally {
+            updated.values().forEach(ranking::add);
+        }
+
+        // listeners see the whole batch in the summary, and a new version for every changed match
+        for (Match match : changedInOrder) {
+            notifyScoreUpdated(match);
+        }
 
-        homeTeam = homeTeam.toUpperCase();
-        awayTeam = awayTeam.toUpperCase();
+        return result;
+    }
+
+    /**
+     * Removes many existing games from Scoreboard
+     * Every game is validated like in finishGame, a rejected game doesn't stop the rest of the batch
+     *
+     * @param games
+     * @return number of finished games and failures of rejected ones
+     */
+    public BatchResult<TeamPair> finishGames(Collection<TeamPair> games) {
+        if (log.isDebugEnabled()) {
+            log.debug("Finish {} games", games.size());
+        }
+
+        BatchResult<TeamPair> result = new BatchResult<>();
+        int index = 0;
+
+        for (TeamPair game : games) {
+            try {
+                removeGame(getExistingMatch(game.getHomeTeam(), game.getAwayTeam()));
+                result.applied();
+            } catch (RuntimeException e) {
+                result.failed(index, game, e);
+            }
+            index++;
+        }
 
-        validateIfHomeTeamExists(homeTeam);
-        validateIfMatchExists(homeTeam, awayTeam);
+        return result;
+    }
+
+    /**
+     * Finds the match in progress in which given team plays, either as homeTeam or awayTeam
+     * Note: It converts given team name to upper case.
+     * It throws an IllegalArgumentExceptions if team name is null or empty
+     *
+     * @param team
+     * @return match of the team or empty Optional if the team doesn't play at the moment
+     */
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        log.debug("Find match of team {}", team);
+
+        validateTeamName(team);
 
-        matches.remove(homeTeam);
+        return Optional.ofNullable(getTeamMatch(registry.findId(team)));
     }
 
     /**
-     * Sorts existing matches by total score in descending order, then sorts by start time in ascending order
+     * Lists existing matches in order of the {@link RankingPolicy} of the Scoreboard, by default by total score
+     * in descending order, then by start time in ascending order
+     * Note: matches are kept in that order as they change, so no sorting is done here.
      *
      * @return sorted list of existing matches
      */
+    @Override
     public List<Match> getSummary() {
-        log.info("Get scoreboard summary");
+        log.debug("Get scoreboard summary");
 
-        List<Match> list = new ArrayList<>(matches.values());
-        list.sort(new MatchComparator());
+        List<Match> list = new ArrayList<>(ranking.size());
+        ranking.forEach(list::add);
 
         return list;
     }
 
+    /**
+     * Summary rendered in given format, it is rendered once per format and version of the Scoreboard,
+     * so reads between changes only hand over the rendered bytes
+     *
+     * @param format
+     * @return read-only buffer of the rendered summary, owned by the caller
+     */
+    public ByteBuffer getRenderedSummary(SummaryFormat format) {
+        log.debug("Get scoreboard summary rendered as {}", format);
+
+        if (rendered == null || rendered.getVersion() != version) {
+            rendered = new RenderedSummary(version);
+        }
+
+        return rendered.get(format, this::getSummary);
+    }
+
+    /**
+     * Lists one page of the summary, it takes O(log n + limit) as matches are kept in summary order
+     * It throws an IllegalArgumentException if either offset or limit is lower than 0
+     *
+     * @param offset position of the first match of the page in the summary, starting from 0
+     * @param limit  maximal number of matches of the page
+     * @return at most limit matches in summary order, empty if offset is past the end of the summary
+     */
+    @Override
+    public List<Match> getSummary(int offset, int limit) {
+        if (log.isDebugEnabled()) {
+            log.debug("Get {} matches of scoreboard summary from {}", limit, offset);
+        }
+
+        SummaryPage.validate(offset, limit);
+
+        return ranking.range(offset, limit);
+    }
+
+    /**
+     * Streams matches in summary order lazily, walking the ordered index only as far as the stream is consumed
+     * Note: It throws a ConcurrentModificationException if the Scoreboard changes while the stream is consumed.
+     *
+     * @return sequential stream of existing matches sorted like {@link #getSummary()}
+     */
+    @Override
+    public Stream<Match> streamSummary() {
+        log.debug("Stream scoreboard summary");
+
+        Spliterator<Match> spliterator = Spliterators.spliterator(ranking.iterator(), ranking.size(),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Lists first k matches of the summary
+     * It throws an IllegalArgumentException if k is lower than 0
+     *
+     * @param k
+     * @return at most k matches in summary order
+     */
+    public List<Match> getTopMatches(int k) {
+        if (log.isDebugEnabled()) {
+            log.debug("Get top {} matches", k);
+        }
+
+        if (k < 0) {
+            log.error("Number of top matches cannot be a negative number! Current value: {}", k);
+            throw new IllegalArgumentException();
+        }
+
+        return ranking.first(k);
+    }
+
+    /**
+     * Finds position of the match in the summary
+     * Note: It converts given team names to upper case.
+     * It validates teams names
+     * It throws a MatchDoesntExistException if match between homeTeam and awayTeam doesn't exist
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return position of the match in the summary, starting from 1
+     */
+    public int getRank(String homeTeam, String awayTeam) {
+        log.debug("Get rank of a match between {} and {}", homeTeam, awayTeam);
+
+        return ranking.rank(getExistingMatch(homeTeam, awayTeam)) + 1;
+    }
+
+    /**
+     * Loads matches into an empty Scoreboard at once, listeners are not called
+     * It throws an IllegalStateException if the Scoreboard is not empty or a team is in more than one match
+     *
+     * @param startOrder matches with upper case team names and their ids in the registry of this Scoreboard,
+     *                   in order in which they were started
+     */
+    void load(List<Match> startOrder) {
+        if (ranking.size() > 0) {
+            log.error("Matches can be loaded into an empty scoreboard only!");
+            throw new IllegalStateException("Scoreboard is not empty");
+        }
+
+        ensureTeamMatchesCapacity();
+        for (Match match : startOrder) {
+            boolean unique = teamMatches[match.getHomeTeamId()] == null
+                    && teamMatches[match.getAwayTeamId()] == null
+                    && match.getHomeTeamId() != match.getAwayTeamId();
+
+            if (unique) {
+                if (match.getRankingPolicy() != rankingPolicy) {
+                    match.rankBy(rankingPolicy);
+                }
+                teamMatches[match.getHomeTeamId()] = match;
+                teamMatches[match.getAwayTeamId()] = match;
+            } else {
+                Arrays.fill(teamMatches, null);
+                log.error("Team of match {} - {} is already in a different match!", match.getHomeTeam(), match.getAwayTeam());
+                throw new IllegalStateException("Team is in more than one match");
+            }
+        }
+
+        Match[] sorted = startOrder.toArray(new Match[0]);
+        RankingPolicy.sortByKey(sorted);
+        ranking.build(sorted);
+        version++;
+    }
+
+    /**
+     * @param match live match of the Scoreboard
+     * @return zero based position of the match in the summary or -1 if it is not on the Scoreboard
+     */
+    int rankOf(Match match) {
+        return ranking.rank(match);
+    }
+
+    /**
+     * @return matches in order in which they were started
+     */
+    List<Match> getMatchesInStartOrder() {
+        Match[] startOrder = new Match[ranking.size()];
+        int i = 0;
+        for (Match match : ranking) {
+            startOrder[i++] = match;
+        }
+        Arrays.sort(startOrder, Comparator.comparingLong(Match::getStartSequence));
+
+        return Arrays.asList(startOrder);
+    }
+
+    /**
+     * @return matches by their home team
+     */
     Map<String, Match> getScores() {
-        return matches;
+        Map<String, Match> scores = new HashMap<>();
+        ranking.forEach(match -> scores.put(match.getHomeTeam(), match));
+
+        return scores;
     }
 }
@@ -0,0 +1,81 @@
+package scoreboard;
+
+import java.util.Objects;
+
+/**
+ * Immutable change of a scoreboard published by {@link ScoreboardFeed}
+ */
+public final class ScoreboardEvent {
+    private final Type type;
+    private final String homeTeam;
+    private final String awayTeam;
+    private final int homeTeamScore;
+    private final int awayTeamScore;
+
+    public ScoreboardEvent(Type type, String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        this.type = type;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeTeamScore = homeTeamScore;
+        this.awayTeamScore = awayTeamScore;
+    }
+
+    static ScoreboardEvent of(Type type, Match match) {
+        return new ScoreboardEvent(type, match.getHomeTeam(), match.getAwayTeam(),
+                match.getHomeTeamScore(), match.getAwayTeamScore());
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public int getHomeTeamScore() {
+        return homeTeamScore;
+    }
+
+    public int getAwayTeamScore() {
+        return awayTeamScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ScoreboardEvent event = (ScoreboardEvent) o;
+
+        return type == event.type
+                && homeTeamScore == event.homeTeamScore
+                && awayTeamScore == event.awayTeamScore
+                && Objects.equals(homeTeam, event.homeTeam)
+                && Objects.equals(awayTeam, event.awayTeam);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, homeTeam, awayTeam, homeTeamScore, awayTeamScore);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + homeTeam + " " + homeTeamScore + " - " + awayTeam + " " + awayTeamScore;
+    }
+
+    public enum Type {
+        STARTED,
+        UPDATED,
+        FINISHED
+    }
+}
@@ -0,0 +1,244 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publisher of scoreboard changes. Register it with {@link Scoreboard#addListener(ScoreboardListener)}.
+ * Every subscriber has its own bounded buffer drained on the executor, so the thread changing the scoreboard
+ * never waits for subscribers.
+ * When a subscriber lags, pending updates of the same match are conflated into the latest one
+ * and a pending update is dropped when the match finishes, as the finish event carries the final score.
+ * A subscriber whose buffer overflows anyway gets onError with {@link IllegalStateException} and is cancelled.
+ */
+public class ScoreboardFeed implements Flow.Publisher<ScoreboardEvent>, ScoreboardListener {
+    private static final Logger log = LogManager.getLogger("ScoreboardFeed");
+
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final List<FeedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public ScoreboardFeed() {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * @param executor       executor delivering events to subscribers
+     * @param bufferCapacity maximal number of events pending for a single subscriber
+     */
+    public ScoreboardFeed(Executor executor, int bufferCapacity) {
+        if (bufferCapacity < 1) {
+            log.error("Buffer capacity has to be a positive number! Current value: {}", bufferCapacity);
+            throw new IllegalArgumentException();
+        }
+
+        this.executor = Objects.requireNonNull(executor);
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        FeedSubscription subscription = new FeedSubscription(Objects.requireNonNull(subscriber));
+
+        subscriptions.add(subscription);
+        subscription.signal();
+    }
+
+    /**
+     * Completes every subscriber after its pending events are delivered
+     */
+    public void close() {
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * @return number of active subscribers
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public void gameStarted(Match match) {
+        publish(ScoreboardEvent.of(ScoreboardEvent.Type.STARTED, match));
+    }
+
+    @Override
+    public void scoreUpdated(Match match) {
+        publish(ScoreboardEvent.of(ScoreboardEvent.Type.UPDATED, match));
+    }
+
+    @Override
+    public void gameFinished(Match match) {
+        publish(ScoreboardEvent.of(ScoreboardEvent.Type.FINISHED, match));
+    }
+
+    private void publish(ScoreboardEvent event) {
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    private final class FeedSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super ScoreboardEvent> subscriber;
+        private final AtomicInteger pendingSignals = new AtomicInteger();
+        private final Map<Object, ScoreboardEvent> pending = new LinkedHashMap<>();
+        private boolean subscribed;
+        private boolean cancelled;
+        private boolean completed;
+        private Throwable error;
+        private long demand;
+
+        private FeedSubscription(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void offer(ScoreboardEvent event) {
+            synchronized (this) {
+                if (cancelled || completed || error != null) {
+                    return;
+                }
+
+                if (!enqueue(event)) {
+                    log.error("Subscriber buffer overflow, capacity: {}", bufferCapacity);
+                    pending.clear();
+                    error = new IllegalStateException("Subscriber buffer overflow");
+                }
+            }
+
+            signal();
+        }
+
+        private boolean enqueue(ScoreboardEvent event) {
+            switch (event.getType()) {
+                case UPDATED:
+                    if (pending.containsKey(event.getHomeTeam())) {
+                        pending.put(event.getHomeTeam(), event);
+                        return true;
+                    }
+                    return put(event.getHomeTeam(), event);
+                case FINISHED:
+                    pending.remove(event.getHomeTeam());
+                    return put(new Object(), event);
+                default:
+                    return put(new Object(), event);
+            }
+        }
+
+        private boolean put(Object key, ScoreboardEvent event) {
+            if (pending.size() >= bufferCapacity) {
+                return false;
+            }
+
+            pending.put(key, event);
+            return true;
+        }
+
+        private synchronized void complete() {
+            completed = true;
+            signal();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    pending.clear();
+                    error = new IllegalArgumentException("Requested number of events has to be positive: " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                pending.clear();
+            }
+
+            subscriptions.remove(this);
+        }
+
+        private void signal() {
+            if (pendingSignals.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int signals = pendingSignals.get();
+
+            do {
+                drain();
+                signals = pendingSignals.addAndGet(-signals);
+            } while (signals != 0);
+        }
+
+        private void drain() {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+
+            while (true) {
+                ScoreboardEvent event;
+                Throwable failure = null;
+                boolean done = false;
+
+                synchronized (this) {
+                    if (cancelled) {
+                        return;
+                    }
+
+                    if (error != null) {
+                        failure = error;
+                        cancelled = true;
+                        event = null;
+                    } else if (demand > 0 && !pending.isEmpty()) {
+                        Iterator<ScoreboardEvent> iterator = pending.values().iterator();
+                        event = iterator.next();
+                        iterator.remove();
+                        demand--;
+                    } else if (completed && pending.isEmpty()) {
+                        done = true;
+                        cancelled = true;
+                        event = null;
+                    } else {
+                        return;
+                    }
+                }
+
+                if (failure != null) {
+                    subscriptions.remove(this);
+                    subscriber.onError(failure);
+                    return;
+                }
+                if (done) {
+                    subscriptions.remove(this);
+                    subscriber.onComplete();
+                    return;
+                }
+
+                subscriber.onNext(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,448 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of scoreboard changes, register it with {@link Scoreboard#addListener(ScoreboardListener)}.
+ * Records are collected in a buffer and written with a single write, and optionally a single fsync,
+ * per group of groupCommitSize records, or once maxCommitDelay after the group was started, whichever comes first.
+ * Records of the last, not committed group are lost on a crash.
+ * <p>
+ * Changes are journaled after the scoreboard applied them, as listeners are called.
+ * A failed write doesn't fail the change, which is applied already: the journal logs the error, stops journaling
+ * and reports the failure from {@link #commit()}, {@link #checkpoint(Scoreboard)} and {@link #close()}.
+ * <p>
+ * {@link #checkpoint(Scoreboard)} replaces the journal with the live matches of the scoreboard. It has to be called
+ * when the journal is registered with a scoreboard which has matches already, and keeps the journal short when it
+ * is called after recovery or from time to time.
+ * <p>
+ * Record layout: payload length (int), CRC32C of the payload (int), payload:
+ * type (byte), home team (short length + UTF-8), away team (short length + UTF-8),
+ * for updates home score (int), away score (int), and for updates of a match with sequenced updates
+ * also the last applied update sequence (long), so recovered matches keep dropping stale updates of their feeds.
+ */
+public class ScoreboardJournal implements ScoreboardListener, Closeable {
+    private static final Logger log = LogManager.getLogger("ScoreboardJournal");
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int MAX_NAME_LENGTH = 0xFFFF;
+    private static final byte STARTED = 1;
+    private static final byte UPDATED = 2;
+    private static final byte FINISHED = 3;
+    private static final byte UPDATED_SEQUENCED = 4;
+    private static final Duration DEFAULT_MAX_COMMIT_DELAY = Duration.ofMillis(10);
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final CRC32C checksum;
+    private final int groupCommitSize;
+    private final boolean syncOnCommit;
+    private final ScheduledThreadPoolExecutor committer;
+    private FileChannel channel;
+    private int pendingRecords;
+    private IOException failure;
+
+    private ScoreboardJournal(Path path, FileChannel channel, int groupCommitSize, long maxCommitDelayNanos,
+                              boolean syncOnCommit) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.checksum = new CRC32C();
+        this.groupCommitSize = groupCommitSize;
+        this.syncOnCommit = syncOnCommit;
+        this.committer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-journal-committer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        committer.scheduleAtFixedRate(this::commitPending, maxCommitDelayNanos, maxCommitDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Opens journal for appending like {@link #open(Path, int, Duration, boolean)}, pending records are committed
+     * at least every 10 ms
+     *
+     * @param path
+     * @param groupCommitSize number of records written together
+     * @param syncOnCommit    whether every group is forced to the storage device
+     * @return journal appending at the end of the file
+     * @throws IOException
+     */
+    public static ScoreboardJournal open(Path path, int groupCommitSize, boolean syncOnCommit) throws IOException {
+        return open(path, groupCommitSize, DEFAULT_MAX_COMMIT_DELAY, syncOnCommit);
+    }
+
+    /**
+     * Opens journal for appending, creates the file if it doesn't exist
+     * It throws an IllegalArgumentException if groupCommitSize is lower than 1
+     * It throws an IllegalArgumentException if maxCommitDelay is not positive
+     *
+     * @param path
+     * @param groupCommitSize number of records written together
+     * @param maxCommitDelay  longest time a record waits for the rest of its group before it is written
+     * @param syncOnCommit    whether every group is forced to the storage device
+     * @return journal appending at the end of the file
+     * @throws IOException
+     */
+    public static ScoreboardJournal open(Path path, int groupCommitSize, Duration maxCommitDelay, boolean syncOnCommit)
+            throws IOException {
+        if (groupCommitSize < 1) {
+            log.error("Group commit size has to be a positive number! Current value: {}", groupCommitSize);
+            throw new IllegalArgumentException();
+        }
+        if (Objects.requireNonNull(maxCommitDelay).isNegative() || maxCommitDelay.isZero()) {
+            log.error("Maximal commit delay has to be positive! Current value: {}", maxCommitDelay);
+            throw new IllegalArgumentException();
+        }
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        return new ScoreboardJournal(path, channel, groupCommitSize, maxCommitDelay.toNanos(), syncOnCommit);
+    }
+
+    /**
+     * Replays journal into given scoreboard.
+     * Records are folded into the final state of live matches first, which are then started in their original
+     * start order and updated to their last score, so the scoreboard does the work of live matches only.
+     * A torn record at the end of the journal, left by a crash, is cut off, so the journal can be opened again.
+     * Updates and finishes of matches without a start record, e.g. left by a journal registered with a scoreboard
+     * which had matches already and was never checkpointed, are skipped.
+     * Note: listeners of the scoreboard are called for the recovered matches, so the journal itself shouldn't be
+     * registered with it yet.
+     *
+     * @param path
+     * @param scoreboard
+     * @return number of replayed records
+     * @throws IOException
+     */
+    public static long recover(Path path, Scoreboard scoreboard) throws IOException {
+        log.info("Recover scoreboard from journal {}", path);
+
+        Map<String, RecoveredMatch> liveMatches = new LinkedHashMap<>();
+        long[] orphans = new long[1];
+        long records = replay(path, liveMatches, orphans);
+
+        if (orphans[0] > 0) {
+            log.warn("Skipped {} journal records of matches without a start record", orphans[0]);
+        }
+
+        for (RecoveredMatch match : liveMatches.values()) {
+            scoreboard.startNewGame(match.homeTeam, match.awayTeam);
+            if (match.updateSequence != 0) {
+                scoreboard.tryUpdateGame(match.homeTeam, match.awayTeam, match.homeScore, match.awayScore,
+                        match.updateSequence);
+            } else if (match.homeScore != 0 || match.awayScore != 0) {
+                scoreboard.updateGame(match.homeTeam, match.awayTeam, match.homeScore, match.awayScore);
+            }
+        }
+
+        log.info("Recovered {} live matches from {} journal records", liveMatches.size(), records);
+        return records;
+    }
+
+    private static long replay(Path path, Map<String, RecoveredMatch> liveMatches, long[] orphans) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            CRC32C checksum = new CRC32C();
+            long validLength = 0;
+            long records = 0;
+
+            while (channel.read(buffer) > 0 || buffer.position() > 0) {
+                buffer.flip();
+
+                int before = buffer.remaining();
+                while (buffer.remaining() >= HEADER_SIZE) {
+                    int start = buffer.position();
+                    int length = buffer.getInt(start);
+                    int crc = buffer.getInt(start + Integer.BYTES);
+
+                    if (length <= 0 || length > BUFFER_SIZE - HEADER_SIZE) {
+                        return truncate(channel, validLength, records);
+                    }
+                    if (buffer.remaining() < HEADER_SIZE + length) {
+                        break;
+                    }
+
+                    ByteBuffer payload = buffer.duplicate();
+                    payload.position(start + HEADER_SIZE).limit(start + HEADER_SIZE + length);
+                    checksum.reset();
+                    checksum.update(payload.duplicate());
+                    if ((int) checksum.getValue() != crc) {
+                        return truncate(channel, validLength, records);
+                    }
+
+                    if (!apply(payload, liveMatches)) {
+                        orphans[0]++;
+                    }
+                    buffer.position(start + HEADER_SIZE + length);
+                    validLength += HEADER_SIZE + length;
+                    records++;
+                }
+
+                boolean progress = buffer.remaining() != before;
+                buffer.compact();
+                if (!progress && channel.position() == channel.size()) {
+                    return truncate(channel, validLength, records);
+                }
+            }
+
+            return truncate(channel, validLength, records);
+        }
+    }
+
+    private static long truncate(FileChannel channel, long validLength, long records) throws IOException {
+        if (channel.size() > validLength) {
+            log.warn("Cutting off {} bytes of torn journal records", channel.size() - validLength);
+            channel.truncate(validLength);
+        }
+
+        return records;
+    }
+
+    /**
+     * @return false if the record belongs to a match without a start record
+     */
+    private static boolean apply(ByteBuffer payload, Map<String, RecoveredMatch> liveMatches) {
+        byte type = payload.get();
+        String homeTeam = readName(payload);
+
+        switch (type) {
+            case STARTED:
+                liveMatches.put(homeTeam, new RecoveredMatch(homeTeam, readName(payload)));
+                return true;
+            case UPDATED:
+            case UPDATED_SEQUENCED:
+                skipName(payload);
+                RecoveredMatch match = liveMatches.get(homeTeam);
+                if (match == null) {
+                    return false;
+                }
+                match.homeScore = payload.getInt();
+                match.awayScore = payload.getInt();
+                if (type == UPDATED_SEQUENCED) {
+                    match.updateSequence = payload.getLong();
+                }
+                return true;
+            case FINISHED:
+                return liveMatches.remove(homeTeam) != null;
+            default:
+                throw new IllegalStateException("Unknown journal record type: " + type);
+        }
+    }
+
+    private static void skipName(ByteBuffer payload) {
+        int length = payload.getShort() & 0xFFFF;
+        payload.position(payload.position() + length);
+    }
+
+    private static String readName(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.getShort() & 0xFFFF];
+        payload.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void gameStarted(Match match) {
+        append(STARTED, match);
+    }
+
+    @Override
+    public void scoreUpdated(Match match) {
+        append(updateType(match), match);
+    }
+
+    private static byte updateType(Match match) {
+        return match.getUpdateSequence() != 0 ? UPDATED_SEQUENCED : UPDATED;
+    }
+
+    @Override
+    public void gameFinished(Match match) {
+        append(FINISHED, match);
+    }
+
+    private synchronized void append(byte type, Match match) {
+        if (failure != null) {
+            return;
+        }
+
+        try {
+            put(type, match);
+            if (++pendingRecords >= groupCommitSize) {
+                write();
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void put(byte type, Match match) throws IOException {
+        byte[] homeTeam = match.getHomeTeam().getBytes(StandardCharsets.UTF_8);
+        byte[] awayTeam = match.getAwayTeam().getBytes(StandardCharsets.UTF_8);
+        if (homeTeam.length > MAX_NAME_LENGTH || awayTeam.length > MAX_NAME_LENGTH) {
+            // the change is applied already, so it fails the journal like a failed write instead of the listener call
+            throw new IOException("Team name is too long for the journal, longer than " + MAX_NAME_LENGTH + " bytes");
+        }
+        int length = 1 + Short.BYTES + homeTeam.length + Short.BYTES + awayTeam.length
+                + (type == UPDATED || type == UPDATED_SEQUENCED ? 2 * Integer.BYTES : 0)
+                + (type == UPDATED_SEQUENCED ? Long.BYTES : 0);
+
+        if (buffer.remaining() < HEADER_SIZE + length) {
+            write();
+        }
+
+        int start = buffer.position();
+        buffer.position(start + HEADER_SIZE);
+        buffer.put(type);
+        buffer.putShort((short) homeTeam.length).put(homeTeam);
+        buffer.putShort((short) awayTeam.length).put(awayTeam);
+        if (type == UPDATED || type == UPDATED_SEQUENCED) {
+            buffer.putInt(match.getHomeTeamScore()).putInt(match.getAwayTeamScore());
+        }
+        if (type == UPDATED_SEQUENCED) {
+            buffer.putLong(match.getUpdateSequence());
+        }
+
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(start + HEADER_SIZE).limit(buffer.position());
+        checksum.reset();
+        checksum.update(payload);
+        buffer.putInt(start, length).putInt(start + Integer.BYTES, (int) checksum.getValue());
+    }
+
+    private void write() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+
+        if (syncOnCommit && pendingRecords > 0) {
+            channel.force(false);
+        }
+        pendingRecords = 0;
+    }
+
+    private void fail(IOException e) {
+        log.error("Writing journal failed, changes are not journaled any more", e);
+        failure = e;
+        buffer.clear();
+        pendingRecords = 0;
+    }
+
+    private synchronized void commitPending() {
+        if (pendingRecords > 0 && failure == null) {
+            try {
+                write();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+    }
+
+    /**
+     * Writes all pending records now, forcing them to the storage device if syncOnCommit is set
+     * It throws an UncheckedIOException if the journal failed to write records, now or before
+     */
+    public synchronized void commit() {
+        checkNotFailed();
+        try {
+            write();
+        } catch (IOException e) {
+            fail(e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkNotFailed() {
+        if (failure != null) {
+            throw new UncheckedIOException("Journal failed, changes since the failure are not journaled", failure);
+        }
+    }
+
+    /**
+     * Replaces the journal with start and score records of the live matches of given scoreboard.
+     * The new journal is written aside and moved over the old one, so a crash leaves either of them.
+     * It has to be called by the thread changing the scoreboard, with the journal registered as its listener.
+     * It throws an UncheckedIOException if the journal failed to write records before
+     *
+     * @param scoreboard scoreboard the journal is registered with
+     * @throws IOException
+     */
+    public synchronized void checkpoint(Scoreboard scoreboard) throws IOException {
+        log.info("Checkpoint journal {}", path);
+
+        commit();
+
+        FileChannel journal = channel;
+        Path checkpoint = path.resolveSibling(path.getFileName() + ".checkpoint");
+        channel = FileChannel.open(checkpoint,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            for (Match match : scoreboard.getMatchesInStartOrder()) {
+                put(STARTED, match);
+                if (match.getHomeTeamScore() != 0 || match.getAwayTeamScore() != 0 || match.getUpdateSequence() != 0) {
+                    put(updateType(match), match);
+                }
+            }
+            write();
+            channel.force(false);
+            channel.close();
+            Files.move(checkpoint, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            buffer.clear();
+            channel.close();
+            channel = journal;
+            Files.deleteIfExists(checkpoint);
+            throw e;
+        }
+
+        journal.close();
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void close() throws IOException {
+        committer.shutdownNow();
+        try {
+            commit();
+        } finally {
+            synchronized (this) {
+                channel.close();
+            }
+        }
+    }
+
+    private static final class RecoveredMatch {
+        private final String homeTeam;
+        private final String awayTeam;
+        private int homeScore;
+        private int awayScore;
+        private long updateSequence;
+
+        private RecoveredMatch(String homeTeam, String awayTeam) {
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+        }
+    }
+}
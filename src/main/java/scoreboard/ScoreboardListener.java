@@ -0,0 +1,18 @@
+package scoreboard;
+
+/**
+ * Callback of {@link Scoreboard} changes, called synchronously by the thread which changed the scoreboard,
+ * after the change was applied.
+ * Note: given match is the live object of the scoreboard, listeners should copy what they need and not keep it.
+ */
+public interface ScoreboardListener {
+
+    default void gameStarted(Match match) {
+    }
+
+    default void scoreUpdated(Match match) {
+    }
+
+    default void gameFinished(Match match) {
+    }
+}
@@ -0,0 +1,282 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operation counters, latency histograms and gauges of a scoreboard, filled by {@link MeteredScoreboard}.
+ * Counters are {@link LongAdder}s, so many threads can record at once.
+ * Register it with {@link #register(String)} to publish it as an MXBean named scoreboard:type=ScoreboardMetrics,name=...
+ */
+public class ScoreboardMetrics implements ScoreboardMetricsMXBean {
+    private static final Logger log = LogManager.getLogger("ScoreboardMetrics");
+
+    private final LongAdder startedGames = new LongAdder();
+    private final LongAdder updatedGames = new LongAdder();
+    private final LongAdder finishedGames = new LongAdder();
+    private final LongAdder summaryReads = new LongAdder();
+    private final LongAdder teamLookups = new LongAdder();
+    private final LongAdder matchAlreadyStarted = new LongAdder();
+    private final LongAdder teamAlreadyInMatch = new LongAdder();
+    private final LongAdder matchDoesntExist = new LongAdder();
+    private final LongAdder notUniquePair = new LongAdder();
+    private final LongAdder invalidArgument = new LongAdder();
+    private final LongAdder duplicateUpdates = new LongAdder();
+    private final LongAdder staleUpdates = new LongAdder();
+    private final LongAdder liveMatches = new LongAdder();
+    private volatile int lastSummarySize;
+
+    private final LatencyHistogram startLatency = new LatencyHistogram();
+    private final LatencyHistogram updateLatency = new LatencyHistogram();
+    private final LatencyHistogram finishLatency = new LatencyHistogram();
+    private final LatencyHistogram summaryLatency = new LatencyHistogram();
+
+    private ObjectName objectName;
+
+    /**
+     * Publishes the metrics in the platform MBean server
+     * It throws an IllegalStateException if the metrics are already registered or the name is taken
+     *
+     * @param name value of the name key of the ObjectName
+     */
+    public synchronized void register(String name) {
+        if (objectName != null) {
+            log.error("Metrics are already registered as {}!", objectName);
+            throw new IllegalStateException("Metrics are already registered as " + objectName);
+        }
+
+        try {
+            ObjectName registered = ObjectName.getInstance("scoreboard:type=ScoreboardMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, registered);
+            objectName = registered;
+        } catch (JMException e) {
+            log.error("Metrics could not be registered as {}!", name, e);
+            throw new IllegalStateException("Metrics could not be registered", e);
+        }
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server, if they are registered
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            log.warn("Metrics {} were already unregistered", objectName);
+        }
+        objectName = null;
+    }
+
+    /**
+     * @return name of the registered MXBean or null if it is not registered
+     */
+    public synchronized ObjectName getObjectName() {
+        return objectName;
+    }
+
+    void started(long nanos) {
+        startedGames.increment();
+        liveMatches.increment();
+        record(startLatency, nanos);
+    }
+
+    void updated(long nanos) {
+        updatedGames.increment();
+        record(updateLatency, nanos);
+    }
+
+    void finished(long nanos) {
+        finishedGames.increment();
+        liveMatches.decrement();
+        record(finishLatency, nanos);
+    }
+
+    void summaryRead(int size, long nanos) {
+        summaryReads.increment();
+        lastSummarySize = size;
+        record(summaryLatency, nanos);
+    }
+
+    void teamLookedUp() {
+        teamLookups.increment();
+    }
+
+    void liveMatches(long count) {
+        liveMatches.add(count);
+    }
+
+    private static void record(LatencyHistogram histogram, long nanos) {
+        if (nanos >= 0) {
+            histogram.record(nanos);
+        }
+    }
+
+    /**
+     * Counts the rejection by its exception type
+     *
+     * @param e
+     */
+    void rejected(RuntimeException e) {
+        OperationStatus status = OperationStatus.of(e);
+
+        if (status != null) {
+            rejected(status);
+        }
+    }
+
+    /**
+     * Counts the rejection of a try operation
+     *
+     * @param status
+     */
+    void rejected(OperationStatus status) {
+        switch (status) {
+            case MATCH_ALREADY_STARTED:
+                matchAlreadyStarted.increment();
+                break;
+            case TEAM_ALREADY_IN_MATCH:
+                teamAlreadyInMatch.increment();
+                break;
+            case MATCH_DOESNT_EXIST:
+                matchDoesntExist.increment();
+                break;
+            case NOT_UNIQUE_PAIR:
+                notUniquePair.increment();
+                break;
+            case INVALID_ARGUMENT:
+                invalidArgument.increment();
+                break;
+            case DUPLICATE_UPDATE:
+                duplicateUpdates.increment();
+                break;
+            case STALE_UPDATE:
+                staleUpdates.increment();
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public long getStartedGames() {
+        return startedGames.sum();
+    }
+
+    @Override
+    public long getUpdatedGames() {
+        return updatedGames.sum();
+    }
+
+    @Override
+    public long getFinishedGames() {
+        return finishedGames.sum();
+    }
+
+    @Override
+    public long getSummaryReads() {
+        return summaryReads.sum();
+    }
+
+    @Override
+    public long getTeamLookups() {
+        return teamLookups.sum();
+    }
+
+    @Override
+    public long getMatchAlreadyStartedRejections() {
+        return matchAlreadyStarted.sum();
+    }
+
+    @Override
+    public long getTeamAlreadyInMatchRejections() {
+        return teamAlreadyInMatch.sum();
+    }
+
+    @Override
+    public long getMatchDoesntExistRejections() {
+        return matchDoesntExist.sum();
+    }
+
+    @Override
+    public long getNotUniquePairRejections() {
+        return notUniquePair.sum();
+    }
+
+    @Override
+    public long getInvalidArgumentRejections() {
+        return invalidArgument.sum();
+    }
+
+    @Override
+    public long getDuplicateUpdateDrops() {
+        return duplicateUpdates.sum();
+    }
+
+    @Override
+    public long getStaleUpdateDrops() {
+        return staleUpdates.sum();
+    }
+
+    @Override
+    public long getLiveMatches() {
+        return liveMatches.sum();
+    }
+
+    @Override
+    public int getLastSummarySize() {
+        return lastSummarySize;
+    }
+
+    @Override
+    public LatencySnapshot getStartLatency() {
+        return startLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getUpdateLatency() {
+        return updateLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getFinishLatency() {
+        return finishLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getSummaryLatency() {
+        return summaryLatency.snapshot();
+    }
+
+    @Override
+    public void reset() {
+        startedGames.reset();
+        updatedGames.reset();
+        finishedGames.reset();
+        summaryReads.reset();
+        teamLookups.reset();
+        matchAlreadyStarted.reset();
+        teamAlreadyInMatch.reset();
+        matchDoesntExist.reset();
+        notUniquePair.reset();
+        invalidArgument.reset();
+        duplicateUpdates.reset();
+        staleUpdates.reset();
+        startLatency.reset();
+        updateLatency.reset();
+        finishLatency.reset();
+        summaryLatency.reset();
+
+        log.info("Metrics reset");
+    }
+}
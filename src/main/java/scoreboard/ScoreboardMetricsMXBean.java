@@ -0,0 +1,75 @@
+package scoreboard;
+
+/**
+ * Operation counters, latencies and gauges of a scoreboard, see {@link ScoreboardMetrics}
+ */
+public interface ScoreboardMetricsMXBean {
+
+    long getStartedGames();
+
+    long getUpdatedGames();
+
+    long getFinishedGames();
+
+    long getSummaryReads();
+
+    long getTeamLookups();
+
+    /**
+     * @return operations rejected with a MatchAlreadyStartedException
+     */
+    long getMatchAlreadyStartedRejections();
+
+    /**
+     * @return operations rejected with a TeamAlreadyInMatchException
+     */
+    long getTeamAlreadyInMatchRejections();
+
+    /**
+     * @return operations rejected with a MatchDoesntExistException
+     */
+    long getMatchDoesntExistRejections();
+
+    /**
+     * @return operations rejected with a NotUniquePairException
+     */
+    long getNotUniquePairRejections();
+
+    /**
+     * @return operations rejected with an IllegalArgumentException, e.g. empty team name or negative score
+     */
+    long getInvalidArgumentRejections();
+
+    /**
+     * @return sequenced updates dropped as an update with the same sequence was applied already
+     */
+    long getDuplicateUpdateDrops();
+
+    /**
+     * @return sequenced updates dropped as an update with a later sequence was applied already
+     */
+    long getStaleUpdateDrops();
+
+    /**
+     * @return number of matches in progress
+     */
+    long getLiveMatches();
+
+    /**
+     * @return number of matches in the last read summary
+     */
+    int getLastSummarySize();
+
+    LatencySnapshot getStartLatency();
+
+    LatencySnapshot getUpdateLatency();
+
+    LatencySnapshot getFinishLatency();
+
+    LatencySnapshot getSummaryLatency();
+
+    /**
+     * Zeroes counters and histograms, gauges stay untouched
+     */
+    void reset();
+}
@@ -0,0 +1,372 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single writer in front of a {@link Scoreboard}: commands of any number of producer threads are put into
+ * a pre-allocated ring buffer and a single writer thread, the only one touching the Scoreboard, applies them
+ * in order in which they were put. There are no locks, a producer claims a slot with one compare-and-set,
+ * and the writer drains all published commands, up to capacity, in one batch before it waits again.
+ * Every command returns a future completed by the writer, with {@link OperationStatus} for changes,
+ * so rejections are results, not exceptions. When the ring is full producers wait for a free slot,
+ * both sides wait by the {@link WaitStrategy}.
+ * If a command fails with an Error, e.g. thrown by a listener, the writer stops: the pipeline is closed,
+ * the future of that command and of every command put before the close complete exceptionally with the Error.
+ * Note: Listeners of the Scoreboard are called on the writer thread, and so are dependent stages of the futures
+ * without an executor, slow ones hold up the following commands. The Scoreboard must not be used directly
+ * once it is handed over to the pipeline.
+ */
+public class ScoreboardPipeline implements AutoCloseable {
+    private static final Logger log = LogManager.getLogger("ScoreboardPipeline");
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long CLOSED = Long.MIN_VALUE;
+    private static final byte START = 1;
+    private static final byte UPDATE = 2;
+    private static final byte FINISH = 3;
+    private static final byte SUMMARY = 4;
+    private static final byte SEQUENCED_UPDATE = 5;
+
+    private final Scoreboard scoreboard;
+    private final WaitStrategy waitStrategy;
+    private final Command[] ring;
+    private final int mask;
+    /**
+     * Position of the next command to claim, with the CLOSED bit set once the pipeline is closed
+     */
+    private final AtomicLong tail = new AtomicLong();
+    private final Thread writer;
+    private volatile Error failure;
+    private volatile long processedCount;
+    private volatile long batchCount;
+
+    private ScoreboardPipeline(Scoreboard scoreboard, int capacity, WaitStrategy waitStrategy) {
+        this.scoreboard = scoreboard;
+        this.waitStrategy = waitStrategy;
+        this.ring = new Command[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new Command(i);
+        }
+
+        this.writer = new Thread(this::drain, "scoreboard-pipeline-writer");
+        writer.setDaemon(true);
+    }
+
+    public static ScoreboardPipeline start(Scoreboard scoreboard) {
+        return start(scoreboard, DEFAULT_CAPACITY, WaitStrategy.PARK);
+    }
+
+    /**
+     * Starts the writer thread of the Scoreboard
+     * It throws an IllegalArgumentException if capacity is not a power of two greater than 1
+     *
+     * @param scoreboard   scoreboard owned by the writer thread from now on
+     * @param capacity     number of slots of the ring buffer
+     * @param waitStrategy how the writer waits for commands and producers wait for free slots
+     * @return running pipeline
+     */
+    public static ScoreboardPipeline start(Scoreboard scoreboard, int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            log.error("Pipeline capacity has to be a power of two greater than 1! Current value: {}", capacity);
+            throw new IllegalArgumentException();
+        }
+
+        ScoreboardPipeline pipeline = new ScoreboardPipeline(Objects.requireNonNull(scoreboard), capacity,
+                Objects.requireNonNull(waitStrategy));
+        pipeline.writer.start();
+
+        return pipeline;
+    }
+
+    /**
+     * Adds new game with score 0-0 like {@link Scoreboard#tryStartNewGame(String, String)}
+     * It throws an IllegalStateException if the pipeline is closed
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return future of APPLIED or the reason of the rejection
+     */
+    public CompletableFuture<OperationStatus> startNewGame(String homeTeam, String awayTeam) {
+        return submit(START, homeTeam, awayTeam, 0, 0);
+    }
+
+    /**
+     * Updates existing game score like {@link Scoreboard#tryUpdateGame(String, String, int, int)}
+     * It throws an IllegalStateException if the pipeline is closed
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @return future of APPLIED or the reason of the rejection
+     */
+    public CompletableFuture<OperationStatus> updateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return submit(UPDATE, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    /**
+     * Updates existing game score unless a later update was applied,
+     * like {@link Scoreboard#tryUpdateGame(String, String, int, int, long)}
+     * It throws an IllegalStateException if the pipeline is closed
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @param sequence  sequence of the update, greater than 0
+     * @return future of APPLIED, DUPLICATE_UPDATE or STALE_UPDATE for dropped updates, or the reason of the rejection
+     */
+    public CompletableFuture<OperationStatus> updateGame(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                                         long sequence) {
+        return submit(SEQUENCED_UPDATE, homeTeam, awayTeam, homeScore, awayScore, sequence);
+    }
+
+    /**
+     * Removes existing game like {@link Scoreboard#tryFinishGame(String, String)}
+     * It throws an IllegalStateException if the pipeline is closed
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return future of APPLIED or the reason of the rejection
+     */
+    public CompletableFuture<OperationStatus> finishGame(String homeTeam, String awayTeam) {
+        return submit(FINISH, homeTeam, awayTeam, 0, 0);
+    }
+
+    /**
+     * Summary after all commands put before it, copied on the writer thread
+     * Note: Copies of the matches have no timeline.
+     * It throws an IllegalStateException if the pipeline is closed
+     *
+     * @return future of copies of existing matches sorted like {@link Scoreboard#getSummary()}
+     */
+    public CompletableFuture<List<Match>> getSummary() {
+        return submit(SUMMARY, null, null, 0, 0);
+    }
+
+    private <T> CompletableFuture<T> submit(byte type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return submit(type, homeTeam, awayTeam, homeScore, awayScore, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> submit(byte type, String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                            long sequence) {
+        long position = claim();
+        Command command = ring[(int) position & mask];
+
+        for (int attempt = 0; command.sequence != position; ) {
+            attempt = waitStrategy.idle(attempt);
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        command.type = type;
+        command.homeTeam = homeTeam;
+        command.awayTeam = awayTeam;
+        command.homeScore = homeScore;
+        command.awayScore = awayScore;
+        command.updateSequence = sequence;
+        command.future = future;
+        command.sequence = position + 1;
+
+        return (CompletableFuture<T>) future;
+    }
+
+    private long claim() {
+        while (true) {
+            long position = tail.get();
+
+            if (position < 0) {
+                log.error("Pipeline is closed, no more commands are accepted!");
+                throw new IllegalStateException(failure != null ? "Pipeline writer failed" : "Pipeline is closed",
+                        failure);
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                return position;
+            }
+        }
+    }
+
+    /**
+     * Writer loop, a command at position is published once the sequence of its slot is position + 1,
+     * and its slot is free for the next round of the ring once the sequence is position + capacity
+     */
+    private void drain() {
+        long next = 0;
+        int attempt = 0;
+
+        while (true) {
+            Command command = ring[(int) next & mask];
+
+            if (command.sequence == next + 1) {
+                long batchStart = next;
+                try {
+                    do {
+                        execute(command, next);
+                        next++;
+                        command = ring[(int) next & mask];
+                    } while (command.sequence == next + 1 && next - batchStart < ring.length);
+                } catch (Error e) {
+                    failPending(next + 1, e);
+                    return;
+                } finally {
+                    processedCount += next - batchStart;
+                    batchCount++;
+                }
+                attempt = 0;
+            } else if (tail.get() == (next | CLOSED)) {
+                log.debug("Pipeline closed after {} commands", next);
+                return;
+            } else {
+                attempt = waitStrategy.idle(attempt);
+            }
+        }
+    }
+
+    private void execute(Command command, long position) {
+        byte type = command.type;
+        String homeTeam = command.homeTeam;
+        String awayTeam = command.awayTeam;
+        int homeScore = command.homeScore;
+        int awayScore = command.awayScore;
+        long sequence = command.updateSequence;
+        CompletableFuture<Object> future = release(command, position);
+
+        try {
+            future.complete(apply(type, homeTeam, awayTeam, homeScore, awayScore, sequence));
+        } catch (RuntimeException e) {
+            log.error("Command of a match {} - {} failed", homeTeam, awayTeam, e);
+            future.completeExceptionally(e);
+        } catch (Error e) {
+            log.error("Command of a match {} - {} failed, the writer stops", homeTeam, awayTeam, e);
+            failure = e;
+            markClosed();
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Frees the slot of the command for the next round of the ring
+     *
+     * @return future of the command
+     */
+    private CompletableFuture<Object> release(Command command, long position) {
+        CompletableFuture<Object> future = command.future;
+
+        command.homeTeam = null;
+        command.awayTeam = null;
+        command.future = null;
+        command.sequence = position + ring.length;
+
+        return future;
+    }
+
+    /**
+     * Completes the commands put before the pipeline was closed exceptionally, once the writer failed
+     */
+    private void failPending(long next, Error error) {
+        long end = markClosed() & ~CLOSED;
+
+        for (; next < end; next++) {
+            Command command = ring[(int) next & mask];
+            for (int attempt = 0; command.sequence != next + 1; ) {
+                attempt = waitStrategy.idle(attempt);
+            }
+            release(command, next).completeExceptionally(error);
+        }
+    }
+
+    private Object apply(byte type, String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        switch (type) {
+            case START:
+                return scoreboard.tryStartNewGame(homeTeam, awayTeam);
+            case UPDATE:
+                return scoreboard.tryUpdateGame(homeTeam, awayTeam, homeScore, awayScore);
+            case SEQUENCED_UPDATE:
+                return scoreboard.tryUpdateGame(homeTeam, awayTeam, homeScore, awayScore, sequence);
+            case FINISH:
+                return scoreboard.tryFinishGame(homeTeam, awayTeam);
+            default:
+                return copyOfSummary();
+        }
+    }
+
+    private List<Match> copyOfSummary() {
+        List<Match> summary = scoreboard.getSummary();
+        List<Match> copies = new ArrayList<>(summary.size());
+
+        for (Match match : summary) {
+            copies.add(new Match(match.getHomeTeam(), match.getAwayTeam(), match.getHomeTeamId(),
+                    match.getAwayTeamId(), match.getHomeTeamScore(), match.getAwayTeamScore(),
+                    match.getStartTime(), match.getStartSequence()));
+        }
+
+        return copies;
+    }
+
+    /**
+     * Stops accepting commands and waits until the writer applies the commands already put
+     */
+    @Override
+    public void close() {
+        markClosed();
+
+        if (Thread.currentThread() == writer) {
+            return;
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return tail with the CLOSED bit set
+     */
+    private long markClosed() {
+        long position = tail.get();
+        while (position >= 0 && !tail.compareAndSet(position, position | CLOSED)) {
+            position = tail.get();
+        }
+        return position | CLOSED;
+    }
+
+    /**
+     * @return number of commands applied by the writer
+     */
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    /**
+     * @return number of batches the writer applied the commands in, every batch is a run of commands
+     * published while the writer was applying the previous one
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    private static final class Command {
+        private volatile long sequence;
+        private byte type;
+        private String homeTeam;
+        private String awayTeam;
+        private int homeScore;
+        private int awayScore;
+        private long updateSequence;
+        private CompletableFuture<Object> future;
+
+        private Command(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
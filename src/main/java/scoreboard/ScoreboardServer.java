@@ -0,0 +1,419 @@
+package scoreboard;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.NotUniquePairException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP/JSON endpoint of a thread-safe {@link LiveScoreboard}, built on the JDK HttpServer.
+ * <ul>
+ * <li>POST /games?homeTeam=A&amp;awayTeam=B starts a game</li>
+ * <li>PUT /games?homeTeam=A&amp;awayTeam=B&amp;homeScore=1&amp;awayScore=0 updates a game, with &amp;sequence=n
+ * only if no update of the game with the same or a later sequence was applied, a dropped update gets 409</li>
+ * <li>DELETE /games?homeTeam=A&amp;awayTeam=B finishes a game</li>
+ * <li>GET /summary returns the summary, GET /summary?since=version&amp;timeoutMillis=t long-polls
+ * until the scoreboard is newer than the version or the timeout passes</li>
+ * </ul>
+ * Every change made through the server increments the version, sent in the X-Scoreboard-Version header.
+ * Summary is rendered once per version, so the scoreboard should be changed through the server only.
+ * Requests run on virtual threads when the JDK has them, on a cached thread pool otherwise.
+ * Waiting long-polls hold no thread, they are answered by a timer, so tens of thousands of them can wait at once.
+ * Changes are batched, waiting polls are answered at most once per 20 ms with the latest summary.
+ * Note: The JDK HttpServer is tuned by JVM-wide system properties, so they are left to the deployment:
+ * -Dsun.net.httpserver.nodelay=true sends a response without waiting for the delayed ACK of the client,
+ * -Dsun.net.httpserver.maxIdleConnections=65536 keeps the connections of long-polling clients open.
+ */
+public class ScoreboardServer implements AutoCloseable {
+    private static final Logger log = LogManager.getLogger("ScoreboardServer");
+    static final String VERSION_HEADER = "X-Scoreboard-Version";
+    private static final int BACKLOG = 4096;
+    private static final long MAX_TIMEOUT_MILLIS = 120_000;
+    private static final long POLL_BATCH_MILLIS = 20;
+
+    private final LiveScoreboard scoreboard;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ScheduledThreadPoolExecutor timer;
+    private final AtomicLong version = new AtomicLong();
+    private final Set<Poll> polls = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean answerScheduled = new AtomicBoolean();
+    private volatile Summary cachedSummary = new Summary(-1, new byte[0]);
+
+    private ScoreboardServer(LiveScoreboard scoreboard, HttpServer server) {
+        this.scoreboard = scoreboard;
+        this.server = server;
+        this.executor = newExecutor();
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-server-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+
+        server.setExecutor(executor);
+        server.createContext("/games", exchange -> handle(exchange, this::handleGames));
+        server.createContext("/summary", exchange -> handle(exchange, this::handleSummary));
+    }
+
+    /**
+     * Starts the server
+     *
+     * @param scoreboard thread-safe scoreboard, e.g. {@link SnapshotScoreboard} or {@link ShardedScoreboard}
+     * @param address    address to listen on, port 0 picks a free port
+     * @return running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static ScoreboardServer start(LiveScoreboard scoreboard, InetSocketAddress address) throws IOException {
+        ScoreboardServer server = new ScoreboardServer(scoreboard, HttpServer.create(address, BACKLOG));
+        server.server.start();
+
+        log.info("Scoreboard server listening on port {}", server.getPort());
+        return server;
+    }
+
+    /**
+     * Uses virtual threads when the JDK has them, they are looked up reflectively to keep JDK 17 compatibility
+     *
+     * @return executor running a new thread per request
+     */
+    static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads are not available, requests run on a cached thread pool");
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "scoreboard-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @return number of changes made through the server
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Stops the server, waiting long-polls are closed without a response
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        timer.shutdownNow();
+        for (Poll poll : polls) {
+            if (poll.complete()) {
+                poll.exchange.close();
+            }
+        }
+        executor.shutdownNow();
+
+        log.info("Scoreboard server stopped");
+    }
+
+    private void handleGames(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals("/games")) {
+            send(exchange, 404, SummaryJson.renderError("Not found"));
+            return;
+        }
+
+        Map<String, String> params = params(exchange);
+        String homeTeam = params.get("homeTeam");
+        String awayTeam = params.get("awayTeam");
+
+        switch (exchange.getRequestMethod()) {
+            case "POST":
+                scoreboard.startNewGame(homeTeam, awayTeam);
+                changed(exchange, 201);
+                break;
+            case "PUT":
+                updateGame(exchange, params, homeTeam, awayTeam);
+                break;
+            case "DELETE":
+                scoreboard.finishGame(homeTeam, awayTeam);
+                changed(exchange, 204);
+                break;
+            default:
+                exchange.getResponseHeaders().set("Allow", "POST, PUT, DELETE");
+                send(exchange, 405, SummaryJson.renderError("Method not allowed"));
+        }
+    }
+
+    private void updateGame(HttpExchange exchange, Map<String, String> params, String homeTeam, String awayTeam)
+            throws IOException {
+        int homeScore = intParam(params, "homeScore");
+        int awayScore = intParam(params, "awayScore");
+
+        if (!params.containsKey("sequence")) {
+            scoreboard.updateGame(homeTeam, awayTeam, homeScore, awayScore);
+            changed(exchange, 204);
+            return;
+        }
+
+        OperationStatus status = scoreboard.tryUpdateGame(homeTeam, awayTeam, homeScore, awayScore,
+                longParam(params, "sequence"));
+        switch (status) {
+            case APPLIED:
+                changed(exchange, 204);
+                break;
+            case MATCH_DOESNT_EXIST:
+                send(exchange, 404, SummaryJson.renderError("There is no such pair on the scoreboard"));
+                break;
+            case DUPLICATE_UPDATE:
+            case STALE_UPDATE:
+                send(exchange, 409, SummaryJson.renderError("Update dropped: " + status));
+                break;
+            default:
+                send(exchange, 400, SummaryJson.renderError("Invalid request: " + status));
+        }
+    }
+
+    private void changed(HttpExchange exchange, int status) throws IOException {
+        long current = version.incrementAndGet();
+
+        exchange.getResponseHeaders().set(VERSION_HEADER, Long.toString(current));
+        send(exchange, status, null);
+
+        if (!polls.isEmpty() && answerScheduled.compareAndSet(false, true)) {
+            timer.schedule(() -> {
+                answerScheduled.set(false);
+                executor.execute(this::answerPolls);
+            }, POLL_BATCH_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void handleSummary(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals("/summary")) {
+            send(exchange, 404, SummaryJson.renderError("Not found"));
+            return;
+        }
+        if (!exchange.getRequestMethod().equals("GET")) {
+            exchange.getResponseHeaders().set("Allow", "GET");
+            send(exchange, 405, SummaryJson.renderError("Method not allowed"));
+            return;
+        }
+
+        Map<String, String> params = params(exchange);
+        if (!params.containsKey("since") || version.get() > longParam(params, "since")) {
+            sendSummary(exchange, summary());
+            return;
+        }
+
+        long timeoutMillis = params.containsKey("timeoutMillis") ? longParam(params, "timeoutMillis") : MAX_TIMEOUT_MILLIS;
+        if (timeoutMillis < 0 || timeoutMillis > MAX_TIMEOUT_MILLIS) {
+            log.error("Timeout of a poll has to be between 0 and {} ms! Current value: {}", MAX_TIMEOUT_MILLIS, timeoutMillis);
+            throw new IllegalArgumentException("timeoutMillis has to be between 0 and " + MAX_TIMEOUT_MILLIS);
+        }
+
+        Poll poll = new Poll(exchange);
+        polls.add(poll);
+        poll.timeout = timer.schedule(() -> executor.execute(() -> answer(poll, summary())), timeoutMillis, TimeUnit.MILLISECONDS);
+
+        if (version.get() > longParam(params, "since")) {
+            answer(poll, summary());
+        }
+    }
+
+    private void answerPolls() {
+        Summary summary = null;
+
+        for (Poll poll : polls) {
+            if (summary == null) {
+                summary = summary();
+            }
+            answer(poll, summary);
+        }
+    }
+
+    private void answer(Poll poll, Summary summary) {
+        if (!poll.complete()) {
+            return;
+        }
+        polls.remove(poll);
+        if (poll.timeout != null) {
+            poll.timeout.cancel(false);
+        }
+
+        executor.execute(() -> {
+            try {
+                sendSummary(poll.exchange, summary);
+            } catch (IOException e) {
+                log.debug("Poll response could not be sent: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Version is read first, so the summary is at least as new as its version
+     */
+    private Summary summary() {
+        long current = version.get();
+        Summary cached = cachedSummary;
+
+        if (cached.version == current) {
+            return cached;
+        }
+
+        Summary summary = new Summary(current, SummaryJson.render(current, scoreboard.getSummary()));
+        cachedSummary = summary;
+        return summary;
+    }
+
+    private static void sendSummary(HttpExchange exchange, Summary summary) throws IOException {
+        exchange.getResponseHeaders().set(VERSION_HEADER, Long.toString(summary.version));
+        send(exchange, 200, summary.json);
+    }
+
+    private static void handle(HttpExchange exchange, Handler handler) {
+        try {
+            drain(exchange);
+            handler.handle(exchange);
+        } catch (MatchDoesntExistException e) {
+            sendError(exchange, 404, e);
+        } catch (MatchAlreadyStartedException | TeamAlreadyInMatchException e) {
+            sendError(exchange, 409, e);
+        } catch (IllegalArgumentException | NotUniquePairException e) {
+            sendError(exchange, 400, e);
+        } catch (IOException e) {
+            log.debug("Response could not be sent: {}", e.getMessage());
+            exchange.close();
+        } catch (RuntimeException e) {
+            log.error("Request {} {} failed", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            sendError(exchange, 500, e);
+        }
+    }
+
+    private static void drain(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, RuntimeException e) {
+        try {
+            send(exchange, status, SummaryJson.renderError(e.getMessage() != null ? e.getMessage() : "Invalid request"));
+        } catch (IOException ioException) {
+            log.debug("Error response could not be sent: {}", ioException.getMessage());
+            exchange.close();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream response = exchange.getResponseBody()) {
+            response.write(body);
+        }
+    }
+
+    private static Map<String, String> params(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                            URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return params;
+    }
+
+    private static int intParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter " + name);
+        }
+        return Integer.parseInt(value);
+    }
+
+    private static long longParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter " + name);
+        }
+        return Long.parseLong(value);
+    }
+
+    /**
+     * Starts a server of an empty {@link SnapshotScoreboard}
+     *
+     * @param args optional port, 8080 by default
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+
+        ScoreboardServer server = start(new SnapshotScoreboard(), new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+    }
+
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    private static final class Summary {
+        private final long version;
+        private final byte[] json;
+
+        private Summary(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+
+    private static final class Poll {
+        private final HttpExchange exchange;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeout;
+
+        private Poll(HttpExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        /**
+         * @return true for the first caller only
+         */
+        private boolean complete() {
+            return completed.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Strings;
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static scoreboard.TeamValidator.checkTeamsNames;
+import static scoreboard.TeamValidator.validateTeamName;
+import static scoreboard.TeamValidator.validateTeamsNames;
+
+/**
+ * Thread-safe scoreboard made of independent {@link Scoreboard} shards, each guarded by its own lock,
+ * so operations on different shards run in parallel.
+ * A game goes to the shard of its competition or, without a competition, to the shard of its homeTeam.
+ * A team can play in one match across all shards, the shard of every playing team is kept in a shared map.
+ * Global summary is merged from the already sorted summaries of the shards instead of sorting all matches again.
+ */
+public class ShardedScoreboard implements LiveScoreboard {
+    private static final Logger log = LogManager.getLogger("ShardedScoreboard");
+
+    private final Scoreboard[] shards;
+    private final ReentrantLock[] locks;
+    private final Map<String, Integer> teamShards = new ConcurrentHashMap<>();
+
+    public ShardedScoreboard() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param shardCount number of shards
+     */
+    public ShardedScoreboard(int shardCount) {
+        if (shardCount < 1) {
+            log.error("Number of shards has to be a positive number! Current value: {}", shardCount);
+            throw new IllegalArgumentException();
+        }
+
+        shards = new Scoreboard[shardCount];
+        locks = new ReentrantLock[shardCount];
+
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Scoreboard();
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Adds new game with score 0-0 to the shard of homeTeam
+     */
+    @Override
+    public void startNewGame(String homeTeam, String awayTeam) {
+        log.debug("Starting new game for homeTeam: {} and awayTeam: {}", homeTeam, awayTeam);
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        String home = homeTeam.toUpperCase();
+        String away = awayTeam.toUpperCase();
+
+        addGame(shardOf(home), home, away);
+    }
+
+    /**
+     * Adds new game with score 0-0 to the shard of the competition, games of one competition share a shard
+     * It throws an IllegalArgumentExceptions if competition is null or empty
+     * It throws exceptions of {@link #startNewGame(String, String)} otherwise
+     *
+     * @param competition
+     * @param homeTeam
+     * @param awayTeam
+     */
+    public void startNewGame(String competition, String homeTeam, String awayTeam) {
+        log.debug("Starting new game of competition {} for homeTeam: {} and awayTeam: {}", competition, homeTeam, awayTeam);
+
+        if (Strings.isEmpty(competition)) {
+            log.error("Competition name cannot be empty!");
+            throw new IllegalArgumentException();
+        }
+        validateTeamsNames(homeTeam, awayTeam);
+
+        addGame(shardOf(competition), homeTeam.toUpperCase(), awayTeam.toUpperCase());
+    }
+
+    private void addGame(int shard, String homeTeam, String awayTeam) {
+        Integer index = shard;
+
+        Integer homeShard = teamShards.putIfAbsent(homeTeam, index);
+        if (homeShard != null) {
+            rejectGame(homeShard, homeTeam, awayTeam);
+        }
+        Integer awayShard = teamShards.putIfAbsent(awayTeam, index);
+        if (awayShard != null) {
+            teamShards.remove(homeTeam, index);
+            log.error("Team {} has already started a match!", awayTeam);
+            throw new TeamAlreadyInMatchException();
+        }
+
+        try {
+            withShard(shard, scoreboard -> {
+                scoreboard.startNewGame(homeTeam, awayTeam);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            teamShards.remove(homeTeam, index);
+            teamShards.remove(awayTeam, index);
+            throw e;
+        }
+
+        log.trace("Game for {} and {} added successfully to shard {}", homeTeam, awayTeam, shard);
+    }
+
+    private void rejectGame(int shard, String homeTeam, String awayTeam) {
+        if (checkExistingGame(shard, homeTeam, awayTeam) == OperationStatus.MATCH_ALREADY_STARTED) {
+            log.error("Teams {} and {} have already started a match!", homeTeam, awayTeam);
+            throw new MatchAlreadyStartedException();
+        }
+
+        log.error("Team {} has already started a match!", homeTeam);
+        throw new TeamAlreadyInMatchException();
+    }
+
+    /**
+     * @param shard    shard of the playing homeTeam
+     * @param homeTeam
+     * @param awayTeam
+     * @return MATCH_ALREADY_STARTED if the teams play each other, TEAM_ALREADY_IN_MATCH otherwise
+     */
+    private OperationStatus checkExistingGame(int shard, String homeTeam, String awayTeam) {
+        Match match = withShard(shard, scoreboard -> scoreboard.findMatchByTeam(homeTeam).orElse(null));
+
+        return match != null && match.getHomeTeam().equals(homeTeam) && match.getAwayTeam().equals(awayTeam)
+                ? OperationStatus.MATCH_ALREADY_STARTED : OperationStatus.TEAM_ALREADY_IN_MATCH;
+    }
+
+    /**
+     * Adds new game like {@link #startNewGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryStartNewGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            String home = homeTeam.toUpperCase();
+            String away = awayTeam.toUpperCase();
+
+            status = tryAddGame(shardOf(home), home, away);
+        }
+        if (!status.isApplied()) {
+            log.debug("Game for {} and {} rejected: {}", homeTeam, awayTeam, status);
+        }
+
+        return status;
+    }
+
+    private OperationStatus tryAddGame(int shard, String homeTeam, String awayTeam) {
+        Integer index = shard;
+
+        Integer homeShard = teamShards.putIfAbsent(homeTeam, index);
+        if (homeShard != null) {
+            return checkExistingGame(homeShard, homeTeam, awayTeam);
+        }
+        Integer awayShard = teamShards.putIfAbsent(awayTeam, index);
+        if (awayShard != null) {
+            teamShards.remove(homeTeam, index);
+            return OperationStatus.TEAM_ALREADY_IN_MATCH;
+        }
+
+        OperationStatus status = withShard(shard, scoreboard -> scoreboard.tryStartNewGame(homeTeam, awayTeam));
+        if (!status.isApplied()) {
+            teamShards.remove(homeTeam, index);
+            teamShards.remove(awayTeam, index);
+        }
+
+        return status;
+    }
+
+    @Override
+    public void updateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (log.isDebugEnabled()) {
+            log.debug("Update score of a match {} {} - {} {}", homeTeam, homeScore, awayTeam, awayScore);
+        }
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        withShard(getShardOfMatch(homeTeam, awayTeam), scoreboard -> {
+            scoreboard.updateGame(homeTeam, awayTeam, homeScore, awayScore);
+            return null;
+        });
+    }
+
+    /**
+     * Updates existing game score like {@link #updateGame(String, String, int, int)},
+     * without exceptions and error logs for rejected updates
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            Integer shard = teamShards.get(homeTeam.toUpperCase());
+
+            status = shard == null ? OperationStatus.MATCH_DOESNT_EXIST
+                    : withShard(shard, scoreboard -> scoreboard.tryUpdateGame(homeTeam, awayTeam, homeScore, awayScore));
+        }
+        if (!status.isApplied() && log.isDebugEnabled()) {
+            log.debug("Update of a match {} {} - {} {} rejected: {}", homeTeam, homeScore, awayTeam, awayScore, status);
+        }
+
+        return status;
+    }
+
+    /**
+     * Updates existing game score unless an update of the match with the same or a later sequence was applied,
+     * see {@link LiveScoreboard#tryUpdateGame(String, String, int, int, long)}, the sequence is checked and
+     * applied by the shard of the match under its lock
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @param sequence  sequence of the update, greater than 0
+     * @return APPLIED, DUPLICATE_UPDATE or STALE_UPDATE for dropped updates, or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            Integer shard = teamShards.get(homeTeam.toUpperCase());
+
+            status = shard == null ? OperationStatus.MATCH_DOESNT_EXIST : withShard(shard,
+                    scoreboard -> scoreboard.tryUpdateGame(homeTeam, awayTeam, homeScore, awayScore, sequence));
+        }
+        if (!status.isApplied() && log.isDebugEnabled()) {
+            log.debug("Update {} of a match {} {} - {} {} dropped: {}", sequence, homeTeam, homeScore, awayTeam,
+                    awayScore, status);
+        }
+
+        return status;
+    }
+
+    /**
+     * Removes existing game, its teams can start new games once it returns
+     */
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        log.debug("Finish game between {} and {}", homeTeam, awayTeam);
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        Match match = withShard(getShardOfMatch(homeTeam, awayTeam), scoreboard -> {
+            Match finished = scoreboard.findMatchByTeam(homeTeam).orElse(null);
+            scoreboard.finishGame(homeTeam, awayTeam);
+            return finished;
+        });
+
+        teamShards.remove(match.getHomeTeam());
+        teamShards.remove(match.getAwayTeam());
+    }
+
+    /**
+     * Removes existing game like {@link #finishGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public OperationStatus tryFinishGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            Integer shard = teamShards.get(homeTeam.toUpperCase());
+
+            status = shard == null ? OperationStatus.MATCH_DOESNT_EXIST : withShard(shard, scoreboard -> {
+                Match finished = scoreboard.findMatchByTeam(homeTeam).orElse(null);
+                OperationStatus finish = scoreboard.tryFinishGame(homeTeam, awayTeam);
+                if (finish.isApplied()) {
+                    teamShards.remove(finished.getHomeTeam());
+                    teamShards.remove(finished.getAwayTeam());
+                }
+                return finish;
+            });
+        }
+        if (!status.isApplied()) {
+            log.debug("Finish of a game between {} and {} rejected: {}", homeTeam, awayTeam, status);
+        }
+
+        return status;
+    }
+
+    private int getShardOfMatch(String homeTeam, String awayTeam) {
+        Integer shard = teamShards.get(homeTeam.toUpperCase());
+
+        if (shard == null) {
+            log.error("Match between HomeTeam {} and AwayTeam {} doesn't exist", homeTeam, awayTeam);
+            throw new MatchDoesntExistException();
+        }
+
+        return shard;
+    }
+
+    /**
+     * Merges summaries of all shards
+     * Note: Every shard is read under its own lock, so it is a weakly consistent view across shards.
+     *
+     * @return copies of existing matches sorted by total score in descending order, then by start time in ascending order
+     */
+    @Override
+    public List<Match> getSummary() {
+        log.debug("Get scoreboard summary");
+
+        List<List<Match>> summaries = new ArrayList<>(shards.length);
+        for (int shard = 0; shard < shards.length; shard++) {
+            summaries.add(withShard(shard, scoreboard -> copyOf(scoreboard.getSummary())));
+        }
+
+        return merge(summaries, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Lists first k matches of the global summary, at most k matches are taken from every shard
+     * It throws an IllegalArgumentException if k is lower than 0
+     *
+     * @param k
+     * @return at most k matches in summary order
+     */
+    public List<Match> getTopMatches(int k) {
+        if (log.isDebugEnabled()) {
+            log.debug("Get top {} matches", k);
+        }
+
+        if (k < 0) {
+            log.error("Number of top matches cannot be a negative number! Current value: {}", k);
+            throw new IllegalArgumentException();
+        }
+
+        List<List<Match>> summaries = new ArrayList<>(shards.length);
+        for (int shard = 0; shard < shards.length; shard++) {
+            summaries.add(withShard(shard, scoreboard -> copyOf(scoreboard.getTopMatches(k))));
+        }
+
+        return merge(summaries, k);
+    }
+
+    /**
+     * Lists one page of the global summary, at most offset + limit matches are taken from every shard
+     * It throws an IllegalArgumentException if either offset or limit is lower than 0
+     *
+     * @param offset position of the first match of the page in the summary, starting from 0
+     * @param limit  maximal number of matches of the page
+     * @return copies of at most limit matches in summary order
+     */
+    @Override
+    public List<Match> getSummary(int offset, int limit) {
+        if (log.isDebugEnabled()) {
+            log.debug("Get {} matches of scoreboard summary from {}", limit, offset);
+        }
+
+        SummaryPage.validate(offset, limit);
+
+        return SummaryPage.of(getTopMatches(SummaryPage.end(offset, limit)), offset, limit);
+    }
+
+    private static List<Match> copyOf(List<Match> matches) {
+        List<Match> copies = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            copies.add(match.withScore(match.getHomeTeamScore(), match.getAwayTeamScore()));
+        }
+        return copies;
+    }
+
+    /**
+     * K-way merge of sorted lists, it takes O(n log k) for n matches of k lists
+     *
+     * @param summaries lists sorted by {@link MatchComparator}
+     * @param limit     maximal number of merged matches
+     * @return merged list sorted by {@link MatchComparator}
+     */
+    static List<Match> merge(List<List<Match>> summaries, int limit) {
+        int size = 0;
+        for (List<Match> summary : summaries) {
+            size += summary.size();
+        }
+
+        Comparator<Match> comparator = RankingPolicy.BY_SORT_KEY;
+        PriorityQueue<Run> runs = new PriorityQueue<>(Math.max(1, summaries.size()),
+                (run1, run2) -> comparator.compare(run1.head, run2.head));
+        for (List<Match> summary : summaries) {
+            Iterator<Match> iterator = summary.iterator();
+            if (iterator.hasNext()) {
+                runs.add(new Run(iterator));
+            }
+        }
+
+        List<Match> merged = new ArrayList<>(Math.min(size, limit));
+        while (merged.size() < limit && !runs.isEmpty()) {
+            Run run = runs.poll();
+            merged.add(run.head);
+            if (run.advance()) {
+                runs.add(run);
+            }
+        }
+
+        return merged;
+    }
+
+    private static final class Run {
+        private final Iterator<Match> iterator;
+        private Match head;
+
+        private Run(Iterator<Match> iterator) {
+            this.iterator = iterator;
+            this.head = iterator.next();
+        }
+
+        private boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            head = iterator.next();
+            return true;
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        log.debug("Find match of team {}", team);
+
+        validateTeamName(team);
+
+        Integer shard = teamShards.get(team.toUpperCase());
+        if (shard == null) {
+            return Optional.empty();
+        }
+
+        return withShard(shard, scoreboard -> scoreboard.findMatchByTeam(team)
+                .map(match -> match.withScore(match.getHomeTeamScore(), match.getAwayTeamScore())));
+    }
+
+    /**
+     * @return number of shards
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    private <T> T withShard(int shard, Function<Scoreboard, T> operation) {
+        ReentrantLock lock = locks[shard];
+
+        lock.lock();
+        try {
+            return operation.apply(shards[shard]);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int shardOf(String key) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ hash >>> 16, shards.length);
+    }
+}
@@ -0,0 +1,334 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static scoreboard.TeamValidator.checkTeamsNames;
+import static scoreboard.TeamValidator.validateTeamName;
+import static scoreboard.TeamValidator.validateTeamsNames;
+
+/**
+ * Copy-on-write scoreboard for read heavy use.
+ * Mutations are serialized and each of them publishes a new immutable {@link SummarySnapshot},
+ * so any number of readers get a consistent, already sorted summary with a single volatile read,
+ * without locking or sorting.
+ * Every mutation copies the summary, so it costs O(n).
+ */
+public class SnapshotScoreboard implements LiveScoreboard {
+    private static final Logger log = LogManager.getLogger("SnapshotScoreboard");
+    private static final Comparator<Match> COMPARATOR = RankingPolicy.BY_SORT_KEY;
+
+    private final Map<String, Match> matches;
+    private final Map<String, Match> teams;
+    private volatile SummarySnapshot snapshot;
+
+    public SnapshotScoreboard() {
+        matches = new ConcurrentHashMap<>();
+        teams = new ConcurrentHashMap<>();
+        snapshot = SummarySnapshot.EMPTY;
+    }
+
+    @Override
+    public synchronized void startNewGame(String homeTeam, String awayTeam) {
+        log.debug("Starting new game for homeTeam: {} and awayTeam: {}", homeTeam, awayTeam);
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        homeTeam = homeTeam.toUpperCase();
+        awayTeam = awayTeam.toUpperCase();
+
+        validateExistingGames(homeTeam, awayTeam);
+        insertGame(homeTeam, awayTeam);
+
+        log.trace("Game for {} and {} added successfully", homeTeam, awayTeam);
+    }
+
+    private void insertGame(String homeTeam, String awayTeam) {
+        Match match = Match.newTeam(homeTeam, awayTeam);
+        matches.put(homeTeam, match);
+        teams.put(homeTeam, match);
+        teams.put(awayTeam, match);
+
+        publish(insert(snapshot.toArray(), match));
+    }
+
+    /**
+     * Adds new game like {@link #startNewGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public synchronized OperationStatus tryStartNewGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            String home = homeTeam.toUpperCase();
+            String away = awayTeam.toUpperCase();
+
+            status = checkExistingGames(home, away);
+            if (status.isApplied()) {
+                insertGame(home, away);
+            }
+        }
+        if (!status.isApplied()) {
+            log.debug("Game for {} and {} rejected: {}", homeTeam, awayTeam, status);
+        }
+
+        return status;
+    }
+
+    private OperationStatus checkExistingGames(String homeTeam, String awayTeam) {
+        if (isExistingMatch(matches.get(homeTeam), awayTeam)) {
+            return OperationStatus.MATCH_ALREADY_STARTED;
+        }
+        if (teams.containsKey(homeTeam) || teams.containsKey(awayTeam)) {
+            return OperationStatus.TEAM_ALREADY_IN_MATCH;
+        }
+        return OperationStatus.APPLIED;
+    }
+
+    private void validateExistingGames(String homeTeam, String awayTeam) {
+        Match match = matches.get(homeTeam);
+
+        if (match != null && match.getAwayTeam().equals(awayTeam)) {
+            log.error("Teams {} and {} have already started a match!", homeTeam, awayTeam);
+            throw new MatchAlreadyStartedException();
+        }
+
+        checkIfTeamHasAlreadyStartedDifferentGame(homeTeam);
+        checkIfTeamHasAlreadyStartedDifferentGame(awayTeam);
+    }
+
+    private void checkIfTeamHasAlreadyStartedDifferentGame(String team) {
+        if (teams.containsKey(team)) {
+            log.error("Team {} has already started a match!", team);
+            throw new TeamAlreadyInMatchException();
+        }
+    }
+
+    @Override
+    public synchronized void updateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (log.isDebugEnabled()) {
+            log.debug("Update score of a match {} {} - {} {}", homeTeam, homeScore, awayTeam, awayScore);
+        }
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        homeTeam = homeTeam.toUpperCase();
+        awayTeam = awayTeam.toUpperCase();
+
+        Match previous = getExistingMatch(homeTeam, awayTeam);
+        replaceMatch(previous, previous.withScore(homeScore, awayScore));
+
+        log.trace("Match score updated!");
+    }
+
+    private void replaceMatch(Match previous, Match match) {
+        matches.put(match.getHomeTeam(), match);
+        teams.put(match.getHomeTeam(), match);
+        teams.put(match.getAwayTeam(), match);
+
+        publish(insert(remove(snapshot.toArray(), previous), match));
+    }
+
+    /**
+     * Updates existing game score like {@link #updateGame(String, String, int, int)},
+     * without exceptions and error logs for rejected updates
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public synchronized OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+        Match previous = null;
+
+        if (status.isApplied()) {
+            previous = matches.get(homeTeam.toUpperCase());
+            if (!isExistingMatch(previous, awayTeam.toUpperCase())) {
+                status = OperationStatus.MATCH_DOESNT_EXIST;
+            } else if (homeScore < 0 || awayScore < 0) {
+                status = OperationStatus.INVALID_ARGUMENT;
+            }
+        }
+        if (status.isApplied()) {
+            replaceMatch(previous, previous.withScore(homeScore, awayScore));
+        } else if (log.isDebugEnabled()) {
+            log.debug("Update of a match {} {} - {} {} rejected: {}", homeTeam, homeScore, awayTeam, awayScore, status);
+        }
+
+        return status;
+    }
+
+    /**
+     * Updates existing game score unless an update of the match with the same or a later sequence was applied,
+     * see {@link LiveScoreboard#tryUpdateGame(String, String, int, int, long)}
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @param homeScore
+     * @param awayScore
+     * @param sequence  sequence of the update, greater than 0
+     * @return APPLIED, DUPLICATE_UPDATE or STALE_UPDATE for dropped updates, or the reason of the rejection
+     */
+    @Override
+    public synchronized OperationStatus tryUpdateGame(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                                      long sequence) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+        Match previous = null;
+
+        if (status.isApplied()) {
+            previous = matches.get(homeTeam.toUpperCase());
+            if (!isExistingMatch(previous, awayTeam.toUpperCase())) {
+                status = OperationStatus.MATCH_DOESNT_EXIST;
+            } else if (homeScore < 0 || awayScore < 0 || sequence < 1) {
+                status = OperationStatus.INVALID_ARGUMENT;
+            } else {
+                status = previous.checkUpdateSequence(sequence);
+            }
+        }
+        if (status.isApplied()) {
+            replaceMatch(previous, previous.withScore(homeScore, awayScore, sequence));
+        } else if (log.isDebugEnabled()) {
+            log.debug("Update {} of a match {} {} - {} {} dropped: {}", sequence, homeTeam, homeScore, awayTeam,
+                    awayScore, status);
+        }
+
+        return status;
+    }
+
+    @Override
+    public synchronized void finishGame(String homeTeam, String awayTeam) {
+        log.debug("Finish game between {} and {}", homeTeam, awayTeam);
+
+        validateTeamsNames(homeTeam, awayTeam);
+
+        homeTeam = homeTeam.toUpperCase();
+        awayTeam = awayTeam.toUpperCase();
+
+        removeGame(getExistingMatch(homeTeam, awayTeam));
+    }
+
+    private void removeGame(Match match) {
+        matches.remove(match.getHomeTeam());
+        teams.remove(match.getHomeTeam());
+        teams.remove(match.getAwayTeam());
+
+        publish(remove(snapshot.toArray(), match));
+    }
+
+    /**
+     * Removes existing game like {@link #finishGame(String, String)}, without exceptions and error logs for rejected games
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED or the reason of the rejection
+     */
+    @Override
+    public synchronized OperationStatus tryFinishGame(String homeTeam, String awayTeam) {
+        OperationStatus status = checkTeamsNames(homeTeam, awayTeam);
+
+        if (status.isApplied()) {
+            Match match = matches.get(homeTeam.toUpperCase());
+
+            if (isExistingMatch(match, awayTeam.toUpperCase())) {
+                removeGame(match);
+            } else {
+                status = OperationStatus.MATCH_DOESNT_EXIST;
+            }
+        }
+        if (!status.isApplied()) {
+            log.debug("Finish of a game between {} and {} rejected: {}", homeTeam, awayTeam, status);
+        }
+
+        return status;
+    }
+
+    private static boolean isExistingMatch(Match match, String awayTeam) {
+        return match != null && match.getAwayTeam().equals(awayTeam);
+    }
+
+    private Match getExistingMatch(String homeTeam, String awayTeam) {
+        Match match = matches.get(homeTeam);
+
+        if (!isExistingMatch(match, awayTeam)) {
+            log.error("Match between HomeTeam {} and AwayTeam {} doesn't exist", homeTeam, awayTeam);
+            throw new MatchDoesntExistException();
+        }
+
+        return match;
+    }
+
+    /**
+     * @return summary of the latest published snapshot
+     */
+    @Override
+    public List<Match> getSummary() {
+        return snapshot.getMatches();
+    }
+
+    /**
+     * @return latest published snapshot
+     */
+    public SummarySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Summary of the latest published snapshot rendered in given format, every snapshot is rendered once per format
+     *
+     * @param format
+     * @return read-only buffer of the rendered summary, owned by the caller
+     */
+    public ByteBuffer getRenderedSummary(SummaryFormat format) {
+        return snapshot.render(format);
+    }
+
+    @Override
+    public Optional<Match> findMatchByTeam(String team) {
+        validateTeamName(team);
+
+        return Optional.ofNullable(teams.get(team.toUpperCase()));
+    }
+
+    private void publish(Match[] summary) {
+        snapshot = new SummarySnapshot(snapshot.getVersion() + 1, summary);
+    }
+
+    private static Match[] insert(Match[] summary, Match match) {
+        int position = -Arrays.binarySearch(summary, match, COMPARATOR) - 1;
+        Match[] copy = new Match[summary.length + 1];
+
+        System.arraycopy(summary, 0, copy, 0, position);
+        copy[position] = match;
+        System.arraycopy(summary, position, copy, position + 1, summary.length - position);
+
+        return copy;
+    }
+
+    private static Match[] remove(Match[] summary, Match match) {
+        int position = Arrays.binarySearch(summary, match, COMPARATOR);
+        Match[] copy = new Match[summary.length - 1];
+
+        System.arraycopy(summary, 0, copy, 0, position);
+        System.arraycopy(summary, position + 1, copy, position, copy.length - position);
+
+        return copy;
+    }
+}
@@ -0,0 +1,162 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded log of the last changes of a {@link Scoreboard}, so clients refresh their summary by changes only.
+ * Every change is kept in ring arrays indexed by the version of the Scoreboard it made, without allocation,
+ * the oldest changes are overwritten once capacity changes are logged.
+ * Note: It is not thread-safe, it has to be used by the thread which changes the Scoreboard.
+ */
+public class SummaryChangeLog implements ScoreboardListener {
+    private static final Logger log = LogManager.getLogger("SummaryChangeLog");
+    private static final byte STARTED = 1;
+    private static final byte UPDATED = 2;
+    private static final byte FINISHED = 3;
+    private static final Comparator<SummaryChanges.Change> CHANGE_ORDER =
+            Comparator.comparingInt(SummaryChanges.Change::getRank);
+
+    private final Scoreboard scoreboard;
+    private final Match[] matches;
+    private final byte[] types;
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private long oldestVersion;
+    private long lastVersion;
+
+    private SummaryChangeLog(Scoreboard scoreboard, int capacity) {
+        this.scoreboard = scoreboard;
+        this.matches = new Match[capacity];
+        this.types = new byte[capacity];
+        this.homeScores = new int[capacity];
+        this.awayScores = new int[capacity];
+        this.oldestVersion = scoreboard.getVersion();
+        this.lastVersion = oldestVersion;
+    }
+
+    /**
+     * Creates change log registered as a listener of the Scoreboard, it logs changes made from now on
+     * It throws an IllegalArgumentException if capacity is lower than 1
+     *
+     * @param scoreboard
+     * @param capacity number of last changes kept in the log
+     * @return change log of the Scoreboard
+     */
+    public static SummaryChangeLog attach(Scoreboard scoreboard, int capacity) {
+        if (capacity < 1) {
+            log.error("Change log capacity has to be a positive number! Current value: {}", capacity);
+            throw new IllegalArgumentException();
+        }
+
+        SummaryChangeLog changeLog = new SummaryChangeLog(scoreboard, capacity);
+        scoreboard.addListener(changeLog);
+
+        return changeLog;
+    }
+
+    @Override
+    public void gameStarted(Match match) {
+        append(STARTED, match);
+    }
+
+    @Override
+    public void scoreUpdated(Match match) {
+        append(UPDATED, match);
+    }
+
+    @Override
+    public void gameFinished(Match match) {
+        append(FINISHED, match);
+    }
+
+    private void append(byte type, Match match) {
+        long version = scoreboard.getVersion();
+
+        if (version != lastVersion + 1) {
+            log.warn("Changes {} to {} of the scoreboard are not logged, older versions have to resync",
+                    lastVersion + 1, version - 1);
+            oldestVersion = version - 1;
+        }
+
+        int index = indexOf(version);
+        matches[index] = match;
+        types[index] = type;
+        homeScores[index] = match.getHomeTeamScore();
+        awayScores[index] = match.getAwayTeamScore();
+
+        lastVersion = version;
+        oldestVersion = Math.max(oldestVersion, version - matches.length);
+    }
+
+    /**
+     * Folds the logged changes after given version into at most one change of every changed match.
+     * A match started and finished within the changes doesn't show up at all.
+     *
+     * @param version version of the Scoreboard the client has the summary of
+     * @return changes from version to the current version of the Scoreboard, or resync if they are no longer logged
+     */
+    public SummaryChanges getSummaryChangesSince(long version) {
+        long current = scoreboard.getVersion();
+
+        if (version == current) {
+            return SummaryChanges.of(version, current, Collections.emptyList());
+        }
+        if (version < oldestVersion || version > current || lastVersion != current) {
+            log.debug("Changes since version {} are not logged, current version: {}", version, current);
+            return SummaryChanges.resync(version, current);
+        }
+
+        Map<Match, FoldedChange> folded = new IdentityHashMap<>();
+        for (long changed = version + 1; changed <= current; changed++) {
+            int index = indexOf(changed);
+            FoldedChange change = folded.computeIfAbsent(matches[index], match -> new FoldedChange());
+
+            change.started |= change.type == 0 && types[index] == STARTED;
+            change.type = types[index];
+            change.homeScore = homeScores[index];
+            change.awayScore = awayScores[index];
+        }
+
+        List<SummaryChanges.Change> changes = new ArrayList<>(folded.size());
+        for (Map.Entry<Match, FoldedChange> entry : folded.entrySet()) {
+            FoldedChange change = entry.getValue();
+            Match match = entry.getKey().withScore(change.homeScore, change.awayScore);
+
+            if (change.type != FINISHED) {
+                SummaryChanges.Type type = change.started ? SummaryChanges.Type.INSERTED : SummaryChanges.Type.UPDATED;
+                changes.add(new SummaryChanges.Change(type, match, scoreboard.rankOf(entry.getKey())));
+            } else if (!change.started) {
+                changes.add(new SummaryChanges.Change(SummaryChanges.Type.REMOVED, match, -1));
+            }
+        }
+        changes.sort(CHANGE_ORDER);
+
+        return SummaryChanges.of(version, current, changes);
+    }
+
+    /**
+     * @return oldest version of the Scoreboard the changes since are still logged
+     */
+    public long getOldestVersion() {
+        return oldestVersion;
+    }
+
+    private int indexOf(long version) {
+        return (int) (version % matches.length);
+    }
+
+    private static final class FoldedChange {
+        private boolean started;
+        private byte type;
+        private int homeScore;
+        private int awayScore;
+    }
+}
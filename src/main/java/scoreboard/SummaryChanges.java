@@ -0,0 +1,95 @@
+package scoreboard;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Changes of the summary between two versions of a {@link Scoreboard}, see {@link SummaryChangeLog}.
+ * A client holding the summary at fromVersion gets the summary at toVersion by removing the removed and updated
+ * matches and then inserting the inserted and updated ones at their ranks, in order of increasing rank.
+ */
+public final class SummaryChanges {
+    private final long fromVersion;
+    private final long toVersion;
+    private final boolean resync;
+    private final List<Change> changes;
+
+    private SummaryChanges(long fromVersion, long toVersion, boolean resync, List<Change> changes) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.resync = resync;
+        this.changes = changes;
+    }
+
+    static SummaryChanges of(long fromVersion, long toVersion, List<Change> changes) {
+        return new SummaryChanges(fromVersion, toVersion, false, Collections.unmodifiableList(changes));
+    }
+
+    static SummaryChanges resync(long fromVersion, long toVersion) {
+        return new SummaryChanges(fromVersion, toVersion, true, Collections.emptyList());
+    }
+
+    public long getFromVersion() {
+        return fromVersion;
+    }
+
+    /**
+     * @return version of the Scoreboard the changes lead to
+     */
+    public long getToVersion() {
+        return toVersion;
+    }
+
+    /**
+     * @return true if the changes since fromVersion are no longer in the log, the whole summary has to be read again
+     */
+    public boolean isResync() {
+        return resync;
+    }
+
+    /**
+     * @return at most one change of every changed match, sorted by rank with removed matches first
+     */
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    public enum Type {
+        INSERTED,
+        UPDATED,
+        REMOVED
+    }
+
+    /**
+     * Change of a single match of the summary
+     */
+    public static final class Change {
+        private final Type type;
+        private final Match match;
+        private final int rank;
+
+        Change(Type type, Match match, int rank) {
+            this.type = type;
+            this.match = match;
+            this.rank = rank;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return copy of the match with its score at toVersion, or its last score if it was removed
+         */
+        public Match getMatch() {
+            return match;
+        }
+
+        /**
+         * @return zero based position of the match in the summary at toVersion, -1 for removed matches
+         */
+        public int getRank() {
+            return rank;
+        }
+    }
+}
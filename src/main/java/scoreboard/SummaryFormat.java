@@ -0,0 +1,48 @@
+package scoreboard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Formats of a rendered summary, see {@link Scoreboard#getRenderedSummary(SummaryFormat)}
+ */
+public enum SummaryFormat {
+    /**
+     * One line per match in summary order: "1. URUGUAY 6 - ITALY 6"
+     */
+    TEXT {
+        @Override
+        byte[] render(long version, List<Match> summary) {
+            StringBuilder text = new StringBuilder(BYTES_PER_MATCH * summary.size());
+
+            for (int i = 0; i < summary.size(); i++) {
+                Match match = summary.get(i);
+                text.append(i + 1).append(". ")
+                        .append(match.getHomeTeam()).append(' ').append(match.getHomeTeamScore())
+                        .append(" - ")
+                        .append(match.getAwayTeam()).append(' ').append(match.getAwayTeamScore())
+                        .append('\n');
+            }
+
+            return text.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    },
+    /**
+     * {"version":1,"matches":[{"homeTeam":"A","awayTeam":"B","homeScore":1,"awayScore":0}]}
+     */
+    JSON {
+        @Override
+        byte[] render(long version, List<Match> summary) {
+            return SummaryJson.render(version, summary);
+        }
+    };
+
+    private static final int BYTES_PER_MATCH = 48;
+
+    /**
+     * @param version version of the scoreboard the summary comes from
+     * @param summary matches in summary order
+     * @return UTF-8 encoded summary
+     */
+    abstract byte[] render(long version, List<Match> summary);
+}
@@ -0,0 +1,69 @@
+package scoreboard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * JSON form of the summary:
+ * {"version":1,"matches":[{"homeTeam":"A","awayTeam":"B","homeScore":1,"awayScore":0}]}
+ */
+final class SummaryJson {
+    private static final int BYTES_PER_MATCH = 80;
+
+    private SummaryJson() {
+    }
+
+    /**
+     * @param version version of the scoreboard the summary comes from
+     * @param summary matches in summary order
+     * @return UTF-8 encoded JSON
+     */
+    static byte[] render(long version, List<Match> summary) {
+        StringBuilder json = new StringBuilder(32 + BYTES_PER_MATCH * summary.size());
+
+        json.append("{\"version\":").append(version).append(",\"matches\":[");
+        for (int i = 0; i < summary.size(); i++) {
+            Match match = summary.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"homeTeam\":");
+            appendString(json, match.getHomeTeam());
+            json.append(",\"awayTeam\":");
+            appendString(json, match.getAwayTeam());
+            json.append(",\"homeScore\":").append(match.getHomeTeamScore());
+            json.append(",\"awayScore\":").append(match.getAwayTeamScore());
+            json.append('}');
+        }
+        json.append("]}");
+
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param message
+     * @return UTF-8 encoded JSON error, {"error":"message"}
+     */
+    static byte[] renderError(String message) {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        appendString(json, message);
+        json.append('}');
+
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,53 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers of the paginated summary, see {@link LiveScoreboard#getSummary(int, int)}
+ */
+final class SummaryPage {
+    private static final Logger log = LogManager.getLogger("SummaryPage");
+
+    private SummaryPage() {
+    }
+
+    /**
+     * Validates page bounds
+     * It throws an IllegalArgumentException if either offset or limit is lower than 0
+     *
+     * @param offset
+     * @param limit
+     */
+    static void validate(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            log.error("Page offset and limit cannot be negative numbers! Current values: {}, {}", offset, limit);
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * @param offset
+     * @param limit
+     * @return position after the last match of the page, it doesn't overflow for large limits
+     */
+    static int end(int offset, int limit) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+    }
+
+    /**
+     * @param summary whole summary
+     * @param offset
+     * @param limit
+     * @return copy of the page of the summary, empty if offset is past its end
+     */
+    static List<Match> of(List<Match> summary, int offset, int limit) {
+        int from = Math.min(offset, summary.size());
+        int to = Math.min(end(offset, limit), summary.size());
+
+        return new ArrayList<>(summary.subList(from, to));
+    }
+}
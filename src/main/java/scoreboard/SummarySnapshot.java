@@ -0,0 +1,54 @@
+package scoreboard;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, already sorted summary of a scoreboard at given version.
+ * Note: matches of a snapshot are never updated by the scoreboard, they must not be updated by readers either.
+ */
+public final class SummarySnapshot {
+    static final SummarySnapshot EMPTY = new SummarySnapshot(0, new Match[0]);
+
+    private final long version;
+    private final Match[] matches;
+    private final List<Match> view;
+    private final RenderedSummary rendered;
+
+    SummarySnapshot(long version, Match[] matches) {
+        this.version = version;
+        this.matches = matches;
+        this.view = Collections.unmodifiableList(Arrays.asList(matches));
+        this.rendered = new RenderedSummary(version);
+    }
+
+    /**
+     * @return number of the mutation which published the snapshot, increasing with every mutation
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return unmodifiable list of matches sorted by total score in descending order, then by start time
+     */
+    public List<Match> getMatches() {
+        return view;
+    }
+
+    /**
+     * Renders the snapshot once per format, later calls only hand over the rendered bytes
+     *
+     * @param format
+     * @return read-only buffer of the rendered summary, owned by the caller
+     */
+    public ByteBuffer render(SummaryFormat format) {
+        return rendered.get(format, () -> view);
+    }
+
+    Match[] toArray() {
+        return matches;
+    }
+}
@@ -0,0 +1,38 @@
+package scoreboard;
+
+import java.util.Arrays;
+
+final class TeamNames {
+
+    private TeamNames() {
+    }
+
+    /**
+     * Generates unique upper case team names of given length, names are padded with letters
+     *
+     * @param prefix
+     * @param count
+     * @param length
+     * @return count unique team names
+     */
+    static String[] generate(String prefix, int count, int length) {
+        String[] names = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            names[i] = pad(prefix + i, length);
+        }
+
+        return names;
+    }
+
+    private static String pad(String name, int length) {
+        if (name.length() >= length) {
+            return name;
+        }
+
+        char[] padding = new char[length - name.length()];
+        Arrays.fill(padding, 'X');
+
+        return name + new String(padding);
+    }
+}
@@ -0,0 +1,49 @@
+package scoreboard;
+
+import java.util.Objects;
+
+/**
+ * Home and away team of a game, used by batch operations of {@link Scoreboard}
+ */
+public final class TeamPair {
+    private final String homeTeam;
+    private final String awayTeam;
+
+    public TeamPair(String homeTeam, String awayTeam) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        TeamPair teamPair = (TeamPair) o;
+
+        return Objects.equals(homeTeam, teamPair.homeTeam)
+                && Objects.equals(awayTeam, teamPair.awayTeam);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(homeTeam, awayTeam);
+    }
+
+    @Override
+    public String toString() {
+        return homeTeam + " - " + awayTeam;
+    }
+}
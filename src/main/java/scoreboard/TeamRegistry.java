@@ -0,0 +1,222 @@
+package scoreboard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static scoreboard.TeamValidator.validateTeamName;
+
+/**
+ * Registry of teams giving every team a dense int id.
+ * Team names are canonicalized to upper case once, at registration.
+ * Canonical names are found in an open addressing table of ids and name hashes, without boxing,
+ * so a probe compares hashes before it touches a name.
+ * Other spellings seen before are remembered, so looking them up again needs no case conversion.
+ * Note: It is not thread-safe.
+ */
+public class TeamRegistry {
+    private static final Logger log = LogManager.getLogger("TeamRegistry");
+    private static final int MIN_SPELLINGS = 1024;
+    private static final int SPELLINGS_PER_TEAM = 4;
+
+    private final Map<String, Integer> spellings = new HashMap<>();
+    private String[] names;
+    private long[] table;
+    private int shift;
+    private int size;
+
+    public TeamRegistry() {
+        this(16);
+    }
+
+    /**
+     * @param expectedTeams number of teams the registry is sized for up front
+     */
+    TeamRegistry(int expectedTeams) {
+        names = new String[Math.max(16, expectedTeams)];
+        table = new long[Integer.highestOneBit(Math.max(16, expectedTeams) - 1) << 2];
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(table.length);
+    }
+
+    /**
+     * Registers team unless it's already registered
+     * It throws an IllegalArgumentExceptions if team name is null or empty
+     *
+     * @param team
+     * @return id of the team
+     */
+    public int register(String team) {
+        validateTeamName(team);
+
+        int index = indexOf(team);
+        if (index >= 0) {
+            return idOf(table[index]);
+        }
+
+        int id = findOtherSpelling(team);
+        return id >= 0 ? id : add(team);
+    }
+
+    private int add(String team) {
+        String canonical = team.toUpperCase();
+        int id = size;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, names.length * 2);
+        }
+        if (2 * (id + 1) > table.length) {
+            rehash(table.length * 2);
+        }
+        names[size++] = canonical;
+        table[~indexOf(canonical)] = cell(canonical, id);
+        if (!canonical.equals(team)) {
+            rememberSpelling(team, id);
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("Team {} registered with id {}", canonical, id);
+        }
+        return id;
+    }
+
+    /**
+     * Finds id of the team, team names are case-insensitive
+     * It throws an IllegalArgumentExceptions if team name is null or empty
+     *
+     * @param team
+     * @return id of the team or -1 if the team is not registered
+     */
+    public int findId(String team) {
+        validateTeamName(team);
+
+        int index = indexOf(team);
+        return index >= 0 ? idOf(table[index]) : findOtherSpelling(team);
+    }
+
+    /**
+     * Finds id of the team like findId, without remembering other spellings,
+     * for registries which have to stay within a memory bound
+     * It throws an IllegalArgumentExceptions if team name is null or empty
+     *
+     * @param team
+     * @return id of the team or -1 if the team is not registered
+     */
+    int findIdWithoutSpellings(String team) {
+        validateTeamName(team);
+
+        int index = indexOf(team);
+        if (index < 0) {
+            String canonical = team.toUpperCase();
+            index = canonical.equals(team) ? -1 : indexOf(canonical);
+        }
+        return index >= 0 ? idOf(table[index]) : -1;
+    }
+
+    /**
+     * @return number of remembered other spellings of team names
+     */
+    int getSpellingCount() {
+        return spellings.size();
+    }
+
+    /**
+     * @param team name which is not a canonical name
+     * @return id of the team or -1 if the team is not registered
+     */
+    private int findOtherSpelling(String team) {
+        Integer spelling = spellings.get(team);
+        if (spelling != null) {
+            return spelling;
+        }
+
+        String canonical = team.toUpperCase();
+        if (canonical.equals(team)) {
+            return -1;
+        }
+        int index = indexOf(canonical);
+        if (index < 0) {
+            return -1;
+        }
+
+        int id = idOf(table[index]);
+        rememberSpelling(team, id);
+        return id;
+    }
+
+    /**
+     * Table keeps hash of every canonical name in the upper half and id + 1 in the lower half of a cell,
+     * 0 marks a free cell
+     *
+     * @param name
+     * @return index of the cell with id of the name or ~index of the free cell where it belongs
+     */
+    private int indexOf(String name) {
+        int mask = table.length - 1;
+        int hash = name.hashCode();
+        int index = hash * 0x9E3779B9 >>> shift;
+
+        while (table[index] != 0) {
+            long cell = table[index];
+            if ((int) (cell >>> Integer.SIZE) == hash && names[idOf(cell)].equals(name)) {
+                return index;
+            }
+            index = index + 1 & mask;
+        }
+        return ~index;
+    }
+
+    private static long cell(String name, int id) {
+        return (long) name.hashCode() << Integer.SIZE | id + 1;
+    }
+
+    private static int idOf(long cell) {
+        return (int) cell - 1;
+    }
+
+    private void rehash(int capacity) {
+        table = new long[capacity];
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+        for (int id = 0; id < size; id++) {
+            table[~indexOf(names[id])] = cell(names[id], id);
+        }
+    }
+
+    private void rememberSpelling(String team, int id) {
+        if (spellings.size() < MIN_SPELLINGS + SPELLINGS_PER_TEAM * size) {
+            spellings.put(team, id);
+        }
+    }
+
+    /**
+     * It throws an IllegalArgumentExceptions if the id is not registered
+     *
+     * @param id
+     * @return upper case name of the team
+     */
+    public String getName(int id) {
+        validateId(id);
+
+        return names[id];
+    }
+
+    /**
+     * It throws an IllegalArgumentExceptions if the id is not registered
+     *
+     * @param id
+     */
+    void validateId(int id) {
+        if (id < 0 || id >= size) {
+            log.error("Team id {} is not registered!", id);
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * @return number of registered teams, ids are in range from 0 to size - 1
+     */
+    public int size() {
+        return size;
+    }
+}
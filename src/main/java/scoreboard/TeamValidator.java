@@ -21,20 +21,40 @@ public class TeamValidator {
      * @param awayTeam
      */
     public static void validateTeamsNames(String homeTeam, String awayTeam) {
-        log.info("Validate team names");
+        log.trace("Validate team names");
 
         validateTeamName(homeTeam);
         validateTeamName(awayTeam);
         validateIfTeamsAreDifferent(homeTeam, awayTeam);
     }
 
-    private static void validateTeamName(String team) {
+    /**
+     * Validates team name
+     * It throws an IllegalArgumentExceptions if team name is null or empty
+     *
+     * @param team
+     */
+    public static void validateTeamName(String team) {
         if (Strings.isEmpty(team)) {
             log.error("Team name cannot be empty!");
             throw new IllegalArgumentException();
         }
     }
 
+    /**
+     * Checks teams names like validateTeamsNames, without throwing or logging
+     *
+     * @param homeTeam
+     * @param awayTeam
+     * @return APPLIED for valid names, INVALID_ARGUMENT or NOT_UNIQUE_PAIR otherwise
+     */
+    static OperationStatus checkTeamsNames(String homeTeam, String awayTeam) {
+        if (Strings.isEmpty(homeTeam) || Strings.isEmpty(awayTeam)) {
+            return OperationStatus.INVALID_ARGUMENT;
+        }
+        return homeTeam.equalsIgnoreCase(awayTeam) ? OperationStatus.NOT_UNIQUE_PAIR : OperationStatus.APPLIED;
+    }
+
     private static void validateIfTeamsAreDifferent(String homeTeam, String awayTeam) {
         if (homeTeam.equalsIgnoreCase(awayTeam)) {
             log.error("HomeTeam cannot be the same as awayTeam!");
@@ -0,0 +1,63 @@
+package scoreboard;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a thread of {@link ScoreboardPipeline} waits for the ring buffer: the writer for new commands
+ * and producers for free slots. Waiting threads are never signalled, they poll, so producers and the writer
+ * never touch a lock or wake each other up.
+ */
+public enum WaitStrategy {
+    /**
+     * Spins all the time, the lowest latency, but it takes a whole core per waiting thread
+     */
+    BUSY_SPIN {
+        @Override
+        int idle(int attempt) {
+            Thread.onSpinWait();
+            return attempt + 1;
+        }
+    },
+    /**
+     * Spins for a while, then yields the core to other threads
+     */
+    YIELD {
+        @Override
+        int idle(int attempt) {
+            if (attempt < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+            return attempt + 1;
+        }
+    },
+    /**
+     * Spins, then yields, then parks for PARK_NANOS at a time, an idle pipeline takes almost no CPU
+     */
+    PARK {
+        @Override
+        int idle(int attempt) {
+            if (attempt < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else if (attempt < 2 * SPIN_ATTEMPTS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+            return attempt + 1;
+        }
+    };
+
+    private static final int SPIN_ATTEMPTS = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * Waits once
+     *
+     * @param attempt number of times the thread has waited for the same condition, starting from 0
+     * @return attempt of the next wait
+     */
+    abstract int idle(int attempt);
+}
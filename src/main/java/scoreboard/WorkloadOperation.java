@@ -0,0 +1,125 @@
+package scoreboard;
+
+/**
+ * Single call of a {@link LiveScoreboard} in a match day workload, at a time of the simulated day.
+ * Trace form is one line: time in seconds, type, then teams and scores for the types which have them,
+ * e.g. "5400 UPDATE HOME1 AWAY1 2 1".
+ */
+final class WorkloadOperation {
+    private final long time;
+    private final Type type;
+    private final String homeTeam;
+    private final String awayTeam;
+    private final int homeScore;
+    private final int awayScore;
+
+    private WorkloadOperation(long time, Type type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        this.time = time;
+        this.type = type;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    static WorkloadOperation start(long time, String homeTeam, String awayTeam) {
+        return new WorkloadOperation(time, Type.START, homeTeam, awayTeam, 0, 0);
+    }
+
+    static WorkloadOperation update(long time, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return new WorkloadOperation(time, Type.UPDATE, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    static WorkloadOperation finish(long time, String homeTeam, String awayTeam) {
+        return new WorkloadOperation(time, Type.FINISH, homeTeam, awayTeam, 0, 0);
+    }
+
+    static WorkloadOperation summary(long time) {
+        return new WorkloadOperation(time, Type.SUMMARY, null, null, 0, 0);
+    }
+
+    /**
+     * Calls the scoreboard, rejections are thrown like from the scoreboard itself
+     *
+     * @param scoreboard
+     */
+    void applyTo(LiveScoreboard scoreboard) {
+        switch (type) {
+            case START:
+                scoreboard.startNewGame(homeTeam, awayTeam);
+                break;
+            case UPDATE:
+                scoreboard.updateGame(homeTeam, awayTeam, homeScore, awayScore);
+                break;
+            case FINISH:
+                scoreboard.finishGame(homeTeam, awayTeam);
+                break;
+            case SUMMARY:
+                scoreboard.getSummary();
+                break;
+            default:
+                throw new IllegalStateException("Unknown operation type: " + type);
+        }
+    }
+
+    long getTime() {
+        return time;
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    String getHomeTeam() {
+        return homeTeam;
+    }
+
+    String getAwayTeam() {
+        return awayTeam;
+    }
+
+    String toTraceLine() {
+        switch (type) {
+            case START:
+            case FINISH:
+                return time + " " + type + " " + homeTeam + " " + awayTeam;
+            case UPDATE:
+                return time + " " + type + " " + homeTeam + " " + awayTeam + " " + homeScore + " " + awayScore;
+            default:
+                return time + " " + type;
+        }
+    }
+
+    /**
+     * It throws an IllegalArgumentException if the line is not a trace line
+     *
+     * @param line
+     * @return operation of the trace line
+     */
+    static WorkloadOperation parse(String line) {
+        String[] fields = line.trim().split(" ");
+
+        try {
+            long time = Long.parseLong(fields[0]);
+            switch (Type.valueOf(fields[1])) {
+                case START:
+                    return start(time, fields[2], fields[3]);
+                case UPDATE:
+                    return update(time, fields[2], fields[3], Integer.parseInt(fields[4]), Integer.parseInt(fields[5]));
+                case FINISH:
+                    return finish(time, fields[2], fields[3]);
+                default:
+                    return summary(time);
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Incomplete trace line: " + line, e);
+        }
+    }
+
+    enum Type {
+        START,
+        UPDATE,
+        FINISH,
+        SUMMARY
+    }
+}
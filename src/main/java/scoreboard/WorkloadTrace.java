@@ -0,0 +1,46 @@
+package scoreboard;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text file of {@link WorkloadOperation}s, one trace line per operation, so a workload is replayed exactly
+ */
+final class WorkloadTrace {
+
+    private WorkloadTrace() {
+    }
+
+    static void write(Path path, List<WorkloadOperation> operations) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (WorkloadOperation operation : operations) {
+                writer.write(operation.toTraceLine());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * It throws an IllegalArgumentException if a line is not a trace line, blank lines are skipped
+     *
+     * @param path
+     * @return operations in order of the trace
+     */
+    static List<WorkloadOperation> read(Path path) throws IOException {
+        List<WorkloadOperation> operations = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    operations.add(WorkloadOperation.parse(line));
+                }
+            }
+        }
+        return operations;
+    }
+}
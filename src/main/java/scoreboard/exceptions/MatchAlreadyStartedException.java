@@ -1,8 +1,11 @@
 package scoreboard.exceptions;
 
+/**
+ * Rejects starting a match of teams which already play each other.
+ */
 public class MatchAlreadyStartedException extends RuntimeException {
 
     public MatchAlreadyStartedException() {
-        super("The match for the teams has already started!");
+        super("The match for the teams has already started!", null, false, false);
     }
 }
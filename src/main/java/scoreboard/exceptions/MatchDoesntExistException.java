@@ -1,8 +1,11 @@
 package scoreboard.exceptions;
 
+/**
+ * Rejects an update or finish of a match which is not on the scoreboard.
+ */
 public class MatchDoesntExistException extends RuntimeException {
 
     public MatchDoesntExistException() {
-        super("There is no such pair on the scoreboard");
+        super("There is no such pair on the scoreboard", null, false, false);
     }
 }
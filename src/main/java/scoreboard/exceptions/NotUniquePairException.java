@@ -1,7 +1,10 @@
 package scoreboard.exceptions;
 
+/**
+ * Rejects a match of a team with itself.
+ */
 public class NotUniquePairException extends RuntimeException {
     public NotUniquePairException() {
-        super("HomeTeam and AwayTeam must be different!");
+        super("HomeTeam and AwayTeam must be different!", null, false, false);
     }
 }
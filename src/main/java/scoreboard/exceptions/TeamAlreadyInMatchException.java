@@ -1,8 +1,11 @@
 package scoreboard.exceptions;
 
+/**
+ * Rejects starting a match of a team which already plays a different one.
+ */
 public class TeamAlreadyInMatchException extends RuntimeException {
 
     public TeamAlreadyInMatchException() {
-        super("Team has already started a match!");
+        super("Team has already started a match!", null, false, false);
     }
 }
@@ -0,0 +1,6 @@
+/**
+ * Exceptions of rejected scoreboard operations.
+ * None of them captures a stack trace, the operation that threw is the only interesting frame,
+ * so a feed of repeated rejections stays cheap.
+ */
+package scoreboard.exceptions;
@@ -0,0 +1,151 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.EMPTY_LIST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinarySnapshotTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String HOME_TEAM_NAME_3 = "LOTHL\u00D3RIEN";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+    private static final String AWAY_TEAM_NAME_3 = "MORIA";
+
+    @Test
+    void whenRead_givenWrittenScoreboard_thenRestoreMatchesScoresAndStartOrder() throws IOException {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.startNewGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3);
+        scoreboard.updateGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3, 300, 1);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 1);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 2);
+
+        //when
+        Scoreboard actual = BinarySnapshot.read(channelOf(write(scoreboard)));
+
+        //then
+        assertEquals(scoreboard.getSummary(), actual.getSummary());
+        assertEquals(List.of(
+                new Match(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3, 300, 1),
+                new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 1),
+                new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 2)), actual.getSummary());
+        assertEquals(2, actual.getRank(HOME_TEAM_NAME, AWAY_TEAM_NAME));
+    }
+
+    @Test
+    void whenRead_givenWrittenEmptyScoreboard_thenReturnEmptyScoreboard() throws IOException {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+
+        //when
+        Scoreboard actual = BinarySnapshot.read(channelOf(write(scoreboard)));
+
+        //then
+        assertEquals(EMPTY_LIST, actual.getSummary());
+    }
+
+    @Test
+    void whenRead_givenManyMatches_thenRestoreScoreboardWhichCanBeChanged() throws IOException {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        for (int i = 0; i < 50_000; i++) {
+            scoreboard.startNewGame("HOME" + i, "AWAY" + i);
+            scoreboard.updateGame("HOME" + i, "AWAY" + i, i % 11, i % 5);
+        }
+
+        //when
+        Scoreboard actual = BinarySnapshot.read(channelOf(write(scoreboard)));
+        actual.updateGame("HOME7", "AWAY7", 20, 0);
+        scoreboard.updateGame("HOME7", "AWAY7", 20, 0);
+        actual.finishGame("HOME8", "AWAY8");
+        scoreboard.finishGame("HOME8", "AWAY8");
+
+        //then
+        assertEquals(scoreboard.getSummary(), actual.getSummary());
+    }
+
+    @Test
+    void whenRead_givenDataWhichIsNotSnapshot_thenThrowException() {
+        //given
+        byte[] data = {1, 2, 3, 4, 5, 6};
+
+        //then
+        assertThrows(IOException.class, () -> {
+            //when
+            BinarySnapshot.read(channelOf(data));
+        });
+    }
+
+    @Test
+    void whenRead_givenTruncatedSnapshot_thenThrowException() throws IOException {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        byte[] data = write(scoreboard);
+
+        //then
+        assertThrows(IOException.class, () -> {
+            //when
+            BinarySnapshot.read(channelOf(Arrays.copyOf(data, data.length - 2)));
+        });
+    }
+
+    @Test
+    void whenRead_givenSequencedUpdates_thenRestoreUpdateSequences() throws IOException {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1, 1L << 40);
+
+        //when
+        Scoreboard actual = BinarySnapshot.read(channelOf(write(scoreboard)));
+        OperationStatus stale = actual.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, 1, 7);
+
+        //then
+        assertEquals(OperationStatus.STALE_UPDATE, stale);
+        assertEquals(1L << 40, actual.findMatchByTeam(HOME_TEAM_NAME).orElseThrow().getUpdateSequence());
+        assertEquals(0, actual.findMatchByTeam(HOME_TEAM_NAME_2).orElseThrow().getUpdateSequence());
+        assertEquals(scoreboard.getSummary(), actual.getSummary());
+    }
+
+    @Test
+    void whenRead_givenSnapshotOfVersionWithoutSequences_thenRestoreMatches() throws IOException {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 2);
+        byte[] data = write(scoreboard);
+        // version 1 has no update sequence, which is the last byte of the only match
+        data[Integer.BYTES] = 1;
+
+        //when
+        Scoreboard actual = BinarySnapshot.read(channelOf(Arrays.copyOf(data, data.length - 1)));
+
+        //then
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 2)), actual.getSummary());
+    }
+
+    private static byte[] write(Scoreboard scoreboard) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinarySnapshot.write(scoreboard, Channels.newChannel(output));
+        return output.toByteArray();
+    }
+
+    private static ReadableByteChannel channelOf(byte[] data) {
+        return Channels.newChannel(new ByteArrayInputStream(data));
+    }
+}
@@ -0,0 +1,230 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.EMPTY_LIST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactScoreboardTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_LOWER_CASE = "gondor";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+
+    @Test
+    void whenStartNewGame_givenUniqueTeams_thenAddNewGameToScoreboard() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME);
+
+        //then
+        assertEquals(List.of(Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME)), scoreboard.getSummary());
+        assertEquals(Optional.of(Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME)), scoreboard.findMatchByTeam(AWAY_TEAM_NAME));
+    }
+
+    @Test
+    void whenStartNewGame_givenTeamsWithMatchesInProgress_thenThrowException() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(MatchAlreadyStartedException.class, () -> scoreboard.startNewGame(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME));
+        assertThrows(TeamAlreadyInMatchException.class, () -> scoreboard.startNewGame(AWAY_TEAM_NAME, HOME_TEAM_NAME_2));
+        assertThrows(TeamAlreadyInMatchException.class, () -> scoreboard.startNewGame(HOME_TEAM_NAME_2, HOME_TEAM_NAME));
+        assertEquals(1, scoreboard.size());
+    }
+
+    @Test
+    void whenUpdateGame_givenNotExistingMatchOrNegativeScore_thenThrowException() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(MatchDoesntExistException.class, () -> scoreboard.updateGame(AWAY_TEAM_NAME, HOME_TEAM_NAME, 1, 0));
+        assertThrows(MatchDoesntExistException.class, () -> scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, -1, 0));
+        assertEquals(List.of(Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME)), scoreboard.getSummary());
+    }
+
+    @Test
+    void whenGetSummary_givenUpdatedMatches_thenSortThemByTotalScoreThenByStart() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.startNewGame("ISENGARD", "MORIA");
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 1);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0);
+        int isengard = scoreboard.getTeamRegistry().findId("ISENGARD");
+        int moria = scoreboard.getTeamRegistry().findId("MORIA");
+        scoreboard.updateGame(isengard, moria, 0, 3);
+
+        //when
+        List<Match> actual = scoreboard.getSummary();
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match("ISENGARD", "MORIA", 0, 3));
+        expectedList.add(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 1));
+        expectedList.add(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0));
+
+        assertEquals(expectedList, actual);
+    }
+
+    @Test
+    void whenFinishGame_givenExistingMatch_thenReuseItsSlotKeepingStartOrder() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+
+        //when
+        scoreboard.finishGame(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(AWAY_TEAM_NAME, HOME_TEAM_NAME);
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(Match.newTeam(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2));
+        expectedList.add(Match.newTeam(AWAY_TEAM_NAME, HOME_TEAM_NAME));
+
+        assertEquals(expectedList, scoreboard.getSummary());
+        assertThrows(MatchDoesntExistException.class, () -> scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME));
+    }
+
+    @Test
+    void whenFinishGame_givenManyStartedAndFinishedMatches_thenKeepSummaryOfMatchesInProgress() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+        TeamRegistry registry = scoreboard.getTeamRegistry();
+        for (int i = 0; i < 100; i++) {
+            registry.register("TEAM" + i);
+        }
+
+        //when
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 100; i += 2) {
+                scoreboard.startNewGame(i, i + 1);
+                scoreboard.updateGame(i, i + 1, round, i);
+            }
+            for (int i = 0; i < (round < 49 ? 100 : 96); i += 2) {
+                scoreboard.finishGame(i, i + 1);
+            }
+        }
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match("TEAM98", "TEAM99", 49, 98));
+        expectedList.add(new Match("TEAM96", "TEAM97", 49, 96));
+
+        assertEquals(expectedList, scoreboard.getSummary());
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam("TEAM0"));
+    }
+
+    @Test
+    void whenGetSummary_givenCompactedStartOrder_thenKeepProcessWideStartSequenceOfViews() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        long before = scoreboard.getSummary().get(0).getStartSequence();
+        Match other = new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+            scoreboard.finishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        }
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        List<Match> actual = scoreboard.getSummary();
+
+        //then
+        assertEquals(before, actual.get(0).getStartSequence());
+        assertTrue(other.getStartSequence() > before);
+        assertTrue(actual.get(1).getStartSequence() > other.getStartSequence());
+    }
+
+    @Test
+    void whenGetSummary_givenChangedView_thenScoreboardStaysUntouched() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        scoreboard.getSummary().get(0).updateScore(5, 5);
+
+        //then
+        assertEquals(List.of(Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME)), scoreboard.getSummary());
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        assertEquals(EMPTY_LIST, scoreboard.getSummary());
+    }
+
+    @Test
+    void whenTryOperations_givenRejectedOperations_thenReturnReasonAndKeepScoreboard() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        OperationStatus started = scoreboard.tryStartNewGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME);
+        OperationStatus teamPlaying = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME);
+        OperationStatus samePair = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, HOME_TEAM_NAME_2.toLowerCase());
+        OperationStatus updated = scoreboard.tryUpdateGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME, 2, 1);
+        OperationStatus swapped = scoreboard.tryUpdateGame(AWAY_TEAM_NAME, HOME_TEAM_NAME, 3, 3);
+        OperationStatus negative = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, -1);
+        OperationStatus nullName = scoreboard.tryUpdateGame(HOME_TEAM_NAME, null, 3, 3);
+        OperationStatus missing = scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        OperationStatus applied = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        OperationStatus finished = scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2.toLowerCase());
+
+        //then
+        assertEquals(OperationStatus.MATCH_ALREADY_STARTED, started);
+        assertEquals(OperationStatus.TEAM_ALREADY_IN_MATCH, teamPlaying);
+        assertEquals(OperationStatus.NOT_UNIQUE_PAIR, samePair);
+        assertEquals(OperationStatus.APPLIED, updated);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, swapped);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, negative);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, nullName);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missing);
+        assertEquals(OperationStatus.APPLIED, applied);
+        assertEquals(OperationStatus.APPLIED, finished);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), scoreboard.getSummary());
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam(AWAY_TEAM_NAME_2));
+    }
+
+    @Test
+    void whenTryUpdateGameInSequence_givenDuplicateStaleAndInvalidUpdates_thenApplyOnlyLaterOnes() {
+        //given
+        CompactScoreboard scoreboard = new CompactScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 3);
+
+        //when
+        OperationStatus duplicate = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 3);
+        OperationStatus stale = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 2);
+        OperationStatus invalid = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 0);
+        OperationStatus missing = scoreboard.tryUpdateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, -1, 0, 4);
+        OperationStatus later = scoreboard.tryUpdateGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME, 2, 1, 4);
+
+        //then
+        assertEquals(OperationStatus.DUPLICATE_UPDATE, duplicate);
+        assertEquals(OperationStatus.STALE_UPDATE, stale);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, invalid);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missing);
+        assertEquals(OperationStatus.APPLIED, later);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), scoreboard.getSummary());
+        assertEquals(4, scoreboard.findMatchByTeam(AWAY_TEAM_NAME).orElseThrow().getUpdateSequence());
+    }
+}
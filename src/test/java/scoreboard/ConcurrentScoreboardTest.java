@@ -0,0 +1,347 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrentScoreboardTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_LOWER_CASE = "gondor";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+
+    @Test
+    void whenStartNewGame_givenUniqueTeams_thenAddNewGameToScoreboard() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME);
+
+        //then
+        var expected = new HashMap<String, Match>();
+        expected.put(HOME_TEAM_NAME, Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME));
+
+        assertEquals(expected, scoreboard.getScores());
+    }
+
+    @Test
+    void whenStartNewGame_givenExistingMatch_thenThrowAnException() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(MatchAlreadyStartedException.class, () -> {
+            //when
+            scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        });
+    }
+
+    @Test
+    void whenStartNewGame_givenSecondMatchWithTheSameAwayTeam_thenThrowException() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(TeamAlreadyInMatchException.class, () -> {
+            //when
+            scoreboard.startNewGame(AWAY_TEAM_NAME, HOME_TEAM_NAME_2);
+        });
+    }
+
+    @Test
+    void whenUpdateGame_givenExistingMatch_thenReplaceMatchWithUpdatedCopy() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        Match before = scoreboard.findMatchByTeam(AWAY_TEAM_NAME).orElseThrow();
+
+        //when
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 2);
+
+        //then
+        assertEquals(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0), before);
+        assertEquals(Optional.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 2)),
+                scoreboard.findMatchByTeam(AWAY_TEAM_NAME));
+    }
+
+    @Test
+    void whenUpdateGame_givenMatchWithNotExistingAwayTeam_thenThrowException() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(MatchDoesntExistException.class, () -> {
+            //when
+            scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME_2, 1, 2);
+        });
+    }
+
+    @Test
+    void whenFinishGame_givenExistingMatch_thenRemoveGameFromScoreboard() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+
+        //when
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        var expected = new HashMap<String, Match>();
+        expected.put(HOME_TEAM_NAME_2, new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 0));
+
+        assertEquals(expected, scoreboard.getScores());
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam(AWAY_TEAM_NAME));
+    }
+
+    @Test
+    void whenGetSummary_givenScoreboardWithDifferentTotalScore_thenReturnListSortedByTotalScore() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 2);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 3, 2);
+
+        //when
+        var actualList = scoreboard.getSummary();
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 3, 2));
+        expectedList.add(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 2));
+
+        assertEquals(expectedList, actualList);
+    }
+
+    @Test
+    void whenStartNewGame_givenManyThreadsStartingMatchesOfTheSameTeam_thenOnlyOneSucceeds() throws Exception {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard(4);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        var futures = new ArrayList<Future<?>>();
+
+        //when
+        for (int i = 0; i < threads; i++) {
+            String awayTeam = "AWAY" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    scoreboard.startNewGame(HOME_TEAM_NAME, awayTeam);
+                    started.incrementAndGet();
+                } catch (TeamAlreadyInMatchException ignored) {
+                    // other thread was faster
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(1, started.get());
+        assertEquals(1, scoreboard.getSummary().size());
+    }
+
+    @Test
+    void whenUpdateGame_givenManyThreadsUpdatingDifferentMatches_thenApplyAllUpdates() throws Exception {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        int threads = 8;
+        int updates = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            scoreboard.startNewGame("HOME" + i, "AWAY" + i);
+        }
+
+        //when
+        for (int i = 0; i < threads; i++) {
+            String homeTeam = "HOME" + i;
+            String awayTeam = "AWAY" + i;
+            executor.execute(() -> {
+                for (int goal = 1; goal <= updates; goal++) {
+                    scoreboard.updateGame(homeTeam, awayTeam, goal, 0);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        //then
+        for (Match match : scoreboard.getSummary()) {
+            assertEquals(updates, match.getHomeTeamScore());
+        }
+    }
+
+    @Test
+    void whenTryOperations_givenRejectedOperations_thenReturnReasonInsteadOfThrowing() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        OperationStatus started = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME);
+        OperationStatus updated = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, -1, 0);
+        OperationStatus finished = scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+
+        //then
+        assertEquals(OperationStatus.TEAM_ALREADY_IN_MATCH, started);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, updated);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, finished);
+        assertEquals(OperationStatus.APPLIED, scoreboard.tryFinishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME));
+    }
+
+    @Test
+    void whenGetSummaryPage_givenExistingMatches_thenReturnPageOfSortedSummary() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0);
+
+        //when
+        List<Match> actual = scoreboard.getSummary(1, 5);
+
+        //then
+        assertEquals(List.of(Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME)), actual);
+        assertEquals(scoreboard.getSummary(), scoreboard.streamSummary().collect(Collectors.toList()));
+    }
+
+    @Test
+    void whenTryUpdateGameInSequence_givenTwoFeedsInDifferentOrder_thenApplyOnlyTheLatestUpdates() throws Exception {
+        //given
+        int updates = 5000;
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger dropped = new AtomicInteger();
+
+        //when
+        Future<?> inOrder = executor.submit(() -> {
+            for (int sequence = 1; sequence <= updates; sequence++) {
+                count(scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, sequence, 0, sequence), applied, dropped);
+            }
+        });
+        Future<?> reversed = executor.submit(() -> {
+            for (int sequence = updates; sequence >= 1; sequence--) {
+                count(scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, sequence, 0, sequence), applied, dropped);
+            }
+        });
+        inOrder.get(30, TimeUnit.SECONDS);
+        reversed.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        assertEquals(updates, scoreboard.findMatchByTeam(AWAY_TEAM_NAME).orElseThrow().getHomeTeamScore());
+        assertEquals(2 * updates, applied.get() + dropped.get());
+        assertEquals(OperationStatus.DUPLICATE_UPDATE,
+                scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, updates, 0, updates));
+    }
+
+    private static void count(OperationStatus status, AtomicInteger applied, AtomicInteger dropped) {
+        if (status.isApplied()) {
+            applied.incrementAndGet();
+        } else if (status == OperationStatus.DUPLICATE_UPDATE || status == OperationStatus.STALE_UPDATE) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Test
+    void whenFindMatchByTeam_givenFinishedMatch_thenReturnEmpty() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+
+        //when
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam(AWAY_TEAM_NAME));
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam(HOME_TEAM_NAME));
+    }
+
+    @Test
+    void whenTryOperations_givenRejectedOperations_thenReturnReasonAndKeepScoreboard() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        OperationStatus started = scoreboard.tryStartNewGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME);
+        OperationStatus teamPlaying = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME);
+        OperationStatus samePair = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, HOME_TEAM_NAME_2.toLowerCase());
+        OperationStatus updated = scoreboard.tryUpdateGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME, 2, 1);
+        OperationStatus swapped = scoreboard.tryUpdateGame(AWAY_TEAM_NAME, HOME_TEAM_NAME, 3, 3);
+        OperationStatus negative = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, -1);
+        OperationStatus nullName = scoreboard.tryUpdateGame(HOME_TEAM_NAME, null, 3, 3);
+        OperationStatus missing = scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        OperationStatus applied = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        OperationStatus finished = scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2.toLowerCase());
+
+        //then
+        assertEquals(OperationStatus.MATCH_ALREADY_STARTED, started);
+        assertEquals(OperationStatus.TEAM_ALREADY_IN_MATCH, teamPlaying);
+        assertEquals(OperationStatus.NOT_UNIQUE_PAIR, samePair);
+        assertEquals(OperationStatus.APPLIED, updated);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, swapped);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, negative);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, nullName);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missing);
+        assertEquals(OperationStatus.APPLIED, applied);
+        assertEquals(OperationStatus.APPLIED, finished);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), scoreboard.getSummary());
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam(AWAY_TEAM_NAME_2));
+    }
+
+    @Test
+    void whenTryUpdateGameInSequence_givenMissingMatchOrInvalidArguments_thenRejectLikeScoreboard() {
+        //given
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 2);
+
+        //when
+        OperationStatus swapped = scoreboard.tryUpdateGame(AWAY_TEAM_NAME, HOME_TEAM_NAME, 2, 0, 3);
+        OperationStatus missingWithNegativeScore = scoreboard.tryUpdateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, -1, 0, 1);
+        OperationStatus otherAwayTeam = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME_2, 2, 0, 3);
+        OperationStatus staleWithInvalidSequence = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 0);
+        OperationStatus stale = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 1);
+
+        //then
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, swapped);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missingWithNegativeScore);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, otherAwayTeam);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, staleWithInvalidSequence);
+        assertEquals(OperationStatus.STALE_UPDATE, stale);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0)), scoreboard.getSummary());
+    }
+}
@@ -0,0 +1,43 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void whenBucketOf_givenAnyValue_thenBucketCoversItWithinOneThirtySecond() {
+        //given
+        long[] values = {0, 1, 31, 32, 33, 63, 64, 65, 1000, 123_456_789, Long.MAX_VALUE};
+
+        for (long value : values) {
+            //when
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value));
+
+            //then
+            assertTrue(highest >= value, () -> "Bucket of " + value + " ends at " + highest);
+            assertTrue(highest - value <= value / 32, () -> "Bucket of " + value + " ends at " + highest);
+        }
+    }
+
+    @Test
+    void whenSnapshot_givenRecordedLatencies_thenReturnPercentilesInMicroseconds() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        //when
+        LatencySnapshot actual = histogram.snapshot();
+
+        //then
+        assertEquals(1000, actual.getCount());
+        assertEquals(500.5, actual.getMean(), 0.01);
+        assertEquals(500, actual.getP50(), 500 / 32.0);
+        assertEquals(990, actual.getP99(), 990 / 32.0);
+        assertEquals(1000, actual.getMax(), 0.01);
+    }
+}
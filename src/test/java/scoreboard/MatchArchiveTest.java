@@ -0,0 +1,177 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static java.util.Collections.EMPTY_LIST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchArchiveTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+
+    @Test
+    void whenFinishGame_givenArchiveListener_thenArchiveFinalResult() {
+        //given
+        ManualClock clock = new ManualClock(1000);
+        MatchArchive archive = new MatchArchive(16, clock);
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.addListener(archive);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, 2);
+
+        //when
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        List<FinishedMatch> expected = List.of(new FinishedMatch(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, 2, 1000));
+        assertEquals(expected, archive.findByTeam(HOME_TEAM_NAME.toLowerCase()));
+        assertEquals(expected, archive.findByTeam(AWAY_TEAM_NAME));
+        assertEquals(EMPTY_LIST, archive.findByTeam(HOME_TEAM_NAME_2));
+        assertEquals(1, archive.size());
+    }
+
+    @Test
+    void whenFindByTeam_givenTeamPlayingHomeAndAway_thenReturnItsResultsLatestFirst() {
+        //given
+        ManualClock clock = new ManualClock(0);
+        MatchArchive archive = new MatchArchive(16, clock);
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.addListener(archive);
+
+        //when
+        play(scoreboard, clock, HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        play(scoreboard, clock, HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0);
+        play(scoreboard, clock, AWAY_TEAM_NAME_2, HOME_TEAM_NAME, 3, 0);
+        play(scoreboard, clock, HOME_TEAM_NAME_2, AWAY_TEAM_NAME, 4, 0);
+
+        //then
+        List<FinishedMatch> expected = List.of(
+                new FinishedMatch(AWAY_TEAM_NAME_2, HOME_TEAM_NAME, 3, 0, 3),
+                new FinishedMatch(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 1));
+        assertEquals(expected, archive.findByTeam(HOME_TEAM_NAME));
+        assertEquals(2, archive.findByTeam(AWAY_TEAM_NAME_2).size());
+    }
+
+    @Test
+    void whenArchiveIsFull_givenNextFinishedMatch_thenEvictOldestResult() {
+        //given
+        ManualClock clock = new ManualClock(0);
+        MatchArchive archive = new MatchArchive(2, clock);
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.addListener(archive);
+        play(scoreboard, clock, HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        play(scoreboard, clock, HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0);
+
+        //when
+        play(scoreboard, clock, HOME_TEAM_NAME_2, HOME_TEAM_NAME, 3, 0);
+
+        //then
+        assertEquals(2, archive.size());
+        assertEquals(List.of(new FinishedMatch(HOME_TEAM_NAME_2, HOME_TEAM_NAME, 3, 0, 3)), archive.findByTeam(HOME_TEAM_NAME));
+        assertEquals(EMPTY_LIST, archive.findByTeam(AWAY_TEAM_NAME));
+        assertEquals(2, archive.findByTeam(HOME_TEAM_NAME_2).size());
+    }
+
+    @Test
+    void whenFindFinishedBetween_givenTimeRange_thenReturnResultsFinishedInRange() {
+        //given
+        ManualClock clock = new ManualClock(0);
+        MatchArchive archive = new MatchArchive(3, clock);
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.addListener(archive);
+        for (int i = 0; i < 5; i++) {
+            play(scoreboard, clock, HOME_TEAM_NAME, AWAY_TEAM_NAME, i, 0);
+        }
+
+        //when
+        List<FinishedMatch> actual = archive.findFinishedBetween(2, 5);
+
+        //then
+        assertEquals(List.of(new FinishedMatch(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 3),
+                new FinishedMatch(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, 0, 4)), actual);
+        assertEquals(3, archive.findFinishedBetween(Long.MIN_VALUE, Long.MAX_VALUE).size());
+        assertEquals(EMPTY_LIST, archive.findFinishedBetween(6, 10));
+    }
+
+    @Test
+    void whenWithMemoryCap_givenBytes_thenSizeArchiveToFitThem() {
+        //when
+        MatchArchive archive = MatchArchive.withMemoryCap(1000L * MatchArchive.BYTES_PER_ARCHIVED_MATCH + 1);
+
+        //then
+        assertEquals(1000, archive.getCapacity());
+        assertThrows(IllegalArgumentException.class,
+                () -> MatchArchive.withMemoryCap(MatchArchive.BYTES_PER_ARCHIVED_MATCH - 1));
+        assertThrows(IllegalArgumentException.class, () -> new MatchArchive(0));
+    }
+
+    @Test
+    void whenFinishGame_givenManyDistinctTeams_thenEvictTeamsWithoutArchivedResults() {
+        //given
+        ManualClock clock = new ManualClock(0);
+        MatchArchive archive = new MatchArchive(4, clock);
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.addListener(archive);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            play(scoreboard, clock, HOME_TEAM_NAME + i, AWAY_TEAM_NAME + i, i, 0);
+            play(scoreboard, clock, HOME_TEAM_NAME, AWAY_TEAM_NAME + i, 0, i);
+        }
+
+        //then
+        assertTrue(archive.getTeamCount() <= MatchArchive.TEAMS_PER_MATCH * archive.getCapacity());
+        assertEquals(List.of(new FinishedMatch(HOME_TEAM_NAME, AWAY_TEAM_NAME + 99, 0, 99, 200),
+                new FinishedMatch(HOME_TEAM_NAME, AWAY_TEAM_NAME + 98, 0, 98, 198)), archive.findByTeam(HOME_TEAM_NAME));
+        assertEquals(List.of(new FinishedMatch(HOME_TEAM_NAME, AWAY_TEAM_NAME + 99, 0, 99, 200),
+                new FinishedMatch(HOME_TEAM_NAME + 99, AWAY_TEAM_NAME + 99, 99, 0, 199)), archive.findByTeam(AWAY_TEAM_NAME + 99));
+        assertEquals(EMPTY_LIST, archive.findByTeam(HOME_TEAM_NAME + 97));
+        assertEquals(4, archive.findFinishedBetween(Long.MIN_VALUE, Long.MAX_VALUE).size());
+    }
+
+    private static void play(Scoreboard scoreboard, ManualClock clock, String homeTeam, String awayTeam,
+                             int homeScore, int awayScore) {
+        clock.millis++;
+        scoreboard.startNewGame(homeTeam, awayTeam);
+        scoreboard.updateGame(homeTeam, awayTeam, homeScore, awayScore);
+        scoreboard.finishGame(homeTeam, awayTeam);
+    }
+
+    private static final class ManualClock extends Clock {
+        private long millis;
+
+        private ManualClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
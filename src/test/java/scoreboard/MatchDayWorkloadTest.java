@@ -0,0 +1,44 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class MatchDayWorkloadTest {
+
+    @Test
+    void whenGenerate_givenSameSeed_thenGenerateSameOperations() {
+        //given
+        MatchDayWorkload workload = new MatchDayWorkload().seed(7).matches(50);
+
+        //when
+        List<String> first = traceLines(workload.generate());
+        List<String> second = traceLines(new MatchDayWorkload().seed(7).matches(50).generate());
+
+        //then
+        assertEquals(first, second);
+        assertNotEquals(first, traceLines(new MatchDayWorkload().seed(8).matches(50).generate()));
+    }
+
+    @Test
+    void whenApplyTo_givenWorkloadWithoutInvalidCalls_thenApplyEveryOperationAndFinishEveryMatch() {
+        //given
+        List<WorkloadOperation> operations = new MatchDayWorkload().seed(7).matches(50).invalidPercent(0).generate();
+        Scoreboard scoreboard = new Scoreboard();
+
+        //when
+        operations.forEach(operation -> operation.applyTo(scoreboard));
+
+        //then
+        assertEquals(50, operations.stream().filter(operation -> operation.getType() == WorkloadOperation.Type.START).count());
+        assertEquals(List.of(), scoreboard.getSummary());
+    }
+
+    private static List<String> traceLines(List<WorkloadOperation> operations) {
+        return operations.stream().map(WorkloadOperation::toTraceLine).collect(Collectors.toList());
+    }
+}
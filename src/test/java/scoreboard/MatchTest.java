@@ -2,6 +2,10 @@ package scoreboard;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -64,4 +68,39 @@ class MatchTest {
             match.updateScore(1, -2);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenSortBySortKey_givenTotalScorePolicy_thenOrderLikeMatchComparator() {
+        //given
+        Random random = new Random(7);
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Match match = new Match("HOME" + i, "AWAY" + i);
+            match.updateScore(random.nextInt(5), random.nextInt(5));
+            matches.add(match);
+        }
+        List<Match> expected = new ArrayList<>(matches);
+        expected.sort(new MatchComparator());
+
+        //when
+        matches.sort(RankingPolicy.BY_SORT_KEY);
+
+        //then
+        assertEquals(expected, matches);
+    }
+
+    @Test
+    void whenUpdateScore_givenSameScore_thenKeepSortKey() {
+        //given
+        Match match = new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        match.rankBy(RankingPolicy.MOST_RECENT_GOAL);
+        match.updateScore(1, 0);
+        long sortKey = match.getSortKey();
+
+        //when
+        match.updateScore(1, 0);
+
+        //then
+        assertEquals(sortKey, match.getSortKey());
+    }
+}
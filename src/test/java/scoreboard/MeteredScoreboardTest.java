@@ -0,0 +1,159 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.NotUniquePairException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import javax.management.MBeanServer;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MeteredScoreboardTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+
+    @Test
+    void whenChangeGames_givenValidOperations_thenCountThemAndTrackLiveMatches() {
+        //given
+        ScoreboardMetrics metrics = new ScoreboardMetrics();
+        MeteredScoreboard scoreboard = new MeteredScoreboard(new Scoreboard(), metrics, 1);
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        scoreboard.finishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.getSummary();
+        scoreboard.findMatchByTeam(AWAY_TEAM_NAME);
+
+        //then
+        assertEquals(2, metrics.getStartedGames());
+        assertEquals(1, metrics.getUpdatedGames());
+        assertEquals(1, metrics.getFinishedGames());
+        assertEquals(1, metrics.getSummaryReads());
+        assertEquals(1, metrics.getTeamLookups());
+        assertEquals(1, metrics.getLiveMatches());
+        assertEquals(1, metrics.getLastSummarySize());
+        assertEquals(2, metrics.getStartLatency().getCount());
+        assertEquals(1, metrics.getSummaryLatency().getCount());
+    }
+
+    @Test
+    void whenChangeGames_givenRejectedOperations_thenCountEveryRejectionType() {
+        //given
+        ScoreboardMetrics metrics = new ScoreboardMetrics();
+        MeteredScoreboard scoreboard = new MeteredScoreboard(new Scoreboard(), metrics);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        assertThrows(MatchAlreadyStartedException.class, () -> scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME));
+        assertThrows(TeamAlreadyInMatchException.class, () -> scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME));
+        assertThrows(MatchDoesntExistException.class, () -> scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 1));
+        assertThrows(MatchDoesntExistException.class, () -> scoreboard.finishGame(AWAY_TEAM_NAME, HOME_TEAM_NAME));
+        assertThrows(NotUniquePairException.class, () -> scoreboard.startNewGame(HOME_TEAM_NAME_2, HOME_TEAM_NAME_2));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, -1, 0));
+
+        //then
+        assertEquals(1, metrics.getMatchAlreadyStartedRejections());
+        assertEquals(1, metrics.getTeamAlreadyInMatchRejections());
+        assertEquals(2, metrics.getMatchDoesntExistRejections());
+        assertEquals(1, metrics.getNotUniquePairRejections());
+        assertEquals(1, metrics.getInvalidArgumentRejections());
+        assertEquals(1, metrics.getStartedGames());
+        assertEquals(1, metrics.getLiveMatches());
+    }
+
+    @Test
+    void whenTryOperations_givenRejectedOperations_thenCountThemByStatus() {
+        //given
+        ScoreboardMetrics metrics = new ScoreboardMetrics();
+        MeteredScoreboard scoreboard = new MeteredScoreboard(new Scoreboard(), metrics, 1);
+
+        //when
+        scoreboard.tryStartNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.tryStartNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, -1, 0);
+        scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+
+        //then
+        assertEquals(1, metrics.getStartedGames());
+        assertEquals(1, metrics.getUpdatedGames());
+        assertEquals(1, metrics.getMatchAlreadyStartedRejections());
+        assertEquals(1, metrics.getInvalidArgumentRejections());
+        assertEquals(1, metrics.getMatchDoesntExistRejections());
+        assertEquals(1, metrics.getLiveMatches());
+    }
+
+    @Test
+    void whenReset_givenRecordedOperations_thenZeroCountersButKeepGauges() {
+        //given
+        ScoreboardMetrics metrics = new ScoreboardMetrics();
+        Scoreboard wrapped = new Scoreboard();
+        wrapped.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        MeteredScoreboard scoreboard = new MeteredScoreboard(wrapped, metrics, 1);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 2);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 2);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0, 1);
+
+        //when
+        metrics.reset();
+
+        //then
+        assertEquals(0, metrics.getUpdatedGames());
+        assertEquals(0, metrics.getDuplicateUpdateDrops());
+        assertEquals(0, metrics.getStaleUpdateDrops());
+        assertEquals(0, metrics.getUpdateLatency().getCount());
+        assertEquals(1, metrics.getLiveMatches());
+    }
+
+    @Test
+    void whenRegister_givenMetrics_thenPublishThemAsMXBean() throws Exception {
+        //given
+        ScoreboardMetrics metrics = new ScoreboardMetrics();
+        MeteredScoreboard scoreboard = new MeteredScoreboard(new Scoreboard(), metrics, 1);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        //when
+        metrics.register("test");
+
+        //then
+        try {
+            assertEquals(1L, server.getAttribute(metrics.getObjectName(), "StartedGames"));
+            CompositeData latency = (CompositeData) server.getAttribute(metrics.getObjectName(), "StartLatency");
+            assertEquals(1L, latency.get("count"));
+            assertThrows(IllegalStateException.class, () -> metrics.register("test"));
+        } finally {
+            metrics.unregister();
+        }
+        assertNull(metrics.getObjectName());
+    }
+
+    @Test
+    void whenTryUpdateGameInSequence_givenDroppedUpdates_thenCountDuplicatesAndStaleUpdates() {
+        //given
+        ScoreboardMetrics metrics = new ScoreboardMetrics();
+        MeteredScoreboard scoreboard = new MeteredScoreboard(new Scoreboard(), metrics, 1);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 2);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 2);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0, 1);
+
+        //then
+        assertEquals(1, metrics.getUpdatedGames());
+        assertEquals(1, metrics.getDuplicateUpdateDrops());
+        assertEquals(1, metrics.getStaleUpdateDrops());
+    }
+}
@@ -0,0 +1,212 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.Collections.EMPTY_LIST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RankedMatchIndexTest {
+
+    @Test
+    void whenIterate_givenEmptyIndex_thenReturnNothing() {
+        //given
+        RankedMatchIndex index = new RankedMatchIndex(new MatchComparator());
+
+        //when
+        var actualList = index.first(10);
+
+        //then
+        assertEquals(EMPTY_LIST, actualList);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void whenIterate_givenRandomUpdates_thenKeepMatchesSortedLikeComparator() {
+        //given
+        RankedMatchIndex index = new RankedMatchIndex(new MatchComparator());
+        List<Match> matches = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 500; i++) {
+            Match match = new Match("HOME" + i, "AWAY" + i);
+            matches.add(match);
+            index.add(match);
+        }
+
+        //when
+        for (int i = 0; i < 2000; i++) {
+            Match match = matches.get(random.nextInt(matches.size()));
+            index.remove(match);
+            match.updateScore(random.nextInt(5), random.nextInt(5));
+            index.add(match);
+        }
+        for (int i = 0; i < 100; i++) {
+            index.remove(matches.remove(random.nextInt(matches.size())));
+        }
+
+        //then
+        var expectedList = new ArrayList<>(matches);
+        expectedList.sort(new MatchComparator());
+
+        var actualList = new ArrayList<Match>();
+        index.forEach(actualList::add);
+
+        assertEquals(expectedList, actualList);
+        for (int i = 0; i < expectedList.size(); i++) {
+            assertEquals(i, index.rank(expectedList.get(i)));
+        }
+    }
+
+    @Test
+    void whenIterateFromPosition_givenIndex_thenStartAtThatPosition() {
+        //given
+        RankedMatchIndex index = new RankedMatchIndex(new MatchComparator());
+        List<Match> expectedList = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            Match match = new Match("HOME" + i, "AWAY" + i, 100 - i, 0);
+            expectedList.add(match);
+            index.add(match);
+        }
+
+        //when
+        var actualList = new ArrayList<Match>();
+        index.iterator(30).forEachRemaining(actualList::add);
+
+        //then
+        assertEquals(expectedList.subList(30, 50), actualList);
+    }
+
+    @Test
+    void whenRank_givenMatchOutsideOfIndex_thenReturnMinusOne() {
+        //given
+        RankedMatchIndex index = new RankedMatchIndex(new MatchComparator());
+        index.add(new Match("HOME", "AWAY"));
+
+        //when
+        int actual = index.rank(new Match("HOME", "AWAY"));
+
+        //then
+        assertEquals(-1, actual);
+    }
+
+    @Test
+    void whenBuild_givenSortedMatches_thenKeepOrderAfterFurtherUpdates() {
+        //given
+        RankedMatchIndex index = new RankedMatchIndex(new MatchComparator());
+        List<Match> matches = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 300; i++) {
+            matches.add(new Match("HOME" + i, "AWAY" + i, random.nextInt(5), random.nextInt(5)));
+        }
+        var sorted = new ArrayList<>(matches);
+        sorted.sort(new MatchComparator());
+
+        //when
+        index.build(sorted.toArray(new Match[0]));
+        for (int i = 0; i < 1000; i++) {
+            Match match = matches.get(random.nextInt(matches.size()));
+            index.remove(match);
+            match.updateScore(random.nextInt(5), random.nextInt(5));
+            index.add(match);
+        }
+
+        //then
+        var expectedList = new ArrayList<>(matches);
+        expectedList.sort(new MatchComparator());
+
+        assertEquals(expectedList, index.first(matches.size()));
+        assertEquals(matches.size(), index.size());
+    }
+
+    @Test
+    void whenIterate_givenIndexBySortKeysAndRandomUpdates_thenKeepMatchesSortedLikeComparator() {
+        //given
+        RankedMatchIndex index = new RankedMatchIndex();
+        List<Match> matches = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 500; i++) {
+            Match match = new Match("HOME" + i, "AWAY" + i);
+            matches.add(match);
+            index.add(match);
+        }
+
+        //when
+        for (int i = 0; i < 2000; i++) {
+            Match match = matches.get(random.nextInt(matches.size()));
+            index.remove(match);
+            match.updateScore(random.nextInt(5), random.nextInt(5));
+            index.add(match);
+        }
+
+        //then
+        var expectedList = new ArrayList<>(matches);
+        expectedList.sort(new MatchComparator());
+
+        var actualList = new ArrayList<Match>();
+        index.forEach(actualList::add);
+
+        assertEquals(expectedList, actualList);
+        for (int i = 0; i < expectedList.size(); i++) {
+            assertEquals(i, index.rank(expectedList.get(i)));
+        }
+    }
+
+    @Test
+    void whenSortByKey_givenManyMatchesOfEveryPolicy_thenSortLikeComparator() {
+        for (RankingPolicy policy : RankingPolicy.values()) {
+            //given
+            List<Match> matches = new ArrayList<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 10_000; i++) {
+                Match match = new Match("HOME" + i, "AWAY" + i);
+                match.rankBy(policy);
+                if (random.nextBoolean()) {
+                    match.updateScore(random.nextInt(5), random.nextInt(500));
+                }
+                matches.add(match);
+            }
+            Collections.shuffle(matches, random);
+            Match[] sorted = matches.toArray(new Match[0]);
+
+            //when
+            RankingPolicy.sortByKey(sorted);
+
+            //then
+            matches.sort(RankingPolicy.BY_SORT_KEY);
+            assertEquals(matches, Arrays.asList(sorted));
+        }
+    }
+
+    @Test
+    void whenAddRemovedNode_givenChangedScore_thenMoveMatchToItsNewPosition() {
+        //given
+        RankedMatchIndex index = new RankedMatchIndex();
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Match match = new Match("HOME" + i, "AWAY" + i);
+            matches.add(match);
+            index.add(match);
+        }
+        Match match = matches.get(50);
+
+        //when
+        RankedMatchIndex.Node node = index.remove(match);
+        match.updateScore(3, 2);
+        index.add(node);
+
+        //then
+        assertEquals(0, index.rank(match));
+        assertEquals(100, index.size());
+        assertEquals(match, index.first(1).get(0));
+        assertNull(index.remove(new Match("HOME", "AWAY")));
+    }
+}
@@ -0,0 +1,124 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreTimelineTest {
+
+    @Test
+    void whenGetScoreAt_givenGoals_thenReturnScoreAfterLastGoalBeforeTime() {
+        //given
+        ScoreTimeline timeline = new ScoreTimeline(0, 0);
+        timeline.add(60_000, 1, 0);
+        timeline.add(300_000, 1, 1);
+        timeline.add(2_700_000, 2, 1);
+
+        //when
+        ScoreChange beforeFirstGoal = timeline.getScoreAt(59_999);
+        ScoreChange atSecondGoal = timeline.getScoreAt(300_000);
+        ScoreChange afterLastGoal = timeline.getScoreAt(5_400_000);
+
+        //then
+        assertEquals(new ScoreChange(0, 0, 0), beforeFirstGoal);
+        assertEquals(new ScoreChange(300_000, 1, 1), atSecondGoal);
+        assertEquals(new ScoreChange(2_700_000, 2, 1), afterLastGoal);
+    }
+
+    @Test
+    void whenGetLastChanges_givenCorrectedScore_thenReturnLastChangesOldestFirst() {
+        //given
+        ScoreTimeline timeline = new ScoreTimeline(0, 0);
+        timeline.add(1_000, 1, 0);
+        timeline.add(2_000, 1, 0);
+        timeline.add(3_000, 2, 0);
+        timeline.add(4_000, 1, 0);
+
+        //when
+        List<ScoreChange> actual = timeline.getLastChanges(2);
+
+        //then
+        assertEquals(List.of(new ScoreChange(3_000, 2, 0), new ScoreChange(4_000, 1, 0)), actual);
+        assertEquals(3, timeline.size());
+        assertEquals(3, timeline.getChanges().size());
+        assertThrows(IllegalArgumentException.class, () -> timeline.getLastChanges(-1));
+    }
+
+    @Test
+    void whenAdd_givenGoalsMinutesApart_thenEncodeEveryGoalInFewBytes() {
+        //given
+        ScoreTimeline timeline = new ScoreTimeline(0, 0);
+
+        //when
+        for (int goal = 1; goal <= 10; goal++) {
+            timeline.add(goal * 540_000L, goal, goal / 2);
+        }
+
+        //then
+        assertEquals(10, timeline.size());
+        assertTrue(timeline.getEncodedSize() <= 10 * 5, () -> "Encoded size: " + timeline.getEncodedSize());
+    }
+
+    @Test
+    void whenAdd_givenChangesOverMaxEncodedSize_thenDropOlderChanges() {
+        //given
+        ScoreTimeline timeline = new ScoreTimeline(0, 0);
+
+        //when
+        for (int i = 1; i <= 10_000; i++) {
+            timeline.add(i, i, 0);
+        }
+
+        //then
+        assertTrue(timeline.getEncodedSize() <= ScoreTimeline.MAX_ENCODED_SIZE);
+        assertEquals(new ScoreChange(10_000, 10_000, 0), timeline.getScoreAt(Long.MAX_VALUE));
+        ScoreChange oldest = timeline.getChanges().get(0);
+        assertEquals(oldest.getTime(), oldest.getHomeTeamScore());
+        assertEquals(new ScoreChange(oldest.getTime() - 1, (int) oldest.getTime() - 1, 0), timeline.getScoreAt(0));
+    }
+
+    @Test
+    void whenUpdateScore_givenMatch_thenRecordChangesInItsTimeline() {
+        //given
+        Match match = new Match("GONDOR", "MORDOR");
+
+        //when
+        match.updateScore(1, 0);
+        match.updateScore(1, 0);
+        Match copy = match.withScore(1, 1);
+
+        //then
+        ScoreChange last = copy.getTimeline().getScoreAt(Long.MAX_VALUE);
+        assertEquals(1, match.getTimeline().size());
+        assertEquals(2, copy.getTimeline().size());
+        assertEquals(new ScoreChange(0, 0, 0), match.getTimeline().getScoreAt(-1));
+        assertEquals(1, last.getHomeTeamScore());
+        assertEquals(1, last.getAwayTeamScore());
+    }
+
+    @Test
+    void whenAdd_givenCopiesOfTimeline_thenEveryCopyKeepsItsOwnChanges() {
+        //given
+        ScoreTimeline timeline = new ScoreTimeline(0, 0);
+        timeline.add(1_000, 1, 0);
+        ScoreTimeline copy = timeline.copy();
+        ScoreTimeline unchanged = timeline.copy();
+
+        //when
+        timeline.add(2_000, 2, 0);
+        copy.add(3_000, 1, 1);
+        copy.add(4_000, 1, 2);
+        timeline.add(5_000, 3, 0);
+
+        //then
+        assertEquals(List.of(new ScoreChange(1_000, 1, 0), new ScoreChange(2_000, 2, 0), new ScoreChange(5_000, 3, 0)),
+                timeline.getChanges());
+        assertEquals(List.of(new ScoreChange(1_000, 1, 0), new ScoreChange(3_000, 1, 1), new ScoreChange(4_000, 1, 2)),
+                copy.getChanges());
+        assertEquals(List.of(new ScoreChange(1_000, 1, 0)), unchanged.getChanges());
+    }
+}
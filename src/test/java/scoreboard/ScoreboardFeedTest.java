@@ -0,0 +1,188 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static scoreboard.ScoreboardEvent.Type.FINISHED;
+import static scoreboard.ScoreboardEvent.Type.STARTED;
+import static scoreboard.ScoreboardEvent.Type.UPDATED;
+
+class ScoreboardFeedTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+
+    @Test
+    void whenChangeScoreboard_givenSubscriberWithUnboundedDemand_thenDeliverEveryEventInOrder() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        ScoreboardFeed feed = new ScoreboardFeed(Runnable::run, 16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        scoreboard.addListener(feed);
+        feed.subscribe(subscriber);
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        var expected = List.of(
+                new ScoreboardEvent(STARTED, HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0),
+                new ScoreboardEvent(UPDATED, HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0),
+                new ScoreboardEvent(FINISHED, HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0));
+
+        assertEquals(expected, subscriber.events);
+    }
+
+    @Test
+    void whenChangeScoreboard_givenLaggingSubscriber_thenConflateUpdatesOfTheSameMatch() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        ScoreboardFeed feed = new ScoreboardFeed(Runnable::run, 16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        scoreboard.addListener(feed);
+        feed.subscribe(subscriber);
+
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 1);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0);
+        scoreboard.finishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+
+        //when
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //then
+        var expected = List.of(
+                new ScoreboardEvent(STARTED, HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0),
+                new ScoreboardEvent(STARTED, HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 0),
+                new ScoreboardEvent(UPDATED, HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0),
+                new ScoreboardEvent(FINISHED, HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 1));
+
+        assertEquals(expected, subscriber.events);
+    }
+
+    @Test
+    void whenChangeScoreboard_givenOverflowingSubscriber_thenSignalErrorAndKeepOtherSubscribers() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        ScoreboardFeed feed = new ScoreboardFeed(Runnable::run, 2);
+        RecordingSubscriber lagging = new RecordingSubscriber(0);
+        RecordingSubscriber fast = new RecordingSubscriber(Long.MAX_VALUE);
+        scoreboard.addListener(feed);
+        feed.subscribe(lagging);
+        feed.subscribe(fast);
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertEquals(IllegalStateException.class, lagging.error.getClass());
+        assertEquals(3, fast.events.size());
+        assertEquals(1, feed.getSubscriberCount());
+    }
+
+    @Test
+    void whenChangeScoreboard_givenSlowExecutor_thenWriterIsNotBlocked() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        QueueExecutor executor = new QueueExecutor();
+        ScoreboardFeed feed = new ScoreboardFeed(executor, 16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        scoreboard.addListener(feed);
+        feed.subscribe(subscriber);
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        int deliveredBeforeExecutorRuns = subscriber.events.size();
+        executor.runAll();
+
+        //then
+        assertEquals(0, deliveredBeforeExecutorRuns);
+        assertEquals(2, subscriber.events.size());
+    }
+
+    @Test
+    void whenClose_givenPendingEvents_thenDeliverThemAndComplete() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        ScoreboardFeed feed = new ScoreboardFeed(Runnable::run, 16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        scoreboard.addListener(feed);
+        feed.subscribe(subscriber);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        feed.close();
+        subscriber.subscription.request(10);
+
+        //then
+        assertEquals(1, subscriber.events.size());
+        assertTrue(subscriber.completed);
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+        private final long initialDemand;
+        private final List<ScoreboardEvent> events = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        private RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static final class QueueExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        private void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+}
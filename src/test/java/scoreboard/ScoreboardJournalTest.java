@@ -0,0 +1,264 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreboardJournalTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String HOME_TEAM_NAME_3 = "ISENGARD";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+    private static final String AWAY_TEAM_NAME_3 = "MORIA";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void whenRecover_givenJournalOfChanges_thenRebuildScoreboardWithOriginalStartOrder() throws IOException {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+        Scoreboard scoreboard = new Scoreboard();
+        try (ScoreboardJournal journal = ScoreboardJournal.open(path, 2, true)) {
+            scoreboard.addListener(journal);
+            scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+            scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+            scoreboard.startNewGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3);
+            scoreboard.updateGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3, 1, 1);
+            scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 2);
+            scoreboard.finishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        }
+
+        //when
+        Scoreboard recovered = new Scoreboard();
+        long actualRecords = ScoreboardJournal.recover(path, recovered);
+
+        //then
+        assertEquals(6, actualRecords);
+        assertEquals(scoreboard.getSummary(), recovered.getSummary());
+        assertEquals(List.of(
+                new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 2),
+                new Match(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3, 1, 1)), recovered.getSummary());
+    }
+
+    @Test
+    void whenRecover_givenTornRecordAtTheEnd_thenReplayValidRecordsAndCutOffTheRest() throws IOException {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+        Scoreboard scoreboard = new Scoreboard();
+        try (ScoreboardJournal journal = ScoreboardJournal.open(path, 1, false)) {
+            scoreboard.addListener(journal);
+            scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+            scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        }
+        long validSize = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2, 3}));
+        }
+
+        //when
+        Scoreboard recovered = new Scoreboard();
+        long actualRecords = ScoreboardJournal.recover(path, recovered);
+
+        //then
+        assertEquals(2, actualRecords);
+        assertEquals(validSize, Files.size(path));
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0)), recovered.getSummary());
+    }
+
+    @Test
+    void whenAppend_givenGroupNotCommittedYet_thenKeepRecordsInMemory() throws IOException {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+        Scoreboard scoreboard = new Scoreboard();
+
+        try (ScoreboardJournal journal = ScoreboardJournal.open(path, 3, Duration.ofHours(1), false)) {
+            scoreboard.addListener(journal);
+
+            //when
+            scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+            scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+            long sizeBeforeCommit = Files.size(path);
+            scoreboard.startNewGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3);
+
+            //then
+            assertEquals(0, sizeBeforeCommit);
+            assertEquals(3, ScoreboardJournal.recover(path, new Scoreboard()));
+        }
+    }
+
+    @Test
+    void whenRecover_givenManyMatches_thenKeepSummaryOrder() throws IOException {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+        Scoreboard scoreboard = new Scoreboard();
+        try (ScoreboardJournal journal = ScoreboardJournal.open(path, 1000, false)) {
+            scoreboard.addListener(journal);
+            for (int i = 0; i < 10_000; i++) {
+                scoreboard.startNewGame("HOME" + i, "AWAY" + i);
+                scoreboard.updateGame("HOME" + i, "AWAY" + i, i % 7, i % 3);
+            }
+            var finished = new ArrayList<TeamPair>();
+            for (int i = 0; i < 10_000; i += 3) {
+                finished.add(new TeamPair("HOME" + i, "AWAY" + i));
+            }
+            scoreboard.finishGames(finished);
+        }
+
+        //when
+        Scoreboard recovered = new Scoreboard();
+        ScoreboardJournal.recover(path, recovered);
+
+        //then
+        assertEquals(scoreboard.getSummary(), recovered.getSummary());
+    }
+
+    @Test
+    void whenAppend_givenQuietBoard_thenCommitGroupAfterMaxCommitDelay() throws IOException, InterruptedException {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+        Scoreboard scoreboard = new Scoreboard();
+
+        try (ScoreboardJournal journal = ScoreboardJournal.open(path, 1000, Duration.ofMillis(5), false)) {
+            scoreboard.addListener(journal);
+
+            //when
+            scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (Files.size(path) == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            //then
+            assertEquals(1, ScoreboardJournal.recover(path, new Scoreboard()));
+        }
+    }
+
+    @Test
+    void whenRecover_givenJournalRegisteredWithStartedMatches_thenSkipRecordsOfMatchesWithoutStart() throws IOException {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        try (ScoreboardJournal journal = ScoreboardJournal.open(path, 1, false)) {
+            scoreboard.addListener(journal);
+            scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+            scoreboard.finishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+            scoreboard.startNewGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3);
+        }
+
+        //when
+        Scoreboard recovered = new Scoreboard();
+        long actualRecords = ScoreboardJournal.recover(path, recovered);
+
+        //then
+        assertEquals(3, actualRecords);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3)), recovered.getSummary());
+    }
+
+    @Test
+    void whenCheckpoint_givenLongHistory_thenKeepOnlyLiveMatches() throws IOException {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1);
+        try (ScoreboardJournal journal = ScoreboardJournal.open(path, 10, false)) {
+            scoreboard.addListener(journal);
+            for (int i = 0; i < 100; i++) {
+                scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+                scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, i, 0);
+                scoreboard.finishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+            }
+            scoreboard.startNewGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3);
+
+            //when
+            journal.checkpoint(scoreboard);
+            scoreboard.updateGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3, 0, 1);
+        }
+
+        //then
+        Scoreboard recovered = new Scoreboard();
+        assertEquals(4, ScoreboardJournal.recover(path, recovered));
+        assertEquals(scoreboard.getSummary(), recovered.getSummary());
+        assertEquals(List.of(
+                new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1),
+                new Match(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3, 0, 1)), recovered.getSummary());
+        assertTrue(Files.notExists(directory.resolve("scoreboard.journal.checkpoint")));
+    }
+
+    @Test
+    void whenRecover_givenSequencedUpdates_thenKeepUpdateSequenceAndDropStaleUpdates() throws IOException {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 5);
+        try (ScoreboardJournal journal = ScoreboardJournal.open(path, 10, false)) {
+            scoreboard.addListener(journal);
+            journal.checkpoint(scoreboard);
+            scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+            scoreboard.tryUpdateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 1, 3);
+            scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 2);
+        }
+
+        //when
+        Scoreboard recovered = new Scoreboard();
+        ScoreboardJournal.recover(path, recovered);
+        OperationStatus stale = recovered.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0, 4);
+        OperationStatus duplicate = recovered.tryUpdateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 1, 3);
+
+        //then
+        assertEquals(OperationStatus.STALE_UPDATE, stale);
+        assertEquals(OperationStatus.DUPLICATE_UPDATE, duplicate);
+        assertEquals(scoreboard.getSummary(), recovered.getSummary());
+        assertEquals(5, recovered.findMatchByTeam(HOME_TEAM_NAME).orElseThrow().getUpdateSequence());
+        assertEquals(3, recovered.findMatchByTeam(HOME_TEAM_NAME_2).orElseThrow().getUpdateSequence());
+    }
+
+    @Test
+    void whenAppend_givenTooLongTeamName_thenApplyChangeAndFailJournal() throws IOException {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+        Scoreboard scoreboard = new Scoreboard();
+        ScoreboardJournal journal = ScoreboardJournal.open(path, 10, false);
+        scoreboard.addListener(journal);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        String tooLongName = "A".repeat(0x10000);
+
+        //when
+        var actual = scoreboard.startNewGames(List.of(new TeamPair(tooLongName, AWAY_TEAM_NAME_2)));
+
+        //then
+        assertTrue(actual.isSuccessful());
+        assertEquals(2, scoreboard.getSummary().size());
+        assertThrows(UncheckedIOException.class, journal::commit);
+        assertThrows(UncheckedIOException.class, journal::close);
+    }
+
+    @Test
+    void whenOpen_givenNotPositiveMaxCommitDelay_thenThrowIllegalArgumentException() {
+        //given
+        Path path = directory.resolve("scoreboard.journal");
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> ScoreboardJournal.open(path, 10, Duration.ZERO, false));
+    }
+}
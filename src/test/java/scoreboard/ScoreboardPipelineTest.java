@@ -0,0 +1,143 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreboardPipelineTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+
+    @Test
+    void whenUpdateGame_givenStartedGame_thenApplyCommandsInOrder() throws Exception {
+        //given
+        try (ScoreboardPipeline pipeline = ScoreboardPipeline.start(new Scoreboard())) {
+            CompletableFuture<OperationStatus> started = pipeline.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+            //when
+            CompletableFuture<OperationStatus> updated = pipeline.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1);
+            List<Match> summary = pipeline.getSummary().get(5, TimeUnit.SECONDS);
+
+            //then
+            assertEquals(OperationStatus.APPLIED, started.get(5, TimeUnit.SECONDS));
+            assertEquals(OperationStatus.APPLIED, updated.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), summary);
+        }
+    }
+
+    @Test
+    void whenUpdateGame_givenNotExistingGame_thenCompleteWithRejection() throws Exception {
+        //given
+        try (ScoreboardPipeline pipeline = ScoreboardPipeline.start(new Scoreboard())) {
+
+            //when
+            OperationStatus status = pipeline.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0).get(5, TimeUnit.SECONDS);
+
+            //then
+            assertEquals(OperationStatus.MATCH_DOESNT_EXIST, status);
+        }
+    }
+
+    @Test
+    void whenUpdateGame_givenManyProducersAndSmallRing_thenApplyEveryUpdateInProducerOrder() throws Exception {
+        //given
+        int producers = 4;
+        int updates = 2000;
+        Scoreboard scoreboard = new Scoreboard();
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        try (ScoreboardPipeline pipeline = ScoreboardPipeline.start(scoreboard, 8, WaitStrategy.YIELD)) {
+            for (int i = 0; i < producers; i++) {
+                pipeline.startNewGame("HOME" + i, "AWAY" + i);
+            }
+
+            //when
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < producers; i++) {
+                String home = "HOME" + i;
+                String away = "AWAY" + i;
+                results.add(executor.submit(() -> {
+                    for (int score = 1; score <= updates; score++) {
+                        pipeline.updateGame(home, away, score, 0);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+            List<Match> summary = pipeline.getSummary().get(30, TimeUnit.SECONDS);
+            pipeline.close();
+
+            //then
+            assertEquals(producers, summary.size());
+            for (Match match : summary) {
+                assertEquals(updates, match.getHomeTeamScore());
+            }
+            assertEquals(producers + producers * updates + 1, pipeline.getProcessedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void whenStartNewGame_givenClosedPipeline_thenThrowExceptionAfterApplyingPendingCommands() throws Exception {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        ScoreboardPipeline pipeline = ScoreboardPipeline.start(scoreboard, 4, WaitStrategy.PARK);
+        CompletableFuture<OperationStatus> pending = pipeline.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        pipeline.close();
+
+        //then
+        assertTrue(pending.isDone());
+        assertEquals(OperationStatus.APPLIED, pending.get());
+        assertEquals(1, scoreboard.getSummary().size());
+        assertThrows(IllegalStateException.class, () -> pipeline.startNewGame("ROHAN", "SHIRE"));
+    }
+
+    @Test
+    void whenUpdateGame_givenListenerThrowingError_thenFailPendingCommandsAndRejectNewOnes() throws Exception {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.addListener(new ScoreboardListener() {
+            @Override
+            public void scoreUpdated(Match match) {
+                throw new AssertionError("Listener failed");
+            }
+        });
+        ScoreboardPipeline pipeline = ScoreboardPipeline.start(scoreboard, 4, WaitStrategy.PARK);
+        CompletableFuture<OperationStatus> started = pipeline.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        CompletableFuture<OperationStatus> updated = pipeline.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> updated.get(5, TimeUnit.SECONDS));
+
+        //then
+        assertEquals(OperationStatus.APPLIED, started.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof AssertionError);
+        IllegalStateException rejection = assertThrows(IllegalStateException.class, pipeline::getSummary);
+        assertTrue(rejection.getCause() instanceof AssertionError);
+        pipeline.close();
+    }
+
+    @Test
+    void whenStart_givenCapacityNotPowerOfTwo_thenThrowException() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            ScoreboardPipeline.start(new Scoreboard(), 1000, WaitStrategy.PARK);
+        });
+    }
+}
@@ -0,0 +1,131 @@
+package scoreboard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ScoreboardServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ScoreboardServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = ScoreboardServer.start(new SnapshotScoreboard(), new InetSocketAddress("localhost", 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void whenGetSummary_givenStartedAndUpdatedGames_thenReturnSummaryAsJson() throws Exception {
+        //given
+        send("POST", "/games?homeTeam=gondor&awayTeam=MORDOR");
+        send("POST", "/games?homeTeam=ROHAN&awayTeam=SHIRE");
+        send("PUT", "/games?homeTeam=ROHAN&awayTeam=SHIRE&homeScore=2&awayScore=1");
+
+        //when
+        HttpResponse<String> actual = send("GET", "/summary");
+
+        //then
+        assertEquals(200, actual.statusCode());
+        assertEquals("3", actual.headers().firstValue(ScoreboardServer.VERSION_HEADER).orElseThrow());
+        assertEquals("{\"version\":3,\"matches\":["
+                + "{\"homeTeam\":\"ROHAN\",\"awayTeam\":\"SHIRE\",\"homeScore\":2,\"awayScore\":1},"
+                + "{\"homeTeam\":\"GONDOR\",\"awayTeam\":\"MORDOR\",\"homeScore\":0,\"awayScore\":0}]}", actual.body());
+    }
+
+    @Test
+    void whenChangeGame_givenInvalidRequests_thenRespondWithErrorStatus() throws Exception {
+        //given
+        send("POST", "/games?homeTeam=GONDOR&awayTeam=MORDOR");
+
+        //then
+        assertEquals(409, send("POST", "/games?homeTeam=GONDOR&awayTeam=MORDOR").statusCode());
+        assertEquals(409, send("POST", "/games?homeTeam=ROHAN&awayTeam=MORDOR").statusCode());
+        assertEquals(400, send("POST", "/games?homeTeam=ROHAN").statusCode());
+        assertEquals(400, send("PUT", "/games?homeTeam=GONDOR&awayTeam=MORDOR&homeScore=x&awayScore=1").statusCode());
+        assertEquals(404, send("DELETE", "/games?homeTeam=ROHAN&awayTeam=SHIRE").statusCode());
+        assertEquals(405, send("GET", "/games").statusCode());
+        assertEquals(1, server.getVersion());
+    }
+
+    @Test
+    void whenUpdateGameInSequence_givenDuplicateAndStaleUpdates_thenDropThemWithConflict() throws Exception {
+        //given
+        send("POST", "/games?homeTeam=GONDOR&awayTeam=MORDOR");
+        send("PUT", "/games?homeTeam=GONDOR&awayTeam=MORDOR&homeScore=2&awayScore=0&sequence=2");
+
+        //when
+        HttpResponse<String> duplicate = send("PUT", "/games?homeTeam=GONDOR&awayTeam=MORDOR&homeScore=2&awayScore=0&sequence=2");
+        HttpResponse<String> stale = send("PUT", "/games?homeTeam=GONDOR&awayTeam=MORDOR&homeScore=1&awayScore=0&sequence=1");
+        HttpResponse<String> later = send("PUT", "/games?homeTeam=GONDOR&awayTeam=MORDOR&homeScore=2&awayScore=1&sequence=3");
+
+        //then
+        assertEquals(409, duplicate.statusCode());
+        assertEquals(409, stale.statusCode());
+        assertEquals(204, later.statusCode());
+        assertEquals(404, send("PUT", "/games?homeTeam=ROHAN&awayTeam=SHIRE&homeScore=1&awayScore=0&sequence=1").statusCode());
+        assertEquals(400, send("PUT", "/games?homeTeam=GONDOR&awayTeam=MORDOR&homeScore=3&awayScore=1&sequence=0").statusCode());
+        assertEquals(3, server.getVersion());
+    }
+
+    @Test
+    void whenPollSummary_givenChangeDuringPoll_thenRespondWithNewSummary() throws Exception {
+        //given
+        send("POST", "/games?homeTeam=GONDOR&awayTeam=MORDOR");
+        CompletableFuture<HttpResponse<String>> poll = sendAsync("/summary?since=1&timeoutMillis=30000");
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertFalse(poll.isDone());
+
+        //when
+        send("DELETE", "/games?homeTeam=GONDOR&awayTeam=MORDOR");
+
+        //then
+        HttpResponse<String> actual = poll.get(10, TimeUnit.SECONDS);
+        assertEquals(200, actual.statusCode());
+        assertEquals("{\"version\":2,\"matches\":[]}", actual.body());
+    }
+
+    @Test
+    void whenPollSummary_givenNoChange_thenRespondWithCurrentSummaryAfterTimeout() throws Exception {
+        //given
+        send("POST", "/games?homeTeam=GONDOR&awayTeam=MORDOR");
+
+        //when
+        HttpResponse<String> actual = sendAsync("/summary?since=1&timeoutMillis=100").get(10, TimeUnit.SECONDS);
+
+        //then
+        assertEquals(200, actual.statusCode());
+        assertEquals("1", actual.headers().firstValue(ScoreboardServer.VERSION_HEADER).orElseThrow());
+    }
+
+    private HttpResponse<String> send(String method, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(String path) {
+        return client.sendAsync(HttpRequest.newBuilder(uri(path)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
@@ -6,12 +6,21 @@ import scoreboard.exceptions.MatchDoesntExistException;
 import scoreboard.exceptions.NotUniquePairException;
 import scoreboard.exceptions.TeamAlreadyInMatchException;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.EMPTY_LIST;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ScoreboardTest {
     private static final String HOME_TEAM_NAME = "GONDOR";
@@ -418,4 +427,648 @@ class ScoreboardTest {
 
         assertEquals(expectedList, actualList);
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenGetSummary_givenGoalDifferencePolicy_thenReturnListSortedByGoalDifferenceThenTotalScore() {
+        //given
+        Scoreboard scoreboard = new Scoreboard(RankingPolicy.GOAL_DIFFERENCE);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, 3);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 2);
+        scoreboard.startNewGame("ISENGARD", "MORIA");
+        scoreboard.updateGame("ISENGARD", "MORIA", 3, 1);
+
+        //when
+        var actualList = scoreboard.getSummary();
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match("ISENGARD", "MORIA", 3, 1));
+        expectedList.add(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 2));
+        expectedList.add(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, 3));
+
+        assertEquals(expectedList, actualList);
+    }
+
+    @Test
+    void whenGetSummary_givenMostRecentGoalPolicy_thenReturnListSortedByLastScoreChange() {
+        //given
+        Scoreboard scoreboard = new Scoreboard(RankingPolicy.MOST_RECENT_GOAL);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.startNewGame("ISENGARD", "MORIA");
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0);
+        scoreboard.updateGame("ISENGARD", "MORIA", 0, 1);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0);
+
+        //when
+        var actualList = scoreboard.getSummary();
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0));
+        expectedList.add(new Match("ISENGARD", "MORIA", 0, 1));
+        expectedList.add(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0));
+
+        assertEquals(expectedList, actualList);
+    }
+
+    @Test
+    void whenTryUpdateGameInSequence_givenDuplicateAndStaleUpdates_thenDropThemWithoutRollingScoreBack() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 3);
+
+        //when
+        OperationStatus duplicate = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 3);
+        OperationStatus stale = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 2);
+        OperationStatus later = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1, 4);
+
+        //then
+        assertEquals(OperationStatus.DUPLICATE_UPDATE, duplicate);
+        assertEquals(OperationStatus.STALE_UPDATE, stale);
+        assertEquals(OperationStatus.APPLIED, later);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), scoreboard.getSummary());
+    }
+
+    @Test
+    void whenTryUpdateGameInSequence_givenInvalidSequenceOrMissingMatch_thenRejectUpdate() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        OperationStatus invalid = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 0);
+        OperationStatus missing = scoreboard.tryUpdateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0, 1);
+
+        //then
+        assertEquals(OperationStatus.INVALID_ARGUMENT, invalid);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missing);
+    }
+
+    @Test
+    void whenStartNewGame_givenAwayTeamPlayingAsHomeTeam_thenThrowException() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(TeamAlreadyInMatchException.class, () -> {
+            //when
+            scoreboard.startNewGame(HOME_TEAM_NAME_2, HOME_TEAM_NAME);
+        });
+    }
+
+    @Test
+    void whenStartNewGame_givenTeamOfFinishedMatch_thenAddNewGameToScoreboard() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME);
+
+        //then
+        var expected = new HashMap<String, Match>();
+        expected.put(HOME_TEAM_NAME_2, new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME, 0, 0));
+
+        assertEquals(expected, scoreboard.getScores());
+    }
+
+    @Test
+    void whenFindMatchByTeam_givenHomeAndAwayTeam_thenReturnTheirMatch() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+
+        //when
+        var actualHome = scoreboard.findMatchByTeam(HOME_TEAM_NAME_LOWER_CASE);
+        var actualAway = scoreboard.findMatchByTeam(AWAY_TEAM_NAME_LOWER_CASE);
+
+        //then
+        var expected = Optional.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0));
+
+        assertEquals(expected, actualHome);
+        assertEquals(expected, actualAway);
+    }
+
+    @Test
+    void whenFindMatchByTeam_givenTeamOfFinishedMatch_thenReturnEmpty() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        var actual = scoreboard.findMatchByTeam(AWAY_TEAM_NAME);
+
+        //then
+        assertEquals(Optional.empty(), actual);
+    }
+
+    @Test
+    void whenFindMatchByTeam_givenEmptyTeam_thenThrowException() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            scoreboard.findMatchByTeam("");
+        });
+    }
+
+    @Test
+    void whenGetSummary_givenMatchWhichScoreWasLowered_thenReturnListSortedByTotalScore() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, 2);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 2);
+
+        //when
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        var actualList = scoreboard.getSummary();
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 2));
+        expectedList.add(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0));
+
+        assertEquals(expectedList, actualList);
+    }
+
+    @Test
+    void whenGetSummary_givenRejectedUpdate_thenKeepPreviousOrder() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 2);
+        assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, -1, 2));
+
+        //when
+        var actualList = scoreboard.getSummary();
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 2));
+        expectedList.add(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0));
+
+        assertEquals(expectedList, actualList);
+    }
+
+    @Test
+    void whenGetTopMatches_givenMoreMatchesThanK_thenReturnFirstKOfSummary() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0);
+
+        //when
+        var actualList = scoreboard.getTopMatches(1);
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0));
+
+        assertEquals(expectedList, actualList);
+    }
+
+    @Test
+    void whenGetTopMatches_givenNegativeK_thenThrowException() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            scoreboard.getTopMatches(-1);
+        });
+    }
+
+    @Test
+    void whenGetRank_givenExistingMatches_thenReturnTheirPositionInSummary() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0);
+
+        //when
+        int actualFirst = scoreboard.getRank(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        int actualSecond = scoreboard.getRank(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME_LOWER_CASE);
+
+        //then
+        assertEquals(1, actualFirst);
+        assertEquals(2, actualSecond);
+    }
+
+    @Test
+    void whenGetRank_givenNotExistingMatch_thenThrowException() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(MatchDoesntExistException.class, () -> {
+            //when
+            scoreboard.getRank(HOME_TEAM_NAME, AWAY_TEAM_NAME_2);
+        });
+    }
+
+    @Test
+    void whenStartNewGames_givenBatchWithRejectedGame_thenStartTheRestAndReportFailure() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        var games = List.of(
+                new TeamPair(HOME_TEAM_NAME, AWAY_TEAM_NAME),
+                new TeamPair(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_LOWER_CASE),
+                new TeamPair(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2));
+
+        //when
+        var actual = scoreboard.startNewGames(games);
+
+        //then
+        var expected = new HashMap<String, Match>();
+        expected.put(HOME_TEAM_NAME, new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0));
+        expected.put(HOME_TEAM_NAME_2, new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 0));
+
+        assertEquals(expected, scoreboard.getScores());
+        assertFalse(actual.isSuccessful());
+        assertEquals(2, actual.getAppliedCount());
+        assertEquals(1, actual.getFailures().size());
+        assertEquals(1, actual.getFailures().get(0).getIndex());
+        assertEquals(games.get(1), actual.getFailures().get(0).getItem());
+        assertEquals(TeamAlreadyInMatchException.class, actual.getFailures().get(0).getCause().getClass());
+    }
+
+    @Test
+    void whenUpdateGames_givenBatchWithRejectedUpdates_thenApplyTheRestInOrder() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+
+        //when
+        var actual = scoreboard.updateGames(List.of(
+                new ScoreUpdate(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0),
+                new ScoreUpdate(HOME_TEAM_NAME, AWAY_TEAM_NAME_2, 5, 5),
+                new ScoreUpdate(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, -1, 0),
+                new ScoreUpdate(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0),
+                new ScoreUpdate(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME, 1, 1)));
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 1));
+        expectedList.add(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0));
+
+        assertEquals(expectedList, scoreboard.getSummary());
+        assertEquals(3, actual.getAppliedCount());
+        assertEquals(2, actual.getFailures().size());
+        assertEquals(MatchDoesntExistException.class, actual.getFailures().get(0).getCause().getClass());
+        assertEquals(2, actual.getFailures().get(1).getIndex());
+        assertEquals(IllegalArgumentException.class, actual.getFailures().get(1).getCause().getClass());
+    }
+
+    @Test
+    void whenUpdateGames_givenListenerReadingSummary_thenNotifyAfterWholeBatchWasApplied() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        List<List<Match>> seen = new ArrayList<>();
+        scoreboard.addListener(new ScoreboardListener() {
+            @Override
+            public void scoreUpdated(Match match) {
+                seen.add(scoreboard.getSummary());
+                scoreboard.getRenderedSummary(SummaryFormat.TEXT);
+            }
+        });
+
+        //when
+        scoreboard.updateGames(List.of(
+                new ScoreUpdate(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0),
+                new ScoreUpdate(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0),
+                new ScoreUpdate(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)));
+        String rendered = StandardCharsets.UTF_8.decode(scoreboard.getRenderedSummary(SummaryFormat.TEXT)).toString();
+
+        //then
+        var expectedList = List.of(
+                new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1),
+                new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 0));
+
+        assertEquals(List.of(expectedList, expectedList), seen);
+        assertEquals("1. GONDOR 2 - MORDOR 1\n2. ROHAN 2 - SHIRE 0\n", rendered);
+    }
+
+    @Test
+    void whenFinishGames_givenBatchOfExistingGames_thenRemoveThemFromScoreboard() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+
+        //when
+        var actual = scoreboard.finishGames(List.of(
+                new TeamPair(HOME_TEAM_NAME, AWAY_TEAM_NAME),
+                new TeamPair(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2)));
+
+        //then
+        assertTrue(actual.isSuccessful());
+        assertEquals(2, actual.getAppliedCount());
+        assertEquals(EMPTY_LIST, scoreboard.getSummary());
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam(AWAY_TEAM_NAME_2));
+    }
+
+    @Test
+    void whenUpdateGame_givenTeamsIds_thenUpdateTheSameMatchAsByNames() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME);
+        TeamRegistry registry = scoreboard.getTeamRegistry();
+        int homeTeamId = registry.findId(HOME_TEAM_NAME);
+        int awayTeamId = registry.findId(AWAY_TEAM_NAME_LOWER_CASE);
+
+        //when
+        scoreboard.updateGame(homeTeamId, awayTeamId, 2, 1);
+
+        //then
+        Match actual = scoreboard.findMatchByTeam(HOME_TEAM_NAME).orElseThrow();
+        assertEquals(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1), actual);
+        assertEquals(homeTeamId, actual.getHomeTeamId());
+        assertEquals(awayTeamId, actual.getAwayTeamId());
+    }
+
+    @Test
+    void whenStartNewGame_givenRegisteredTeamsIds_thenAddNewGameToScoreboard() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        int homeTeamId = scoreboard.getTeamRegistry().register(HOME_TEAM_NAME_LOWER_CASE);
+        int awayTeamId = scoreboard.getTeamRegistry().register(AWAY_TEAM_NAME);
+
+        //when
+        scoreboard.startNewGame(homeTeamId, awayTeamId);
+
+        //then
+        var expected = new HashMap<String, Match>();
+        expected.put(HOME_TEAM_NAME, Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME));
+
+        assertEquals(expected, scoreboard.getScores());
+        assertThrows(MatchAlreadyStartedException.class, () -> scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME));
+    }
+
+    @Test
+    void whenStartNewGame_givenInvalidTeamsIds_thenThrowException() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        int homeTeamId = scoreboard.getTeamRegistry().register(HOME_TEAM_NAME);
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startNewGame(homeTeamId, homeTeamId + 1));
+        assertThrows(NotUniquePairException.class, () -> scoreboard.startNewGame(homeTeamId, homeTeamId));
+    }
+
+    @Test
+    void whenFinishGame_givenTeamsIdsOfNotExistingMatch_thenThrowException() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        TeamRegistry registry = scoreboard.getTeamRegistry();
+
+        //then
+        assertThrows(MatchDoesntExistException.class, () -> {
+            //when
+            scoreboard.finishGame(registry.findId(AWAY_TEAM_NAME), registry.findId(HOME_TEAM_NAME));
+        });
+        assertThrows(MatchDoesntExistException.class, () -> {
+            //when
+            scoreboard.finishGame(registry.findId(HOME_TEAM_NAME), registry.findId(AWAY_TEAM_NAME_2));
+        });
+    }
+
+    @Test
+    void whenFinishGame_givenTeamsIds_thenTeamsCanStartNewGames() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        TeamRegistry registry = scoreboard.getTeamRegistry();
+
+        //when
+        scoreboard.finishGame(registry.findId(HOME_TEAM_NAME), registry.findId(AWAY_TEAM_NAME));
+        scoreboard.startNewGame(AWAY_TEAM_NAME, HOME_TEAM_NAME);
+
+        //then
+        assertEquals(List.of(Match.newTeam(AWAY_TEAM_NAME, HOME_TEAM_NAME)), scoreboard.getSummary());
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    void whenTryStartNewGame_givenRejectedGames_thenReturnReasonAndKeepScoreboard() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+
+        //when
+        OperationStatus applied = scoreboard.tryStartNewGame(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME);
+        OperationStatus again = scoreboard.tryStartNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME_LOWER_CASE);
+        OperationStatus teamPlaying = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME);
+        OperationStatus samePair = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, HOME_TEAM_NAME_2.toLowerCase());
+        OperationStatus emptyName = scoreboard.tryStartNewGame("", AWAY_TEAM_NAME_2);
+
+        //then
+        assertEquals(OperationStatus.APPLIED, applied);
+        assertEquals(OperationStatus.MATCH_ALREADY_STARTED, again);
+        assertEquals(OperationStatus.TEAM_ALREADY_IN_MATCH, teamPlaying);
+        assertEquals(OperationStatus.NOT_UNIQUE_PAIR, samePair);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, emptyName);
+        assertEquals(List.of(Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME)), scoreboard.getSummary());
+    }
+
+    @Test
+    void whenTryUpdateGame_givenRejectedUpdates_thenReturnReasonAndKeepScore() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        OperationStatus applied = scoreboard.tryUpdateGame(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME_LOWER_CASE, 2, 1);
+        OperationStatus swapped = scoreboard.tryUpdateGame(AWAY_TEAM_NAME, HOME_TEAM_NAME, 3, 3);
+        OperationStatus missing = scoreboard.tryUpdateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 3, 3);
+        OperationStatus negative = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, -1);
+        OperationStatus nullName = scoreboard.tryUpdateGame(HOME_TEAM_NAME, null, 3, 3);
+
+        //then
+        assertEquals(OperationStatus.APPLIED, applied);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, swapped);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missing);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, negative);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, nullName);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), scoreboard.getSummary());
+    }
+
+    @Test
+    void whenTryFinishGame_givenExistingAndMissingGames_thenFinishExistingOnly() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        OperationStatus swapped = scoreboard.tryFinishGame(AWAY_TEAM_NAME, HOME_TEAM_NAME);
+        OperationStatus applied = scoreboard.tryFinishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        OperationStatus finished = scoreboard.tryFinishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, swapped);
+        assertEquals(OperationStatus.APPLIED, applied);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, finished);
+        assertEquals(EMPTY_LIST, scoreboard.getSummary());
+        assertEquals(OperationStatus.APPLIED, scoreboard.tryStartNewGame(AWAY_TEAM_NAME, HOME_TEAM_NAME));
+    }
+
+    @Test
+    void whenStartNewGame_givenRejectedGame_thenThrowExceptionWithoutStackTrace() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        TeamAlreadyInMatchException actual = assertThrows(TeamAlreadyInMatchException.class,
+                () -> scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME));
+
+        //then
+        assertEquals(0, actual.getStackTrace().length);
+    }
+
+    @Test
+    void whenGetSummaryPage_givenOffsetAndLimit_thenReturnPageOfSummary() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        for (int i = 0; i < 10; i++) {
+            scoreboard.startNewGame("HOME" + i, "AWAY" + i);
+            scoreboard.updateGame("HOME" + i, "AWAY" + i, i % 3, 0);
+        }
+        List<Match> summary = scoreboard.getSummary();
+
+        //when
+        List<Match> first = scoreboard.getSummary(0, 3);
+        List<Match> middle = scoreboard.getSummary(4, 3);
+        List<Match> last = scoreboard.getSummary(8, 5);
+        List<Match> past = scoreboard.getSummary(10, 5);
+
+        //then
+        assertEquals(summary.subList(0, 3), first);
+        assertEquals(summary.subList(4, 7), middle);
+        assertEquals(summary.subList(8, 10), last);
+        assertEquals(EMPTY_LIST, past);
+        assertEquals(summary, scoreboard.getSummary(0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void whenGetSummaryPage_givenNegativeBounds_thenThrowIllegalArgumentException() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            scoreboard.getSummary(-1, 20);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            scoreboard.getSummary(0, -1);
+        });
+    }
+
+    @Test
+    void whenStreamSummary_givenExistingMatches_thenStreamThemInSummaryOrder() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0);
+
+        //when
+        List<Match> actual = scoreboard.streamSummary().collect(Collectors.toList());
+
+        //then
+        assertEquals(scoreboard.getSummary(), actual);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0)),
+                scoreboard.streamSummary().limit(1).collect(Collectors.toList()));
+    }
+
+    @Test
+    void whenStreamSummary_givenScoreboardChangedDuringStream_thenThrowConcurrentModificationException() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        Iterator<Match> iterator = scoreboard.streamSummary().iterator();
+        iterator.next();
+
+        //when
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0);
+
+        //then
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void whenChangeGames_givenAppliedAndRejectedOperations_thenBumpVersionForAppliedOnly() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        long initial = scoreboard.getVersion();
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.tryStartNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0);
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertEquals(0, initial);
+        assertEquals(3, scoreboard.getVersion());
+    }
+
+    @Test
+    void whenGetRenderedSummary_givenTextFormat_thenRenderOneLinePerMatchInSummaryOrder() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 2, 1);
+
+        //when
+        ByteBuffer actual = scoreboard.getRenderedSummary(SummaryFormat.TEXT);
+
+        //then
+        assertEquals("1. ROHAN 2 - SHIRE 1\n2. GONDOR 0 - MORDOR 0\n", StandardCharsets.UTF_8.decode(actual).toString());
+    }
+
+    @Test
+    void whenGetRenderedSummary_givenReadBuffer_thenNextReadGetsWholeSummaryUntilScoreboardChanges() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        String rendered = StandardCharsets.UTF_8.decode(scoreboard.getRenderedSummary(SummaryFormat.JSON)).toString();
+
+        //when
+        ByteBuffer again = scoreboard.getRenderedSummary(SummaryFormat.JSON);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+        ByteBuffer changed = scoreboard.getRenderedSummary(SummaryFormat.JSON);
+
+        //then
+        assertTrue(again.isReadOnly());
+        assertEquals(rendered, StandardCharsets.UTF_8.decode(again).toString());
+        assertEquals("{\"version\":2,\"matches\":[{\"homeTeam\":\"GONDOR\",\"awayTeam\":\"MORDOR\",\"homeScore\":1,\"awayScore\":0}]}",
+                StandardCharsets.UTF_8.decode(changed).toString());
+    }
+}
@@ -0,0 +1,218 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+import scoreboard.exceptions.MatchAlreadyStartedException;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardedScoreboardTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_LOWER_CASE = "gondor";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+
+    @Test
+    void whenStartNewGame_givenTeamPlayingInDifferentCompetition_thenThrowException() {
+        //given
+        ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+        scoreboard.startNewGame("MIDDLE EARTH CUP", HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(MatchAlreadyStartedException.class, () -> scoreboard.startNewGame(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME));
+        for (int i = 0; i < 16; i++) {
+            String competition = "LEAGUE " + i;
+            assertThrows(TeamAlreadyInMatchException.class, () -> scoreboard.startNewGame(competition, HOME_TEAM_NAME_2, AWAY_TEAM_NAME));
+            assertThrows(TeamAlreadyInMatchException.class, () -> scoreboard.startNewGame(competition, HOME_TEAM_NAME, AWAY_TEAM_NAME_2));
+        }
+        assertEquals(List.of(Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME)), scoreboard.getSummary());
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam(HOME_TEAM_NAME_2));
+    }
+
+    @Test
+    void whenUpdateGame_givenNotExistingMatch_thenThrowException() {
+        //given
+        ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(MatchDoesntExistException.class, () -> scoreboard.updateGame(AWAY_TEAM_NAME, HOME_TEAM_NAME, 1, 0));
+        assertThrows(MatchDoesntExistException.class, () -> scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME_2, 1, 0));
+    }
+
+    @Test
+    void whenFinishGame_givenExistingMatch_thenTeamsCanPlayInAnyShard() {
+        //given
+        ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+        scoreboard.startNewGame("MIDDLE EARTH CUP", HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        scoreboard.finishGame(HOME_TEAM_NAME_LOWER_CASE, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(AWAY_TEAM_NAME, HOME_TEAM_NAME);
+
+        //then
+        assertEquals(List.of(Match.newTeam(AWAY_TEAM_NAME, HOME_TEAM_NAME)), scoreboard.getSummary());
+    }
+
+    @Test
+    void whenGetSummary_givenMatchesInManyShards_thenMergeThemInSummaryOrder() {
+        //given
+        ShardedScoreboard scoreboard = new ShardedScoreboard(3);
+        var expectedList = new ArrayList<Match>();
+        for (int i = 0; i < 30; i++) {
+            scoreboard.startNewGame("LEAGUE " + i % 5, "HOME" + i, "AWAY" + i);
+            scoreboard.updateGame("HOME" + i, "AWAY" + i, i % 4, 0);
+        }
+        for (int total = 3; total >= 0; total--) {
+            for (int i = 0; i < 30; i++) {
+                if (i % 4 == total) {
+                    expectedList.add(new Match("HOME" + i, "AWAY" + i, total, 0));
+                }
+            }
+        }
+
+        //when
+        List<Match> actual = scoreboard.getSummary();
+
+        //then
+        assertEquals(expectedList, actual);
+        assertEquals(expectedList.subList(0, 10), scoreboard.getTopMatches(10));
+    }
+
+    @Test
+    void whenGetSummary_givenUpdateAfterRead_thenReturnedMatchesStayUntouched() {
+        //given
+        ShardedScoreboard scoreboard = new ShardedScoreboard(2);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        List<Match> summary = scoreboard.getSummary();
+
+        //when
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0);
+
+        //then
+        assertEquals(List.of(Match.newTeam(HOME_TEAM_NAME, AWAY_TEAM_NAME)), summary);
+        assertEquals(Optional.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0)), scoreboard.findMatchByTeam(AWAY_TEAM_NAME));
+    }
+
+    @Test
+    void whenStartNewGame_givenThreadsCompetingForTheSameTeams_thenStartEveryTeamOnce() throws Exception {
+        //given
+        ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int thread = 0; thread < 4; thread++) {
+            int offset = thread;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    try {
+                        scoreboard.startNewGame("LEAGUE " + offset, "TEAM" + (i + offset) % 1000, "TEAM" + (i + offset + 1) % 1000);
+                    } catch (TeamAlreadyInMatchException | MatchAlreadyStartedException e) {
+                        // the other thread was faster
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        //then
+        List<Match> summary = scoreboard.getSummary();
+        long teams = summary.stream()
+                .flatMap(match -> List.of(match.getHomeTeam(), match.getAwayTeam()).stream())
+                .distinct()
+                .count();
+
+        assertEquals(2L * summary.size(), teams);
+    }
+
+    @Test
+    void whenGetSummaryPage_givenMatchesInManyShards_thenReturnPageOfMergedSummary() {
+        //given
+        ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+        for (int i = 0; i < 20; i++) {
+            scoreboard.startNewGame("HOME" + i, "AWAY" + i);
+            scoreboard.updateGame("HOME" + i, "AWAY" + i, i % 5, 0);
+        }
+        List<Match> summary = scoreboard.getSummary();
+
+        //when
+        List<Match> actual = scoreboard.getSummary(5, 10);
+
+        //then
+        assertEquals(summary.subList(5, 15), actual);
+        assertEquals(summary.subList(15, 20), scoreboard.getSummary(15, 10));
+    }
+
+    @Test
+    void whenTryOperations_givenRejectedOperations_thenReturnReasonAndKeepScoreboard() {
+        //given
+        ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        OperationStatus started = scoreboard.tryStartNewGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME);
+        OperationStatus teamPlaying = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME);
+        OperationStatus samePair = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, HOME_TEAM_NAME_2.toLowerCase());
+        OperationStatus updated = scoreboard.tryUpdateGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME, 2, 1);
+        OperationStatus swapped = scoreboard.tryUpdateGame(AWAY_TEAM_NAME, HOME_TEAM_NAME, 3, 3);
+        OperationStatus negative = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, -1);
+        OperationStatus nullName = scoreboard.tryUpdateGame(HOME_TEAM_NAME, null, 3, 3);
+        OperationStatus missing = scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        OperationStatus applied = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        OperationStatus finished = scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2.toLowerCase());
+
+        //then
+        assertEquals(OperationStatus.MATCH_ALREADY_STARTED, started);
+        assertEquals(OperationStatus.TEAM_ALREADY_IN_MATCH, teamPlaying);
+        assertEquals(OperationStatus.NOT_UNIQUE_PAIR, samePair);
+        assertEquals(OperationStatus.APPLIED, updated);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, swapped);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, negative);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, nullName);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missing);
+        assertEquals(OperationStatus.APPLIED, applied);
+        assertEquals(OperationStatus.APPLIED, finished);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), scoreboard.getSummary());
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam(AWAY_TEAM_NAME_2));
+    }
+
+    @Test
+    void whenTryUpdateGameInSequence_givenDuplicateStaleAndInvalidUpdates_thenApplyOnlyLaterOnes() {
+        //given
+        ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 3);
+
+        //when
+        OperationStatus duplicate = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 3);
+        OperationStatus stale = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 2);
+        OperationStatus invalid = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 0);
+        OperationStatus missing = scoreboard.tryUpdateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, -1, 0, 4);
+        OperationStatus later = scoreboard.tryUpdateGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME, 2, 1, 4);
+
+        //then
+        assertEquals(OperationStatus.DUPLICATE_UPDATE, duplicate);
+        assertEquals(OperationStatus.STALE_UPDATE, stale);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, invalid);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missing);
+        assertEquals(OperationStatus.APPLIED, later);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), scoreboard.getSummary());
+        assertEquals(4, scoreboard.findMatchByTeam(AWAY_TEAM_NAME).orElseThrow().getUpdateSequence());
+    }
+}
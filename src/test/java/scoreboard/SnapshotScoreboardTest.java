@@ -0,0 +1,191 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+import scoreboard.exceptions.MatchDoesntExistException;
+import scoreboard.exceptions.TeamAlreadyInMatchException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.EMPTY_LIST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotScoreboardTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+
+    @Test
+    void whenGetSnapshot_givenEmptyScoreboard_thenReturnEmptySnapshot() {
+        //given
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard();
+
+        //when
+        var actual = scoreboard.getSnapshot();
+
+        //then
+        assertEquals(0, actual.getVersion());
+        assertEquals(EMPTY_LIST, actual.getMatches());
+    }
+
+    @Test
+    void whenGetSnapshot_givenMutations_thenReturnSortedSummaryWithIncreasedVersion() {
+        //given
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 3, 2);
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 2);
+
+        //when
+        var actual = scoreboard.getSnapshot();
+
+        //then
+        var expectedList = new ArrayList<Match>();
+        expectedList.add(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 3, 2));
+        expectedList.add(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 2));
+
+        assertEquals(4, actual.getVersion());
+        assertEquals(expectedList, actual.getMatches());
+    }
+
+    @Test
+    void whenUpdateGame_givenSnapshotTakenBefore_thenKeepOldSnapshotUntouched() {
+        //given
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        var before = scoreboard.getSnapshot();
+
+        //when
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0);
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        var expectedList = List.of(
+                new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 0),
+                new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 0, 0));
+
+        assertEquals(2, before.getVersion());
+        assertEquals(expectedList, before.getMatches());
+        assertEquals(List.of(new Match(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0)), scoreboard.getSummary());
+    }
+
+    @Test
+    void whenGetSummary_givenAttemptToModify_thenThrowException() {
+        //given
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(UnsupportedOperationException.class, () -> {
+            //when
+            scoreboard.getSummary().clear();
+        });
+    }
+
+    @Test
+    void whenStartNewGame_givenTeamAlreadyInMatch_thenThrowExceptionAndKeepVersion() {
+        //given
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        assertThrows(TeamAlreadyInMatchException.class,
+                () -> scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME));
+
+        //then
+        assertEquals(1, scoreboard.getSnapshot().getVersion());
+    }
+
+    @Test
+    void whenFinishGame_givenNotExistingMatch_thenThrowException() {
+        //given
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //then
+        assertThrows(MatchDoesntExistException.class, () -> {
+            //when
+            scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME_2);
+        });
+    }
+
+    @Test
+    void whenGetRenderedSummary_givenPublishedSnapshots_thenRenderEverySnapshotOnItsOwn() {
+        //given
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        SummarySnapshot before = scoreboard.getSnapshot();
+
+        //when
+        scoreboard.updateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 0, 1);
+        ByteBuffer actual = scoreboard.getRenderedSummary(SummaryFormat.TEXT);
+
+        //then
+        assertEquals("1. GONDOR 0 - MORDOR 1\n", StandardCharsets.UTF_8.decode(actual).toString());
+        assertEquals("1. GONDOR 0 - MORDOR 0\n", StandardCharsets.UTF_8.decode(before.render(SummaryFormat.TEXT)).toString());
+    }
+
+    @Test
+    void whenTryOperations_givenRejectedOperations_thenReturnReasonAndKeepScoreboard() {
+        //given
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        OperationStatus started = scoreboard.tryStartNewGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME);
+        OperationStatus teamPlaying = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME);
+        OperationStatus samePair = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, HOME_TEAM_NAME_2.toLowerCase());
+        OperationStatus updated = scoreboard.tryUpdateGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME, 2, 1);
+        OperationStatus swapped = scoreboard.tryUpdateGame(AWAY_TEAM_NAME, HOME_TEAM_NAME, 3, 3);
+        OperationStatus negative = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 3, -1);
+        OperationStatus nullName = scoreboard.tryUpdateGame(HOME_TEAM_NAME, null, 3, 3);
+        OperationStatus missing = scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        OperationStatus applied = scoreboard.tryStartNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        OperationStatus finished = scoreboard.tryFinishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2.toLowerCase());
+
+        //then
+        assertEquals(OperationStatus.MATCH_ALREADY_STARTED, started);
+        assertEquals(OperationStatus.TEAM_ALREADY_IN_MATCH, teamPlaying);
+        assertEquals(OperationStatus.NOT_UNIQUE_PAIR, samePair);
+        assertEquals(OperationStatus.APPLIED, updated);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, swapped);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, negative);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, nullName);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missing);
+        assertEquals(OperationStatus.APPLIED, applied);
+        assertEquals(OperationStatus.APPLIED, finished);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), scoreboard.getSummary());
+        assertEquals(Optional.empty(), scoreboard.findMatchByTeam(AWAY_TEAM_NAME_2));
+    }
+
+    @Test
+    void whenTryUpdateGameInSequence_givenDuplicateStaleAndInvalidUpdates_thenApplyOnlyLaterOnes() {
+        //given
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard();
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 3);
+
+        //when
+        OperationStatus duplicate = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 0, 3);
+        OperationStatus stale = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 2);
+        OperationStatus invalid = scoreboard.tryUpdateGame(HOME_TEAM_NAME, AWAY_TEAM_NAME, 1, 0, 0);
+        OperationStatus missing = scoreboard.tryUpdateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, -1, 0, 4);
+        OperationStatus later = scoreboard.tryUpdateGame(HOME_TEAM_NAME.toLowerCase(), AWAY_TEAM_NAME, 2, 1, 4);
+
+        //then
+        assertEquals(OperationStatus.DUPLICATE_UPDATE, duplicate);
+        assertEquals(OperationStatus.STALE_UPDATE, stale);
+        assertEquals(OperationStatus.INVALID_ARGUMENT, invalid);
+        assertEquals(OperationStatus.MATCH_DOESNT_EXIST, missing);
+        assertEquals(OperationStatus.APPLIED, later);
+        assertEquals(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, 2, 1)), scoreboard.getSummary());
+        assertEquals(4, scoreboard.findMatchByTeam(AWAY_TEAM_NAME).orElseThrow().getUpdateSequence());
+    }
+}
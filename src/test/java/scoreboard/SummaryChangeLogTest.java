@@ -0,0 +1,161 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SummaryChangeLogTest {
+    private static final String HOME_TEAM_NAME = "GONDOR";
+    private static final String HOME_TEAM_NAME_2 = "ROHAN";
+    private static final String HOME_TEAM_NAME_3 = "ISENGARD";
+    private static final String AWAY_TEAM_NAME = "MORDOR";
+    private static final String AWAY_TEAM_NAME_2 = "SHIRE";
+    private static final String AWAY_TEAM_NAME_3 = "MORIA";
+
+    @Test
+    void whenGetSummaryChangesSince_givenChangedMatches_thenApplyingChangesGivesCurrentSummary() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        SummaryChangeLog changeLog = SummaryChangeLog.attach(scoreboard, 64);
+        for (int i = 0; i < 10; i++) {
+            scoreboard.startNewGame("HOME" + i, "AWAY" + i);
+            scoreboard.updateGame("HOME" + i, "AWAY" + i, i % 4, 0);
+        }
+        long version = scoreboard.getVersion();
+        List<Match> clientSummary = copyOf(scoreboard.getSummary());
+
+        //when
+        scoreboard.updateGame("HOME1", "AWAY1", 5, 2);
+        scoreboard.updateGame("HOME9", "AWAY9", 0, 0);
+        scoreboard.finishGame("HOME3", "AWAY3");
+        scoreboard.startNewGame("HOME10", "AWAY10");
+        scoreboard.updateGame("HOME10", "AWAY10", 3, 0);
+        scoreboard.updateGame("HOME1", "AWAY1", 6, 2);
+        SummaryChanges actual = changeLog.getSummaryChangesSince(version);
+
+        //then
+        assertFalse(actual.isResync());
+        assertEquals(version, actual.getFromVersion());
+        assertEquals(scoreboard.getVersion(), actual.getToVersion());
+        assertEquals(4, actual.getChanges().size());
+        assertEquals(SummaryChanges.Type.REMOVED, actual.getChanges().get(0).getType());
+        assertEquals(new Match("HOME1", "AWAY1", 6, 2), actual.getChanges().get(1).getMatch());
+        assertEquals(0, actual.getChanges().get(1).getRank());
+        assertEquals(scoreboard.getSummary(), apply(clientSummary, actual));
+    }
+
+    @Test
+    void whenGetSummaryChangesSince_givenMatchStartedAndFinishedAfterVersion_thenSkipIt() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        SummaryChangeLog changeLog = SummaryChangeLog.attach(scoreboard, 64);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        long version = scoreboard.getVersion();
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.updateGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2, 1, 0);
+        scoreboard.finishGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.finishGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        SummaryChanges actual = changeLog.getSummaryChangesSince(version);
+
+        //then
+        assertEquals(2, actual.getChanges().size());
+        assertEquals(SummaryChanges.Type.REMOVED, actual.getChanges().get(0).getType());
+        assertEquals(SummaryChanges.Type.INSERTED, actual.getChanges().get(1).getType());
+        assertEquals(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME), actual.getChanges().get(1).getMatch());
+    }
+
+    @Test
+    void whenGetSummaryChangesSince_givenCurrentVersion_thenReturnNoChanges() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        SummaryChangeLog changeLog = SummaryChangeLog.attach(scoreboard, 64);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+
+        //when
+        SummaryChanges actual = changeLog.getSummaryChangesSince(scoreboard.getVersion());
+
+        //then
+        assertFalse(actual.isResync());
+        assertTrue(actual.getChanges().isEmpty());
+    }
+
+    @Test
+    void whenGetSummaryChangesSince_givenVersionOlderThanLog_thenRequireResync() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        SummaryChangeLog changeLog = SummaryChangeLog.attach(scoreboard, 2);
+        scoreboard.startNewGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        long version = scoreboard.getVersion();
+
+        //when
+        scoreboard.startNewGame(HOME_TEAM_NAME_2, AWAY_TEAM_NAME_2);
+        scoreboard.startNewGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3);
+        scoreboard.updateGame(HOME_TEAM_NAME_3, AWAY_TEAM_NAME_3, 1, 1);
+        SummaryChanges actual = changeLog.getSummaryChangesSince(version);
+
+        //then
+        assertTrue(actual.isResync());
+        assertTrue(actual.getChanges().isEmpty());
+        assertEquals(scoreboard.getVersion() - 2, changeLog.getOldestVersion());
+        assertFalse(changeLog.getSummaryChangesSince(changeLog.getOldestVersion()).isResync());
+        assertTrue(changeLog.getSummaryChangesSince(scoreboard.getVersion() + 1).isResync());
+    }
+
+    @Test
+    void whenGetSummaryChangesSince_givenScoreboardLoadedWithoutListeners_thenRequireResync() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+        SummaryChangeLog changeLog = SummaryChangeLog.attach(scoreboard, 64);
+        TeamRegistry registry = scoreboard.getTeamRegistry();
+        int homeId = registry.register(HOME_TEAM_NAME);
+        int awayId = registry.register(AWAY_TEAM_NAME);
+
+        //when
+        scoreboard.load(List.of(new Match(HOME_TEAM_NAME, AWAY_TEAM_NAME, homeId, awayId, 0, 0)));
+
+        //then
+        assertTrue(changeLog.getSummaryChangesSince(0).isResync());
+    }
+
+    @Test
+    void whenAttach_givenCapacityLowerThanOne_thenThrowIllegalArgumentException() {
+        //given
+        Scoreboard scoreboard = new Scoreboard();
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            SummaryChangeLog.attach(scoreboard, 0);
+        });
+    }
+
+    private static List<Match> copyOf(List<Match> summary) {
+        List<Match> copies = new ArrayList<>();
+        for (Match match : summary) {
+            copies.add(match.withScore(match.getHomeTeamScore(), match.getAwayTeamScore()));
+        }
+        return copies;
+    }
+
+    private static List<Match> apply(List<Match> summary, SummaryChanges changes) {
+        List<Match> applied = new ArrayList<>(summary);
+        for (SummaryChanges.Change change : changes.getChanges()) {
+            applied.removeIf(match -> match.getHomeTeam().equals(change.getMatch().getHomeTeam()));
+        }
+        for (SummaryChanges.Change change : changes.getChanges()) {
+            if (change.getType() != SummaryChanges.Type.REMOVED) {
+                applied.add(change.getRank(), change.getMatch());
+            }
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,107 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TeamRegistryTest {
+    private static final String TEAM_NAME = "GONDOR";
+    private static final String TEAM_NAME_LOWER_CASE = "gondor";
+    private static final String TEAM_NAME_2 = "ROHAN";
+
+    @Test
+    void whenRegister_givenNewTeams_thenGiveThemDenseIds() {
+        //given
+        TeamRegistry registry = new TeamRegistry();
+
+        //when
+        int first = registry.register(TEAM_NAME);
+        int second = registry.register(TEAM_NAME_2);
+
+        //then
+        assertEquals(0, first);
+        assertEquals(1, second);
+        assertEquals(2, registry.size());
+        assertEquals(TEAM_NAME_2, registry.getName(second));
+    }
+
+    @Test
+    void whenRegister_givenTheSameTeamInDifferentCase_thenReturnTheSameId() {
+        //given
+        TeamRegistry registry = new TeamRegistry();
+        int id = registry.register(TEAM_NAME_LOWER_CASE);
+
+        //when
+        int actual = registry.register(TEAM_NAME);
+
+        //then
+        assertEquals(id, actual);
+        assertEquals(1, registry.size());
+        assertEquals(TEAM_NAME, registry.getName(id));
+        assertEquals(id, registry.findId("GonDor"));
+    }
+
+    @Test
+    void whenFindId_givenNotRegisteredTeam_thenReturnMinusOne() {
+        //given
+        TeamRegistry registry = new TeamRegistry();
+        registry.register(TEAM_NAME);
+
+        //when
+        int actual = registry.findId(TEAM_NAME_2);
+
+        //then
+        assertEquals(-1, actual);
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void whenFindIdWithoutSpellings_givenOtherSpellings_thenFindTeamWithoutRememberingThem() {
+        //given
+        TeamRegistry registry = new TeamRegistry();
+        int id = registry.register(TEAM_NAME);
+
+        //when
+        int lowerCase = registry.findIdWithoutSpellings(TEAM_NAME_LOWER_CASE);
+        int mixedCase = registry.findIdWithoutSpellings("GonDor");
+        int missing = registry.findIdWithoutSpellings("rohan");
+
+        //then
+        assertEquals(id, lowerCase);
+        assertEquals(id, mixedCase);
+        assertEquals(-1, missing);
+        assertEquals(0, registry.getSpellingCount());
+    }
+
+    @Test
+    void whenRegister_givenInvalidName_thenThrowException() {
+        //given
+        TeamRegistry registry = new TeamRegistry();
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> registry.register(""));
+        assertThrows(IllegalArgumentException.class, () -> registry.findId(null));
+        assertThrows(IllegalArgumentException.class, () -> registry.getName(0));
+    }
+
+    @Test
+    void whenRegister_givenMoreTeamsThanExpected_thenFindAllOfThemInAnyCase() {
+        //given
+        TeamRegistry registry = new TeamRegistry(4);
+
+        //when
+        for (int i = 0; i < 10_000; i++) {
+            registry.register(i % 2 == 0 ? "team" + i : "TEAM" + i);
+        }
+
+        //then
+        assertEquals(10_000, registry.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, registry.findId("TEAM" + i));
+            assertEquals(i, registry.findId("Team" + i));
+            assertEquals("TEAM" + i, registry.getName(i));
+        }
+        assertEquals(-1, registry.findId("TEAM10000"));
+    }
+}
@@ -0,0 +1,48 @@
+package scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WorkloadTraceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void whenRead_givenWrittenTrace_thenReadSameOperations() throws IOException {
+        //given
+        Path path = directory.resolve("trace.txt");
+        List<WorkloadOperation> operations = new MatchDayWorkload().seed(3).matches(20).invalidPercent(20).generate();
+        WorkloadTrace.write(path, operations);
+
+        //when
+        List<WorkloadOperation> actual = WorkloadTrace.read(path);
+
+        //then
+        assertEquals(traceLines(operations), traceLines(actual));
+    }
+
+    @Test
+    void whenRead_givenIncompleteLine_thenThrowIllegalArgumentException() throws IOException {
+        //given
+        Path path = directory.resolve("trace.txt");
+        Files.writeString(path, "60 START HOME1 AWAY1\n\n120 UPDATE HOME1\n");
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> WorkloadTrace.read(path));
+    }
+
+    private static List<String> traceLines(List<WorkloadOperation> operations) {
+        return operations.stream().map(WorkloadOperation::toTraceLine).collect(Collectors.toList());
+    }
+}